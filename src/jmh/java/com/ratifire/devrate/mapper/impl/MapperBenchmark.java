@@ -0,0 +1,84 @@
+package com.ratifire.devrate.mapper.impl;
+
+import com.ratifire.devrate.dto.EducationDto;
+import com.ratifire.devrate.dto.NotificationDto;
+import com.ratifire.devrate.entity.Education;
+import com.ratifire.devrate.entity.Notification;
+import com.ratifire.devrate.enums.NotificationType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the generated MapStruct mappers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapperBenchmark {
+
+  @Param({"1", "50"})
+  private int size;
+
+  private EducationMapper educationMapper;
+  private NotificationMapper notificationMapper;
+  private List<Education> educations;
+  private List<EducationDto> educationDtos;
+  private List<Notification> notifications;
+
+  @Setup
+  public void setUp() {
+    educationMapper = Mappers.getMapper(EducationMapper.class);
+    notificationMapper = Mappers.getMapper(NotificationMapper.class);
+    educations = new ArrayList<>(size);
+    notifications = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      educations.add(Education.builder()
+          .id(i)
+          .type("University")
+          .name("Education " + i)
+          .description("Description of education " + i)
+          .startYear(2010)
+          .endYear(2015)
+          .build());
+      notifications.add(Notification.builder()
+          .id(i)
+          .payload("{\"interviewId\":" + i + "}")
+          .type(NotificationType.INTERVIEW_SCHEDULED)
+          .createdAt(LocalDateTime.of(2026, 10, 18, 10, 15))
+          .build());
+    }
+    educationDtos = educationMapper.toDto(educations);
+  }
+
+  @Benchmark
+  public List<EducationDto> educationToDto() {
+    return educationMapper.toDto(educations);
+  }
+
+  @Benchmark
+  public List<Education> educationToEntity() {
+    return educationMapper.toEntity(educationDtos);
+  }
+
+  @Benchmark
+  public List<NotificationDto> notificationToDto() {
+    return notificationMapper.toDto(notifications);
+  }
+}
@@ -0,0 +1,87 @@
+package com.ratifire.devrate.security.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.ratifire.devrate.security.model.enums.CognitoTypeToken;
+import com.ratifire.devrate.security.token.cache.VerifiedTokenCache;
+import com.ratifire.devrate.security.token.validation.TokenClaimsValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link CognitoTokenValidationService#validateToken} using a locally generated
+ * JWK set instead of the Cognito endpoint.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CognitoTokenValidationBenchmark {
+
+  private static final String KEY_ID = "benchmark-key";
+
+  @Param({"false", "true"})
+  private boolean cacheEnabled;
+
+  private CognitoTokenValidationService service;
+  private String token;
+
+  @Setup
+  public void setUp() throws JOSEException {
+    RSAKey rsaKey = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+    TokenClaimsValidator validator = new TokenClaimsValidator() {
+      @Override
+      public boolean validate(JWTClaimsSet claimsSet) {
+        return "access".equals(claimsSet.getClaim("token_use"));
+      }
+
+      @Override
+      public CognitoTypeToken getTokenType() {
+        return CognitoTypeToken.ACCESS_TOKEN;
+      }
+    };
+    VerifiedTokenCache cache = new VerifiedTokenCache(cacheEnabled, 10_000,
+        new SimpleMeterRegistry());
+    service = new CognitoTokenValidationService(
+        new ImmutableJWKSet<>(new JWKSet(rsaKey.toPublicJWK())), List.of(validator), cache);
+
+    JWTClaimsSet claims = new JWTClaimsSet.Builder()
+        .subject("benchmark-user")
+        .claim("token_use", "access")
+        .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+        .build();
+    SignedJWT signedJwt = new SignedJWT(
+        new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(KEY_ID).build(), claims);
+    signedJwt.sign(new RSASSASigner(rsaKey));
+    token = signedJwt.serialize();
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return service.validateToken(token, CognitoTypeToken.ACCESS_TOKEN);
+  }
+}
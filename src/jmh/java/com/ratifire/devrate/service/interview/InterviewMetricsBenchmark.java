@@ -0,0 +1,79 @@
+package com.ratifire.devrate.service.interview;
+
+import com.ratifire.devrate.entity.interview.InterviewHistory;
+import com.ratifire.devrate.util.JsonConverter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the mark calculations of {@link InterviewMetricsService}: building the payload
+ * of {@code SkillRepository.applyMarks} and the skill average computed from the running mark sum.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InterviewMetricsBenchmark {
+
+  @Param({"5", "20", "40"})
+  private int skillCount;
+
+  private InterviewHistory interviewer;
+  private InterviewHistory candidate;
+  private long counter;
+  private BigDecimal markSum;
+  private BigDecimal newMark;
+
+  @Setup
+  public void setUp() {
+    Map<String, BigDecimal> softSkills = new HashMap<>();
+    Map<String, BigDecimal> hardSkills = new HashMap<>();
+    for (int i = 0; i < skillCount; i++) {
+      BigDecimal mark = BigDecimal.valueOf(i % 10 + 0.25);
+      if (i % 2 == 0) {
+        hardSkills.put("skill-" + i, mark);
+      } else {
+        softSkills.put("skill-" + i, mark);
+      }
+    }
+    interviewer = InterviewHistory.builder().masteryId(1).softSkills(softSkills).build();
+    candidate = InterviewHistory.builder()
+        .masteryId(2)
+        .softSkills(softSkills)
+        .hardSkills(hardSkills)
+        .build();
+    counter = 42;
+    markSum = new BigDecimal("7.35").multiply(BigDecimal.valueOf(counter));
+    newMark = new BigDecimal("8.50");
+  }
+
+  @Benchmark
+  public String buildApplyMarksPayload() {
+    return JsonConverter.serialize(
+        InterviewMetricsService.collectSkillMarks(interviewer, candidate));
+  }
+
+  /**
+   * Same arithmetic as the {@code average_mark} expression of {@code SkillRepository.applyMarks}.
+   */
+  @Benchmark
+  public BigDecimal computeSkillAverageMark() {
+    return markSum.add(newMark).divide(BigDecimal.valueOf(counter + 1), 2, RoundingMode.HALF_UP);
+  }
+}
@@ -0,0 +1,102 @@
+package com.ratifire.devrate.service.interview.matching;
+
+import com.ratifire.devrate.dto.PairedParticipantDto;
+import com.ratifire.devrate.dto.ParticipantRequestDto;
+import com.ratifire.devrate.enums.InterviewRequestRole;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the matches per second of {@link MatchingIndex} with a large number of open
+ * requests. Each invocation adds an interviewer request that is paired with one of the open
+ * candidate requests, and puts the paired candidate request back so the index keeps its size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MatchingIndexBenchmark {
+
+  private static final int SPECIALIZATIONS = 20;
+  private static final int SKILLS = 30;
+  private static final int DAYS = 14;
+  private static final int SLOTS_PER_DAY = 10;
+  private static final int DATES_PER_REQUEST = 3;
+
+  @Param({"100000"})
+  private int openRequests;
+
+  private final Random random = new Random(42);
+  private final Map<Integer, ParticipantRequestDto> candidates = new HashMap<>();
+  private MatchingIndex index;
+  private Instant firstSlot;
+  private int nextId;
+
+  @Setup
+  public void setUp() {
+    index = new MatchingIndex();
+    firstSlot = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.DAYS);
+    for (int i = 0; i < openRequests; i++) {
+      ParticipantRequestDto candidate = request(InterviewRequestRole.CANDIDATE,
+          1 + random.nextInt(5));
+      candidates.put(candidate.getId(), candidate);
+      index.add(candidate);
+    }
+  }
+
+  @Benchmark
+  public List<PairedParticipantDto> match() {
+    List<PairedParticipantDto> pairs = index.add(request(InterviewRequestRole.INTERVIEWER, 5));
+    for (PairedParticipantDto pair : pairs) {
+      index.add(candidates.get(pair.getCandidateParticipantId().intValue()));
+    }
+    return pairs;
+  }
+
+  private ParticipantRequestDto request(InterviewRequestRole role, int level) {
+    int id = ++nextId;
+    Set<Date> dates = new HashSet<>();
+    while (dates.size() < DATES_PER_REQUEST) {
+      long hours = random.nextInt(DAYS) * 24L + 9 + random.nextInt(SLOTS_PER_DAY);
+      dates.add(Date.from(firstSlot.plus(hours, ChronoUnit.HOURS)));
+    }
+    Set<String> hardSkills = new HashSet<>();
+    while (hardSkills.size() < 10) {
+      hardSkills.add("skill-" + random.nextInt(SKILLS));
+    }
+    return ParticipantRequestDto.builder()
+        .id(id)
+        .participantId(id)
+        .desiredInterview(1)
+        .role(role)
+        .specialization("specialization-" + random.nextInt(SPECIALIZATIONS))
+        .masteryLevel(level)
+        .hardSkills(hardSkills)
+        .softSkills(Set.of())
+        .dates(dates)
+        .averageMark(random.nextDouble() * 10)
+        .blackList(Set.of())
+        .build();
+  }
+}
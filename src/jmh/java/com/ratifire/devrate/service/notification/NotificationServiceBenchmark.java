@@ -0,0 +1,89 @@
+package com.ratifire.devrate.service.notification;
+
+import com.ratifire.devrate.entity.User;
+import com.ratifire.devrate.entity.notification.outbox.NotificationOutboxMessage;
+import com.ratifire.devrate.enums.NotificationType;
+import com.ratifire.devrate.service.notification.factory.NotificationChannelFactory;
+import com.ratifire.devrate.service.notification.model.NotificationMetadata;
+import com.ratifire.devrate.service.notification.model.NotificationRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link NotificationService#sendNotification} with stub channels, measuring the
+ * overhead of channel resolution and fan-out.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NotificationServiceBenchmark {
+
+  private NotificationService service;
+  private NotificationRequest request;
+
+  @Setup
+  public void setUp() {
+    List<NotificationChannel> channels = List.of(
+        new StubChannel(NotificationChannelType.WEBSOCKET),
+        new StubChannel(NotificationChannelType.WEB_PUSH),
+        new StubChannel(NotificationChannelType.EMAIL));
+    service = new NotificationService(new NotificationChannelFactory(channels), null, null);
+
+    User user = User.builder().id(1L).firstName("Test").lastName("User").build();
+    request = NotificationRequest.forInAppNotification(user, NotificationType.GREETING, null,
+        NotificationMetadata.defaultMetadata());
+  }
+
+  @Benchmark
+  public NotificationRequest sendNotification() {
+    service.sendNotification(request, NotificationChannelType.WEBSOCKET,
+        NotificationChannelType.WEB_PUSH, NotificationChannelType.EMAIL);
+    return request;
+  }
+
+  private static final class StubChannel implements NotificationChannel {
+
+    private final NotificationChannelType type;
+    private final LongAdder sent = new LongAdder();
+
+    private StubChannel(NotificationChannelType type) {
+      this.type = type;
+    }
+
+    @Override
+    public boolean send(NotificationRequest request) {
+      sent.increment();
+      return true;
+    }
+
+    @Override
+    public Map<Long, String> deliver(List<NotificationOutboxMessage> messages) {
+      return Map.of();
+    }
+
+    @Override
+    public NotificationChannelType getChannelType() {
+      return type;
+    }
+
+    @Override
+    public boolean isAvailable() {
+      return true;
+    }
+  }
+}
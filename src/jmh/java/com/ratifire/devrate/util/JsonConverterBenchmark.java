@@ -0,0 +1,67 @@
+package com.ratifire.devrate.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ratifire.devrate.dto.NotificationDto;
+import com.ratifire.devrate.enums.NotificationType;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link JsonConverter}, compared with the previous implementation that
+ * reconfigured the shared mapper on every call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonConverterBenchmark {
+
+  private static final ObjectMapper legacyMapper = new ObjectMapper();
+
+  private NotificationDto notification;
+
+  @Setup
+  public void setUp() {
+    notification = NotificationDto.builder()
+        .id(42)
+        .payload("{\"interviewId\":7,\"role\":\"CANDIDATE\",\"userFirstName\":\"Test\"}")
+        .type(NotificationType.INTERVIEW_SCHEDULED)
+        .read(false)
+        .createdAt(LocalDateTime.of(2026, 10, 18, 10, 15))
+        .build();
+  }
+
+  @Benchmark
+  public String serialize() {
+    return JsonConverter.serialize(notification);
+  }
+
+  @Benchmark
+  public byte[] serializeToBytes() {
+    return JsonConverter.serializeToBytes(notification);
+  }
+
+  @Benchmark
+  public String legacySerialize() throws JsonProcessingException {
+    legacyMapper.registerModule(new JavaTimeModule());
+    legacyMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+    return legacyMapper.writeValueAsString(notification);
+  }
+}
@@ -0,0 +1,62 @@
+package com.ratifire.devrate.configuration;
+
+import com.ratifire.devrate.service.notification.NotificationChannelType;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the asynchronous notification dispatch pipeline. Worker pool size,
+ * batch size and retry policy are configured separately for every notification channel.
+ */
+@Configuration
+@ConfigurationProperties("notification.dispatch")
+@Getter
+@Setter
+public class NotificationDispatchProperties {
+
+  private Duration leaseTimeout = Duration.ofMinutes(5);
+  private Map<NotificationChannelType, ChannelProperties> channels =
+      new EnumMap<>(NotificationChannelType.class);
+
+  /**
+   * Returns the settings of the given channel, falling back to the defaults when the channel is
+   * not configured explicitly.
+   *
+   * @param channelType the notification channel type
+   * @return the channel settings
+   */
+  public ChannelProperties getChannel(NotificationChannelType channelType) {
+    return channels.computeIfAbsent(channelType, type -> new ChannelProperties());
+  }
+
+  /**
+   * Dispatch settings of a single notification channel.
+   */
+  @Getter
+  @Setter
+  public static class ChannelProperties {
+
+    private int workers = 2;
+    private int batchSize = 20;
+    private int maxAttempts = 5;
+    private Duration initialBackoff = Duration.ofSeconds(10);
+    private double backoffMultiplier = 2.0;
+    private Duration maxBackoff = Duration.ofMinutes(15);
+
+    /**
+     * Calculates the delay before the next delivery attempt.
+     *
+     * @param attempts the number of attempts made so far
+     * @return the delay before the next attempt
+     */
+    public Duration getBackoff(int attempts) {
+      double delay = initialBackoff.toMillis() * Math.pow(backoffMultiplier, attempts - 1);
+      return Duration.ofMillis((long) Math.min(delay, maxBackoff.toMillis()));
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.ratifire.devrate.configuration;
+
+import com.ratifire.devrate.service.cache.ProfileCacheInvalidationInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class for Spring MVC interceptors.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+  private final ProfileCacheInvalidationInterceptor profileCacheInvalidationInterceptor;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(profileCacheInvalidationInterceptor)
+        .addPathPatterns("/users/**", "/specializations/**", "/masteries/**", "/skills/**",
+            "/educations/**", "/achievements/**", "/employment-records/**");
+  }
+}
@@ -0,0 +1,61 @@
+package com.ratifire.devrate.configuration;
+
+import java.security.GeneralSecurityException;
+import java.security.Security;
+import nl.martijndwars.webpush.PushService;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the web push client. The VAPID keys are parsed once into a shared
+ * {@link PushService}, and requests go through a single pooled asynchronous HTTP client, so
+ * connections to the push services are reused across notifications.
+ */
+@Configuration
+public class WebPushConfig {
+
+  static {
+    Security.addProvider(new BouncyCastleProvider());
+  }
+
+  /**
+   * Creates the {@link PushService} used to encrypt and sign web push requests.
+   *
+   * @return the push service initialized with the VAPID key pair
+   */
+  @Bean
+  public PushService pushService(@Value("${VAPID_PUBLIC_KEY}") String publicKey,
+      @Value("${VAPID_PRIVATE_KEY}") String privateKey,
+      @Value("${VAPID_SUBJECT}") String subject) throws GeneralSecurityException {
+    return new PushService(publicKey, privateKey, subject);
+  }
+
+  /**
+   * Creates and starts the pooled asynchronous HTTP client used to deliver web push requests.
+   *
+   * @return the started HTTP client, closed together with the application context
+   */
+  @Bean(destroyMethod = "close")
+  public CloseableHttpAsyncClient webPushHttpClient(
+      @Value("${notification.web-push.http.max-connections:100}") int maxConnections,
+      @Value("${notification.web-push.http.max-connections-per-route:20}") int maxPerRoute,
+      @Value("${notification.web-push.http.timeout-ms:10000}") int timeoutMs) {
+    CloseableHttpAsyncClient httpClient = HttpAsyncClients.custom()
+        .setMaxConnTotal(maxConnections)
+        .setMaxConnPerRoute(maxPerRoute)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectTimeout(timeoutMs)
+            .setConnectionRequestTimeout(timeoutMs)
+            .setSocketTimeout(timeoutMs)
+            .build())
+        .useSystemProperties()
+        .build();
+    httpClient.start();
+    return httpClient;
+  }
+}
@@ -0,0 +1,47 @@
+package com.ratifire.devrate.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the STOMP message broker. The in-memory simple broker is used by
+ * default; the relay mode forwards "/topic" and "/queue" destinations to an external STOMP broker
+ * so that subscribers connected to different application nodes receive the same messages.
+ */
+@Configuration
+@ConfigurationProperties("websocket.broker")
+@Getter
+@Setter
+public class WebSocketBrokerProperties {
+
+  private BrokerType type = BrokerType.SIMPLE;
+  private Relay relay = new Relay();
+
+  /**
+   * Supported message broker types.
+   */
+  public enum BrokerType {
+    SIMPLE, RELAY
+  }
+
+  /**
+   * Connection settings of the external STOMP broker.
+   */
+  @Getter
+  @Setter
+  public static class Relay {
+
+    private String host = "localhost";
+    private int port = 61613;
+    private String clientLogin = "guest";
+    private String clientPasscode = "guest";
+    private String systemLogin = "guest";
+    private String systemPasscode = "guest";
+    private String virtualHost;
+    private Duration systemHeartbeatSendInterval = Duration.ofSeconds(10);
+    private Duration systemHeartbeatReceiveInterval = Duration.ofSeconds(10);
+  }
+}
@@ -1,8 +1,14 @@
 package com.ratifire.devrate.configuration;
 
+import com.ratifire.devrate.configuration.WebSocketBrokerProperties.BrokerType;
+import com.ratifire.devrate.configuration.WebSocketBrokerProperties.Relay;
+import com.ratifire.devrate.service.websocket.StompMetrics;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -12,6 +18,7 @@ import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 /**
  * Configuration class for WebSocket messaging.
  */
+@Slf4j
 @Configuration
 @EnableWebSocket
 @EnableWebSocketMessageBroker
@@ -19,6 +26,11 @@ import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 public class WebSocketConfig extends AbstractWebSocketHandler
         implements WebSocketMessageBrokerConfigurer {
 
+  private static final String[] BROKER_DESTINATIONS = {"/topic", "/queue"};
+
+  private final WebSocketBrokerProperties brokerProperties;
+  private final StompMetrics stompMetrics;
+
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
     registry.addEndpoint("/chat").setAllowedOriginPatterns("*")
@@ -35,8 +47,43 @@ public class WebSocketConfig extends AbstractWebSocketHandler
 
   @Override
   public void configureMessageBroker(MessageBrokerRegistry registry) {
-    registry.enableSimpleBroker("/topic", "/queue");
+    if (brokerProperties.getType() == BrokerType.RELAY) {
+      enableBrokerRelay(registry);
+    } else {
+      registry.enableSimpleBroker(BROKER_DESTINATIONS);
+    }
     registry.setApplicationDestinationPrefixes("/app");
     registry.setUserDestinationPrefix("/user");
+    registry.configureBrokerChannel().interceptors(stompMetrics.brokerInterceptor());
+  }
+
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    registration.interceptors(stompMetrics.clientInboundInterceptor());
+  }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration.interceptors(stompMetrics.clientOutboundInterceptor());
+  }
+
+  private void enableBrokerRelay(MessageBrokerRegistry registry) {
+    Relay relay = brokerProperties.getRelay();
+    log.info("Relaying STOMP destinations to external broker {}:{}",
+        relay.getHost(), relay.getPort());
+    StompBrokerRelayRegistration registration = registry.enableStompBrokerRelay(BROKER_DESTINATIONS)
+        .setRelayHost(relay.getHost())
+        .setRelayPort(relay.getPort())
+        .setClientLogin(relay.getClientLogin())
+        .setClientPasscode(relay.getClientPasscode())
+        .setSystemLogin(relay.getSystemLogin())
+        .setSystemPasscode(relay.getSystemPasscode())
+        .setSystemHeartbeatSendInterval(relay.getSystemHeartbeatSendInterval().toMillis())
+        .setSystemHeartbeatReceiveInterval(relay.getSystemHeartbeatReceiveInterval().toMillis())
+        .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+        .setUserRegistryBroadcast("/topic/simp-user-registry");
+    if (relay.getVirtualHost() != null) {
+      registration.setVirtualHost(relay.getVirtualHost());
+    }
   }
 }
@@ -26,11 +26,14 @@ public class ChatController {
   /**
    * Retrieves the latest message from each conversation for the authenticated user.
    *
+   * @param page the page number (starting from 0)
+   * @param size the number of records per page
    * @return a list of {@link TopicDto} representing the chat topics.
    */
   @GetMapping
-  public List<TopicDto> getUserChatTopics() {
-    return chatService.getUserChatTopics();
+  public List<TopicDto> getUserChatTopics(@RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "50") int size) {
+    return chatService.getUserChatTopics(PageRequest.of(page, size));
   }
 
   /**
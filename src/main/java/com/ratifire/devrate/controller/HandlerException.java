@@ -5,7 +5,9 @@ import com.ratifire.devrate.exception.InterviewJoinTooEarlyException;
 import com.ratifire.devrate.exception.InterviewRequestDoesntExistException;
 import com.ratifire.devrate.exception.InterviewRequestInvalidSkillCountException;
 import com.ratifire.devrate.exception.InvalidInterviewRequestException;
+import com.ratifire.devrate.exception.InvalidPictureException;
 import com.ratifire.devrate.exception.MailException;
+import com.ratifire.devrate.exception.PictureStorageException;
 import com.ratifire.devrate.exception.ResourceAlreadyExistException;
 import com.ratifire.devrate.exception.ResourceNotFoundException;
 import com.ratifire.devrate.exception.SpecializationLinkedToInterviewException;
@@ -270,4 +272,22 @@ public class HandlerException {
       InterviewRequestInvalidSkillCountException ex) {
     log.warn("Operation for the Interview request failed: {}", ex.getMessage());
   }
-}
\ No newline at end of file
+
+  /**
+   * Handles InvalidPictureException by returning an HTTP status 400.
+   */
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  @ExceptionHandler(InvalidPictureException.class)
+  public void handleInvalidPictureException(InvalidPictureException ex) {
+    log.warn("Picture upload rejected: {}", ex.getMessage());
+  }
+
+  /**
+   * Handles {@link PictureStorageException} thrown while accessing the picture storage.
+   */
+  @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+  @ExceptionHandler(PictureStorageException.class)
+  public void handlePictureStorageException(PictureStorageException ex) {
+    log.error("Picture storage operation failed", ex);
+  }
+}
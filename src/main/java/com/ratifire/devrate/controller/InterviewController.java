@@ -95,12 +95,14 @@ public class InterviewController {
   /**
    * Retrieves a status for overall interviews.
    *
-   * @param userTimeZone the user timezone
+   * @param userTimeZone the user timezone, accepted for compatibility; the status is computed in
+   *                     UTC and does not depend on it
    * @return status
    */
   @GetMapping("/status-indicator")
-  public InterviewsOverallStatusDto getInterviewStatusIndicator(@RequestParam String userTimeZone) {
-    return interviewService.getInterviewStatusIndicator(userTimeZone);
+  public InterviewsOverallStatusDto getInterviewStatusIndicator(
+      @RequestParam(required = false) String userTimeZone) {
+    return interviewService.getInterviewStatusIndicator();
   }
 
   /**
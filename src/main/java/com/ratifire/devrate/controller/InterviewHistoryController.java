@@ -1,8 +1,13 @@
 package com.ratifire.devrate.controller;
 
 import com.ratifire.devrate.dto.InterviewHistoryDto;
+import com.ratifire.devrate.dto.InterviewHistoryKeysetPageDto;
 import com.ratifire.devrate.dto.InterviewStatsConductedPassedByDateDto;
+import com.ratifire.devrate.enums.InterviewStatsBucket;
 import com.ratifire.devrate.service.interview.InterviewHistoryService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +42,24 @@ public class InterviewHistoryController {
     return interviewHistoryService.getAllByUserId(page, size);
   }
 
+  /**
+   * Retrieves a page of user`s interview summaries using keyset pagination. The first page is
+   * requested without a position; each next page with the position returned by the previous one.
+   *
+   * @param beforeDateTime the date of the last interview summary of the previous page
+   * @param beforeId       the ID of the last interview summary of the previous page
+   * @param size           the maximum number of interview summaries to return, from 1 to 100
+   * @return the page of user's InterviewSummary information with the position of the next page
+   */
+  @GetMapping("/keyset")
+  public InterviewHistoryKeysetPageDto getAllBefore(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+      ZonedDateTime beforeDateTime,
+      @RequestParam(required = false) Long beforeId,
+      @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+    return interviewHistoryService.getAllByUserIdBefore(beforeDateTime, beforeId, size);
+  }
+
   /**
    * Retrieves an interview history information by ID.
    *
@@ -63,12 +86,16 @@ public class InterviewHistoryController {
    *
    * @param from   the start date of the date range (inclusive)
    * @param to     the end date of the date range (inclusive)
+   * @param bucket the period by which the interviews are grouped (DAY, WEEK, MONTH)
+   * @param zone   the time zone of the user, e.g. Europe/Kyiv
    * @return the list of conducted and passed interviews as a DTO
    */
   @GetMapping("/statistics")
   public List<InterviewStatsConductedPassedByDateDto> getInterviewsConductedPassed(
       @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
-      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to) {
-    return interviewHistoryService.getInterviewsConductedPassed(from, to);
+      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to,
+      @RequestParam(defaultValue = "DAY") InterviewStatsBucket bucket,
+      @RequestParam(defaultValue = "UTC") ZoneId zone) {
+    return interviewHistoryService.getInterviewsConductedPassed(from, to, bucket, zone);
   }
 }
@@ -12,12 +12,24 @@ import com.ratifire.devrate.dto.UserDto;
 import com.ratifire.devrate.dto.UserMainHardSkillsDto;
 import com.ratifire.devrate.dto.UserMainMasterySkillDto;
 import com.ratifire.devrate.dto.UserNameSearchDto;
-import com.ratifire.devrate.dto.UserPictureDto;
+import com.ratifire.devrate.dto.UserProfileDto;
+import com.ratifire.devrate.dto.UserSearchPageDto;
+import com.ratifire.devrate.enums.PictureSize;
+import com.ratifire.devrate.enums.UserProfileSection;
 import com.ratifire.devrate.service.SpecializationService;
 import com.ratifire.devrate.service.UserService;
+import com.ratifire.devrate.service.picture.model.StoredPicture;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -40,6 +52,9 @@ public class UserController {
   private final UserService userService;
   private final SpecializationService specializationService;
 
+  @Value("${picture.cache.max-age:PT1H}")
+  private Duration pictureCacheMaxAge;
+
   /**
    * Retrieves user personal information by user ID.
    *
@@ -51,6 +66,19 @@ public class UserController {
     return userService.getDtoById(id);
   }
 
+  /**
+   * Retrieves the whole public profile of a user in one call.
+   *
+   * @param userId the ID of the user
+   * @param fields the profile sections to include; all sections are included when omitted
+   * @return the aggregated profile of the user
+   */
+  @GetMapping("/{userId}/profile")
+  public UserProfileDto getProfile(@PathVariable long userId,
+      @RequestParam(required = false) Set<UserProfileSection> fields) {
+    return userService.getProfile(userId, fields);
+  }
+
   /**
    * Updates user personal information by user ID.
    *
@@ -147,18 +175,29 @@ public class UserController {
   }
 
   /**
-   * Retrieves the picture associated with a user by their user ID.
+   * Retrieves the picture associated with a user by their user ID. The binary content is streamed
+   * with ETag and Last-Modified headers, so conditional requests are answered with 304.
    *
    * @param userId the ID of the user whose picture is to be retrieved
-   * @return a ResponseEntity containing a UserPictureDto with the user's picture as a
-   *         base64-encoded string if present otherwise, returns no content status
+   * @param size   the requested size variant of the picture
+   * @return a ResponseEntity streaming the user's picture if present otherwise, returns no
+   *         content status
    */
   @GetMapping("/{userId}/pictures")
-  public ResponseEntity<UserPictureDto> getUserPicture(@PathVariable long userId) {
-    UserPictureDto userPicture = userService.getPicture(userId);
-    return userPicture.getUserPicture() != null
-        ? ResponseEntity.ok(userPicture)
-        : ResponseEntity.noContent().build();
+  public ResponseEntity<Resource> getUserPicture(@PathVariable long userId,
+      @RequestParam(defaultValue = "ORIGINAL") PictureSize size) {
+    Optional<StoredPicture> userPicture = userService.getPicture(userId, size);
+    if (userPicture.isEmpty()) {
+      return ResponseEntity.noContent().build();
+    }
+
+    StoredPicture picture = userPicture.get();
+    return ResponseEntity.ok()
+        .contentType(picture.getMediaType())
+        .eTag(picture.getEtag())
+        .lastModified(picture.getLastModified())
+        .cacheControl(CacheControl.maxAge(pictureCacheMaxAge).cachePrivate())
+        .body(picture.getResource());
   }
 
   /**
@@ -172,6 +211,17 @@ public class UserController {
     userService.addPicture(userId, userPicture);
   }
 
+  /**
+   * Adds or updates a picture for a user by their user ID from raw image content.
+   *
+   * @param userId      the ID of the user for whom the picture is to be added or updated
+   * @param userPicture the binary picture content to upload
+   */
+  @PostMapping(value = "/{userId}/pictures", consumes = "image/*")
+  public void addUserPicture(@PathVariable long userId, @RequestBody byte[] userPicture) {
+    userService.addPicture(userId, userPicture);
+  }
+
   /**
    * Removes a user's picture.
    */
@@ -311,6 +361,21 @@ public class UserController {
     return userService.searchUsers(query);
   }
 
+  /**
+   * Searches users by name, main specialization and country, one page at a time.
+   *
+   * @param query  the search query
+   * @param cursor the cursor returned with the previous page, omitted for the first page
+   * @param size   the maximum number of results, from 1 to 100
+   * @return the page of search results with the cursor of the next page
+   */
+  @GetMapping("/search/page")
+  public UserSearchPageDto searchUsersPage(@RequestParam String query,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
+    return userService.searchUsers(query, cursor, size);
+  }
+
   /**
    * Retrieves a list of all notifications for a given user.
    *
@@ -0,0 +1,27 @@
+package com.ratifire.devrate.dto;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object representing a page of interview histories read with keyset pagination.
+ * The next page is requested with the {@code nextDateTime} and {@code nextId} values.
+ */
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewHistoryKeysetPageDto {
+
+  private List<InterviewHistoryDto> content;
+
+  private ZonedDateTime nextDateTime;
+
+  private Long nextId;
+
+  private boolean hasNext;
+}
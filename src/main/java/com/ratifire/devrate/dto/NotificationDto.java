@@ -2,14 +2,18 @@ package com.ratifire.devrate.dto;
 
 import com.ratifire.devrate.enums.NotificationType;
 import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * Data Transfer Object (DTO) representing the notification.
  */
 @Builder
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class NotificationDto {
 
   private long id;
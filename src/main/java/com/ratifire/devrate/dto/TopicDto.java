@@ -22,4 +22,5 @@ public class TopicDto {
   private String opponentPicture;
   private String lastMessage;
   private ZonedDateTime lastMessageDate;
+  private int unreadCount;
 }
@@ -1,5 +1,6 @@
 package com.ratifire.devrate.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -14,6 +15,7 @@ import lombok.Getter;
 public class UserMainHardSkillsDto {
 
   private String specializationName;
+  @JsonProperty("mainSpecialization")
   private boolean isMainSpecialization;
   private int masteryLevel;
   private List<SkillDto> hardSkills;
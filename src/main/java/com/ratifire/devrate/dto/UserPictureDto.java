@@ -1,11 +0,0 @@
-package com.ratifire.devrate.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-
-/** Data Transfer Object (DTO) representing the user picture. */
-@Data
-@AllArgsConstructor
-public class UserPictureDto {
-  private String userPicture;
-}
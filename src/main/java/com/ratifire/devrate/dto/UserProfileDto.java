@@ -0,0 +1,36 @@
+package com.ratifire.devrate.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object representing the whole public profile of a user. Sections that were not
+ * requested are null and omitted from the response.
+ */
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserProfileDto {
+
+  private UserDto user;
+
+  private List<ContactDto> contacts;
+
+  private List<EducationDto> educations;
+
+  private List<EmploymentRecordDto> employmentRecords;
+
+  private List<AchievementDto> achievements;
+
+  private List<LanguageProficiencyDto> languageProficiencies;
+
+  private List<SpecializationDto> specializations;
+
+  private List<UserMainMasterySkillDto> skills;
+}
@@ -0,0 +1,22 @@
+package com.ratifire.devrate.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object representing a page of user search results. The next page is requested
+ * with the {@code nextCursor} value, which is null on the last page.
+ */
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchPageDto {
+
+  private List<UserNameSearchDto> content;
+
+  private String nextCursor;
+}
@@ -0,0 +1,26 @@
+package com.ratifire.devrate.dto.projection;
+
+import com.ratifire.devrate.enums.EventType;
+import com.ratifire.devrate.enums.InterviewRequestRole;
+import java.time.ZonedDateTime;
+
+/**
+ * Projection interface for retrieving a calendar event of a user together with the user's
+ * interview.
+ */
+public interface CalendarEventProjection {
+
+  Long getId();
+
+  EventType getType();
+
+  Long getHostId();
+
+  ZonedDateTime getStartTime();
+
+  String getTitle();
+
+  Long getInterviewId();
+
+  InterviewRequestRole getRole();
+}
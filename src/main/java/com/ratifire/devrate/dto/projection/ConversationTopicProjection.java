@@ -0,0 +1,24 @@
+package com.ratifire.devrate.dto.projection;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Projection interface for retrieving a conversation summary together with the opponent's name.
+ */
+public interface ConversationTopicProjection {
+
+  long getOpponentUserId();
+
+  String getOpponentFirstName();
+
+  String getOpponentLastName();
+
+  String getOpponentPictureKey();
+
+  String getLastMessage();
+
+  ZonedDateTime getLastMessageDate();
+
+  int getUnreadCount();
+
+}
@@ -0,0 +1,39 @@
+package com.ratifire.devrate.dto.projection;
+
+import com.ratifire.devrate.enums.InterviewRequestRole;
+import java.time.ZonedDateTime;
+
+/**
+ * Projection interface for retrieving the list-view columns of an interview history, without its
+ * evaluated skills.
+ */
+public interface InterviewHistoryListProjection {
+
+  Long getId();
+
+  ZonedDateTime getDateTime();
+
+  Long getDuration();
+
+  Long getUserId();
+
+  String getSpecialization();
+
+  Integer getMasteryLevel();
+
+  InterviewRequestRole getRole();
+
+  Long getAttendeeId();
+
+  String getAttendeeFirstName();
+
+  String getAttendeeLastName();
+
+  Integer getAttendeeMasteryLevel();
+
+  String getAttendeeSpecialization();
+
+  String getFeedback();
+
+  String getVideoUrl();
+}
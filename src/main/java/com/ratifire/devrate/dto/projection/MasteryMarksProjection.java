@@ -0,0 +1,15 @@
+package com.ratifire.devrate.dto.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection interface for retrieving the current soft and hard skill marks of a mastery.
+ */
+public interface MasteryMarksProjection {
+
+  Long getId();
+
+  BigDecimal getSoftSkillMark();
+
+  BigDecimal getHardSkillMark();
+}
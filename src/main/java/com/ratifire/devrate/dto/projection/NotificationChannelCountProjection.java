@@ -0,0 +1,12 @@
+package com.ratifire.devrate.dto.projection;
+
+/**
+ * Projection interface for retrieving the number of queued notifications of a channel.
+ */
+public interface NotificationChannelCountProjection {
+
+  String getChannel();
+
+  long getTotal();
+
+}
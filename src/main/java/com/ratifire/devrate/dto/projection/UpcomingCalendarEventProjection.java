@@ -0,0 +1,14 @@
+package com.ratifire.devrate.dto.projection;
+
+/**
+ * Projection interface for retrieving an upcoming calendar event of a user together with the
+ * user's interview and the counterpart of the interview.
+ */
+public interface UpcomingCalendarEventProjection extends CalendarEventProjection {
+
+  Long getCounterpartId();
+
+  String getCounterpartFirstName();
+
+  String getCounterpartLastName();
+}
@@ -0,0 +1,21 @@
+package com.ratifire.devrate.dto.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection interface for retrieving a ranked user search result.
+ */
+public interface UserSearchProjection {
+
+  Long getId();
+
+  String getFirstName();
+
+  String getLastName();
+
+  String getMainSpecializationName();
+
+  String getPictureKey();
+
+  BigDecimal getRank();
+}
@@ -0,0 +1,40 @@
+package com.ratifire.devrate.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing the participation of a user in a calendar event. The start time of
+ * the event is copied to every participation, so the events of a user within a time range are
+ * found by one index range scan.
+ */
+@Entity
+@Table(name = "event_participants")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventParticipant {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "event_id", nullable = false)
+  private long eventId;
+
+  @Column(name = "user_id", nullable = false)
+  private long userId;
+
+  @Column(name = "start_time", nullable = false)
+  private ZonedDateTime startTime;
+}
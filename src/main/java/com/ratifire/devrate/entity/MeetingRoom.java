@@ -0,0 +1,40 @@
+package com.ratifire.devrate.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing the meeting room assigned to a calendar event. The event ID is the
+ * primary key, so an event can never be assigned more than one room.
+ */
+@Entity
+@Table(name = "meeting_rooms")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MeetingRoom {
+
+  @Id
+  @Column(name = "event_id")
+  private long eventId;
+
+  @Column(name = "room_url", nullable = false)
+  private String roomUrl;
+
+  @Column(name = "video_file_name", nullable = false)
+  private String videoFileName;
+
+  @Column(name = "created_at", nullable = false)
+  private ZonedDateTime createdAt;
+
+  @Column(name = "started_at")
+  private ZonedDateTime startedAt;
+}
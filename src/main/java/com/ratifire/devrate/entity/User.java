@@ -61,8 +61,11 @@ public class User {
   @Column(length = 480)
   private String description;
 
-  @Column(columnDefinition = "TEXT")
-  private String picture;
+  @Column(name = "picture_key")
+  private String pictureKey;
+
+  @Column(name = "picture_updated_at")
+  private ZonedDateTime pictureUpdatedAt;
 
   @Column(name = "completed_interviews")
   private int completedInterviews;
@@ -134,14 +137,6 @@ public class User {
   )
   private List<InterviewHistory> interviewHistories;
 
-  @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
-  @JoinTable(
-      name = "user_event",
-      joinColumns = @JoinColumn(name = "user_id"),
-      inverseJoinColumns = @JoinColumn(name = "event_id")
-  )
-  private List<Event> events;
-
   @OneToMany(mappedBy = "user", fetch = FetchType.LAZY, cascade = CascadeType.ALL,
       orphanRemoval = true)
   private List<Feedback> feedbacks;
@@ -0,0 +1,44 @@
+package com.ratifire.devrate.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Entity class representing the denormalized search document of a user. Documents are maintained
+ * by database triggers on the users and specializations tables and are never written by the
+ * application.
+ */
+@Entity
+@Immutable
+@Table(name = "user_search_documents")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSearchDocument {
+
+  @Id
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(name = "first_name")
+  private String firstName;
+
+  @Column(name = "last_name")
+  private String lastName;
+
+  @Column(name = "main_specialization")
+  private String mainSpecialization;
+
+  private String country;
+
+  @Column(name = "search_name", nullable = false)
+  private String searchName;
+}
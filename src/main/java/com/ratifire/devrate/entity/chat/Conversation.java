@@ -0,0 +1,48 @@
+package com.ratifire.devrate.entity.chat;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing the summary of a conversation as seen by one of its participants.
+ * Every pair of users who exchanged messages has two rows, one per participant.
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "conversations")
+public class Conversation {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private long id;
+
+  @Column(name = "user_id", nullable = false)
+  private long userId;
+
+  @Column(name = "opponent_id", nullable = false)
+  private long opponentId;
+
+  @Column(name = "last_message", nullable = false, columnDefinition = "TEXT")
+  private String lastMessage;
+
+  @Column(name = "last_message_sender_id", nullable = false)
+  private long lastMessageSenderId;
+
+  @Column(name = "last_message_at", nullable = false)
+  private ZonedDateTime lastMessageAt;
+
+  @Column(name = "unread_count", nullable = false)
+  private int unreadCount;
+}
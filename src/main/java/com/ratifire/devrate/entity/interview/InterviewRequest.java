@@ -65,6 +65,9 @@ public class InterviewRequest {
 
   private ZonedDateTime expiredAt;
 
+  @Column(name = "expiry_processed_at")
+  private ZonedDateTime expiryProcessedAt;
+
   @Column(name = "comment", length = 1000)
   private String comment;
 
@@ -37,6 +37,9 @@ public class InterviewRequestTimeSlot {
   @JoinColumn(name = "interview_request_id", nullable = false)
   private InterviewRequest interviewRequest;
 
+  @Column(name = "user_id", insertable = false, updatable = false)
+  private Long userId;
+
   @Column(name = "date_time", nullable = false)
   private ZonedDateTime dateTime;
 
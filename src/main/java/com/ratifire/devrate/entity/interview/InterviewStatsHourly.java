@@ -0,0 +1,46 @@
+package com.ratifire.devrate.entity.interview;
+
+import com.ratifire.devrate.enums.InterviewRequestRole;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing the number of interviews a user took part in with a given role
+ * during one UTC hour.
+ */
+@Entity
+@Table(name = "interview_stats_hourly")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InterviewStatsHourly {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "user_id", nullable = false)
+  private long userId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private InterviewRequestRole role;
+
+  @Column(name = "bucket_start", nullable = false)
+  private ZonedDateTime bucketStart;
+
+  @Column(nullable = false)
+  private int interviews;
+}
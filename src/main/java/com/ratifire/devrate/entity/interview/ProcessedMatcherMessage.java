@@ -0,0 +1,30 @@
+package com.ratifire.devrate.entity.interview;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing a matcher-service message that has already been processed.
+ */
+@Entity
+@Table(name = "processed_matcher_messages")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProcessedMatcherMessage {
+
+  @Id
+  @Column(name = "idempotency_key", nullable = false, length = 100)
+  private String idempotencyKey;
+
+  @Column(name = "processed_at", nullable = false)
+  private ZonedDateTime processedAt;
+}
@@ -0,0 +1,69 @@
+package com.ratifire.devrate.entity.notification.outbox;
+
+import com.ratifire.devrate.enums.NotificationOutboxStatus;
+import com.ratifire.devrate.service.notification.NotificationChannelType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing a notification waiting in the outbox to be delivered through a
+ * channel. The body holds the fully prepared channel content, so delivery does not depend on the
+ * state of the entities the notification was created from.
+ */
+@Entity
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_outbox")
+public class NotificationOutboxMessage {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private NotificationChannelType channel;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private NotificationOutboxStatus status;
+
+  @Column(name = "recipient_id")
+  private Long recipientId;
+
+  @Column(name = "recipient_address")
+  private String recipientAddress;
+
+  private String subject;
+
+  @Column(columnDefinition = "TEXT", nullable = false)
+  private String body;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private ZonedDateTime nextAttemptAt;
+
+  @Column(name = "locked_until")
+  private ZonedDateTime lockedUntil;
+
+  @Column(name = "last_error", length = 1000)
+  private String lastError;
+
+  @Column(name = "created_at", nullable = false)
+  private ZonedDateTime createdAt;
+}
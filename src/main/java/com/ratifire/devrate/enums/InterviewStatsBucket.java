@@ -0,0 +1,10 @@
+package com.ratifire.devrate.enums;
+
+/**
+ * Enum representing the period by which interview statistics are grouped.
+ */
+public enum InterviewStatsBucket {
+  DAY,
+  WEEK,
+  MONTH
+}
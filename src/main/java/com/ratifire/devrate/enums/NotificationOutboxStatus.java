@@ -0,0 +1,9 @@
+package com.ratifire.devrate.enums;
+
+/**
+ * Enum representing the delivery state of a queued notification.
+ */
+public enum NotificationOutboxStatus {
+  PENDING,
+  PROCESSING
+}
@@ -0,0 +1,25 @@
+package com.ratifire.devrate.enums;
+
+import lombok.Getter;
+
+/**
+ * Enum representing the size variants a user picture can be served in.
+ */
+@Getter
+public enum PictureSize {
+  SMALL(64),
+  MEDIUM(256),
+  LARGE(512),
+  ORIGINAL(0);
+
+  private final int width;
+
+  /**
+   * PictureSize.
+   *
+   * @param width the maximum width and height of the variant in pixels, 0 for the original
+   */
+  PictureSize(int width) {
+    this.width = width;
+  }
+}
@@ -0,0 +1,16 @@
+package com.ratifire.devrate.enums;
+
+/**
+ * Enum representing the sections of a public user profile that are cached separately.
+ */
+public enum ProfileCacheSection {
+  USER,
+  PUBLIC_SKILLS,
+  MAIN_HARD_SKILLS,
+  CONTACTS,
+  SPECIALIZATIONS,
+  EMPLOYMENT_RECORDS,
+  EDUCATIONS,
+  ACHIEVEMENTS,
+  LANGUAGE_PROFICIENCIES
+}
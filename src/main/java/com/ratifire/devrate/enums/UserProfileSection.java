@@ -0,0 +1,15 @@
+package com.ratifire.devrate.enums;
+
+/**
+ * Enum representing the sections that can be requested in the aggregated user profile.
+ */
+public enum UserProfileSection {
+  USER,
+  CONTACTS,
+  EDUCATIONS,
+  EMPLOYMENT_RECORDS,
+  ACHIEVEMENTS,
+  LANGUAGE_PROFICIENCIES,
+  SPECIALIZATIONS,
+  SKILLS
+}
@@ -0,0 +1,11 @@
+package com.ratifire.devrate.exception;
+
+/**
+ * Exception thrown when uploaded picture data can't be decoded as a supported image.
+ */
+public class InvalidPictureException extends RuntimeException {
+
+  public InvalidPictureException(String message) {
+    super(message);
+  }
+}
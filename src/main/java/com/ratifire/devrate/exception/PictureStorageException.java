@@ -0,0 +1,11 @@
+package com.ratifire.devrate.exception;
+
+/**
+ * Exception thrown when a picture can't be written to, read from or removed from the storage.
+ */
+public class PictureStorageException extends RuntimeException {
+
+  public PictureStorageException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -1,6 +1,7 @@
 package com.ratifire.devrate.mapper.impl;
 
 import com.ratifire.devrate.dto.InterviewHistoryDto;
+import com.ratifire.devrate.dto.projection.InterviewHistoryListProjection;
 import com.ratifire.devrate.entity.interview.InterviewHistory;
 import com.ratifire.devrate.mapper.DataMapper;
 import org.mapstruct.Mapper;
@@ -22,4 +23,10 @@ public abstract class InterviewHistoryMapper implements
   public abstract InterviewHistoryDto toDto(InterviewHistory interviewHistory,
       int candidateMasteryLevel);
 
+  @Mapping(source = "candidateMasteryLevel", target = "masteryLevel")
+  @Mapping(target = "softSkills", ignore = true)
+  @Mapping(target = "hardSkills", ignore = true)
+  public abstract InterviewHistoryDto toListDto(InterviewHistoryListProjection interviewHistory,
+      int candidateMasteryLevel);
+
 }
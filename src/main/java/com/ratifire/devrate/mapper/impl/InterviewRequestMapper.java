@@ -22,6 +22,7 @@ public abstract class InterviewRequestMapper implements
       qualifiedByName = {"MasteryService", "getMasteryById"})
   @Mapping(target = "user", ignore = true)
   @Mapping(target = "timeSlots", ignore = true)
+  @Mapping(target = "expiryProcessedAt", ignore = true)
   @Mapping(target = "consentStatus", source = "dto.consentStatus",
       qualifiedByName = "toConsentStatusEnum")
   public abstract InterviewRequest toEntity(InterviewRequestDto dto);
@@ -42,6 +43,7 @@ public abstract class InterviewRequestMapper implements
       qualifiedByName = {"MasteryService", "getMasteryById"})
   @Mapping(target = "user", ignore = true)
   @Mapping(target = "timeSlots", ignore = true)
+  @Mapping(target = "expiryProcessedAt", ignore = true)
   @Mapping(target = "consentStatus", ignore = true)
   public abstract InterviewRequest updateEntity(InterviewRequestDto dto,
       @MappingTarget InterviewRequest entity);
@@ -19,7 +19,8 @@ public abstract class UserMapper implements DataMapper<UserDto, User> {
   @Mapping(target = "notifications", ignore = true)
   @Mapping(target = "employmentRecords", ignore = true)
   @Mapping(target = "languageProficiencies", ignore = true)
-  @Mapping(target = "picture", ignore = true)
+  @Mapping(target = "pictureKey", ignore = true)
+  @Mapping(target = "pictureUpdatedAt", ignore = true)
   @Mapping(target = "bookmarks", ignore = true)
   @Mapping(target = "specializations", ignore = true)
   @Mapping(target = "interviewRequests", ignore = true)
@@ -34,7 +35,8 @@ public abstract class UserMapper implements DataMapper<UserDto, User> {
   @Mapping(target = "notifications", ignore = true)
   @Mapping(target = "employmentRecords", ignore = true)
   @Mapping(target = "languageProficiencies", ignore = true)
-  @Mapping(target = "picture", ignore = true)
+  @Mapping(target = "pictureKey", ignore = true)
+  @Mapping(target = "pictureUpdatedAt", ignore = true)
   @Mapping(target = "bookmarks", ignore = true)
   @Mapping(target = "specializations", ignore = true)
   @Mapping(target = "interviewRequests", ignore = true)
@@ -0,0 +1,32 @@
+package com.ratifire.devrate.repository;
+
+import com.ratifire.devrate.entity.EventParticipant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for accessing EventParticipant entities.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface EventParticipantRepository extends JpaRepository<EventParticipant, Long> {
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO event_participants (event_id, user_id, start_time)
+      SELECT :eventId, u.id, :startTime FROM users u
+      WHERE u.id IN (:userIds)
+      ON CONFLICT (event_id, user_id) DO NOTHING""", nativeQuery = true)
+  int insertAll(@Param("eventId") long eventId, @Param("startTime") ZonedDateTime startTime,
+      @Param("userIds") List<Long> userIds);
+
+  @Modifying
+  @Query("DELETE FROM EventParticipant p WHERE p.eventId = :eventId")
+  int deleteAllByEventId(@Param("eventId") long eventId);
+}
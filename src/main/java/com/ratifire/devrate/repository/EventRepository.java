@@ -1,7 +1,16 @@
 package com.ratifire.devrate.repository;
 
+import com.ratifire.devrate.dto.projection.CalendarEventProjection;
+import com.ratifire.devrate.dto.projection.UpcomingCalendarEventProjection;
 import com.ratifire.devrate.entity.Event;
+import com.ratifire.devrate.enums.EventType;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
 
@@ -12,4 +21,40 @@ import org.springframework.stereotype.Repository;
 @RepositoryRestResource(exported = false)
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-}
\ No newline at end of file
+  @Query("""
+      SELECT e.id AS id, e.type AS type, e.hostId AS hostId, e.startTime AS startTime,
+        e.title AS title, i.id AS interviewId, i.role AS role
+      FROM EventParticipant p
+      JOIN Event e ON e.id = p.eventId
+      JOIN Interview i ON i.eventId = p.eventId AND i.userId = p.userId
+      WHERE p.userId = :userId AND p.startTime >= :from AND p.startTime < :to
+      ORDER BY p.startTime, p.eventId""")
+  List<CalendarEventProjection> findCalendarEventsBetween(@Param("userId") long userId,
+      @Param("from") ZonedDateTime from, @Param("to") ZonedDateTime to, Pageable pageable);
+
+  @Query("""
+      SELECT e.id AS id, e.type AS type, e.hostId AS hostId, e.startTime AS startTime,
+        e.title AS title, i.id AS interviewId, i.role AS role, u.id AS counterpartId,
+        u.firstName AS counterpartFirstName, u.lastName AS counterpartLastName
+      FROM EventParticipant p
+      JOIN Event e ON e.id = p.eventId
+      JOIN Interview i ON i.eventId = p.eventId AND i.userId = p.userId
+      JOIN Interview c ON c.eventId = p.eventId AND c.userId <> p.userId
+      JOIN User u ON u.id = c.userId
+      WHERE p.userId = :userId AND p.startTime >= :from
+      ORDER BY p.startTime, p.eventId""")
+  List<UpcomingCalendarEventProjection> findUpcomingCalendarEvents(@Param("userId") long userId,
+      @Param("from") ZonedDateTime from, Pageable pageable);
+
+  @Query("""
+      SELECT e FROM Event e
+      WHERE e.type = :type AND e.startTime >= :from AND e.startTime < :to
+        AND NOT EXISTS (SELECT r FROM MeetingRoom r WHERE r.eventId = e.id)
+      ORDER BY e.startTime, e.id""")
+  List<Event> findWithoutMeetingRoom(@Param("type") EventType type,
+      @Param("from") ZonedDateTime from, @Param("to") ZonedDateTime to, Pageable pageable);
+
+  @Modifying
+  @Query("DELETE FROM Event e WHERE e.id = :id")
+  int deleteEventById(@Param("id") long id);
+}
@@ -1,5 +1,6 @@
 package com.ratifire.devrate.repository;
 
+import com.ratifire.devrate.dto.projection.MasteryMarksProjection;
 import com.ratifire.devrate.entity.Mastery;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,4 +25,8 @@ public interface MasteryRepository extends JpaRepository<Mastery, Long> {
       + "WHERE s.id = :skillId", nativeQuery = true)
   Mastery findMasteryBySkillId(@Param("skillId") long skillId);
 
+  @Query("SELECT m.id AS id, m.softSkillMark AS softSkillMark, m.hardSkillMark AS hardSkillMark "
+      + "FROM Mastery m WHERE m.id IN (:ids)")
+  List<MasteryMarksProjection> findMarksByIdIn(@Param("ids") List<Long> ids);
+
 }
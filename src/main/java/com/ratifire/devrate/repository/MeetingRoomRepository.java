@@ -0,0 +1,31 @@
+package com.ratifire.devrate.repository;
+
+import com.ratifire.devrate.entity.MeetingRoom;
+import java.time.ZonedDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for accessing MeetingRoom entities.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface MeetingRoomRepository extends JpaRepository<MeetingRoom, Long> {
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO meeting_rooms (event_id, room_url, video_file_name, created_at)
+      VALUES (:eventId, :roomUrl, :videoFileName, :createdAt)
+      ON CONFLICT (event_id) DO NOTHING""", nativeQuery = true)
+  int insertIfAbsent(@Param("eventId") long eventId, @Param("roomUrl") String roomUrl,
+      @Param("videoFileName") String videoFileName, @Param("createdAt") ZonedDateTime createdAt);
+
+  @Modifying
+  @Query("UPDATE MeetingRoom r SET r.startedAt = :startedAt "
+      + "WHERE r.eventId = :eventId AND r.startedAt IS NULL")
+  int markStarted(@Param("eventId") long eventId, @Param("startedAt") ZonedDateTime startedAt);
+}
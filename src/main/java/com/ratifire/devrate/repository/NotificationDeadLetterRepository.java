@@ -0,0 +1,15 @@
+package com.ratifire.devrate.repository;
+
+import com.ratifire.devrate.entity.notification.outbox.NotificationDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for performing CRUD operations on undeliverable notifications.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface NotificationDeadLetterRepository
+    extends JpaRepository<NotificationDeadLetter, Long> {
+}
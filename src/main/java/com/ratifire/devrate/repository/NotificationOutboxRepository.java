@@ -0,0 +1,36 @@
+package com.ratifire.devrate.repository;
+
+import com.ratifire.devrate.dto.projection.NotificationChannelCountProjection;
+import com.ratifire.devrate.entity.notification.outbox.NotificationOutboxMessage;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for performing CRUD operations on the notification outbox.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface NotificationOutboxRepository
+    extends JpaRepository<NotificationOutboxMessage, Long> {
+
+  /**
+   * Locks the next batch of messages of the channel that are due for delivery. Messages whose
+   * processing lease expired are picked up again, rows locked by other instances are skipped.
+   */
+  @Query(value = "SELECT * FROM notification_outbox "
+      + "WHERE channel = :channel "
+      + "AND ((status = 'PENDING' AND next_attempt_at <= :now) "
+      + "OR (status = 'PROCESSING' AND locked_until < :now)) "
+      + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<NotificationOutboxMessage> findDueForUpdate(@Param("channel") String channel,
+      @Param("now") ZonedDateTime now, @Param("limit") int limit);
+
+  @Query(value = "SELECT channel AS channel, COUNT(*) AS total FROM notification_outbox "
+      + "GROUP BY channel", nativeQuery = true)
+  List<NotificationChannelCountProjection> countByChannel();
+}
@@ -1,8 +1,8 @@
 package com.ratifire.devrate.repository;
 
 import com.ratifire.devrate.entity.Skill;
-import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
@@ -15,11 +15,25 @@ import org.springframework.stereotype.Repository;
 @RepositoryRestResource(exported = false)
 public interface SkillRepository extends JpaRepository<Skill, Long> {
 
+  /**
+   * Adds new marks to the running sums of the given skills and recomputes their average marks,
+   * counters and growth flags in a single statement. The mastery sums and marks are kept in step
+   * by the {@code skills_mark_aggregates_*} triggers.
+   *
+   * @param marks JSON array of objects with the {@code masteryId}, {@code name} and {@code mark}
+   *              of every evaluated skill
+   * @return the number of updated skills
+   */
+  @Modifying(flushAutomatically = true)
   @Query(value = """
-      SELECT * FROM skills\s
-      WHERE mastery_id = :masteryId\s
-      AND name IN (:names)""", nativeQuery = true)
-  List<Skill> findByMasteryIdAndNameIn(@Param("masteryId") long masteryId,
-      @Param("names") List<String> names);
-
+      UPDATE skills s SET
+        mark_sum = s.mark_sum + v.mark,
+        counter = s.counter + 1,
+        average_mark = ROUND((s.mark_sum + v.mark) / (s.counter + 1), 2),
+        is_grows = ROUND((s.mark_sum + v.mark) / (s.counter + 1), 2)
+          >= COALESCE(s.average_mark, 0)
+      FROM jsonb_to_recordset(CAST(:marks AS jsonb))
+        AS v("masteryId" BIGINT, name TEXT, mark NUMERIC)
+      WHERE s.mastery_id = v."masteryId" AND s.name = v.name""", nativeQuery = true)
+  int applyMarks(@Param("marks") String marks);
 }
@@ -1,12 +1,9 @@
 package com.ratifire.devrate.repository;
 
-import com.ratifire.devrate.dto.UserNameSearchDto;
 import com.ratifire.devrate.dto.projection.UserNameProjection;
-import com.ratifire.devrate.entity.Event;
 import com.ratifire.devrate.entity.User;
 import com.ratifire.devrate.entity.interview.InterviewHistory;
 import java.util.List;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -34,23 +31,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
   @Query("SELECT u.email FROM User u WHERE u.id = :id")
   String findEmailByUserId(@Param("id") long id);
 
-  @Query("SELECT u.picture FROM User u WHERE u.id = :id")
-  String findPictureByUserId(@Param("id") long id);
-
-  List<User> findAllByEventsContaining(Event event);
-
-  @Query("SELECT new com.ratifire.devrate.dto.UserNameSearchDto(u.id, u.firstName, u.lastName, "
-      + "(SELECT s.name FROM Specialization s WHERE s.user = u AND s.main = true), u.picture) "
-      + "FROM User u "
-      + "WHERE "
-      + "(LOWER(u.firstName) LIKE LOWER(CONCAT('%', :firstParam, '%')) "
-      + "AND LOWER(u.lastName) LIKE LOWER(CONCAT('%', :secondParam, '%'))) "
-      + "OR (LOWER(u.lastName) LIKE LOWER(CONCAT('%', :firstParam, '%')) "
-      + "AND LOWER(u.firstName) LIKE LOWER(CONCAT('%', :secondParam, '%'))) "
-      + "OR LOWER(u.firstName) LIKE LOWER(CONCAT('%', :query, '%')) "
-      + "OR LOWER(u.lastName) LIKE LOWER(CONCAT('%', :query, '%'))")
-  List<UserNameSearchDto> findUsersByName(@Param("firstParam") String firstParam,
-      @Param("secondParam") String secondParam, @Param("query") String query, Pageable pageable);
+  @Query("SELECT u.pictureKey FROM User u WHERE u.id = :id")
+  String findPictureKeyByUserId(@Param("id") long id);
 
   List<User> findAllByInterviewHistoriesContaining(InterviewHistory interviewHistory);
 }
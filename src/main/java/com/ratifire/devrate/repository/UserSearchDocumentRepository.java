@@ -0,0 +1,52 @@
+package com.ratifire.devrate.repository;
+
+import com.ratifire.devrate.dto.projection.UserSearchProjection;
+import com.ratifire.devrate.entity.UserSearchDocument;
+import java.math.BigDecimal;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for searching {@link UserSearchDocument} entities.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface UserSearchDocumentRepository extends JpaRepository<UserSearchDocument, Long> {
+
+  /**
+   * Finds users whose search document matches the query, ranked by relevance. Documents match when
+   * all query words are prefixes of words of the name, main specialization or country, or when the
+   * query is similar enough to the name to tolerate typos. Names starting with the query rank
+   * first. Results are ordered by rank and user id, and start after the given position.
+   *
+   * @param query       the normalized lower-case query
+   * @param prefixQuery the query as a prefix {@code tsquery}, e.g. {@code ivan:* & pet:*}
+   * @param afterRank   the rank of the last result of the previous page
+   * @param afterId     the user id of the last result of the previous page
+   * @param limit       the maximum number of results
+   * @return the ranked search results
+   */
+  @Query(value = """
+      SELECT r.* FROM (
+        SELECT d.user_id AS "id", d.first_name AS "firstName", d.last_name AS "lastName",
+          d.main_specialization AS "mainSpecializationName", u.picture_key AS "pictureKey",
+          ROUND(CAST(
+            CASE WHEN d.search_name LIKE CAST(:query AS TEXT) || '%' THEN 1 ELSE 0 END
+            + ts_rank(d.search_vector, to_tsquery('simple', :prefixQuery))
+            + word_similarity(:query, d.search_name) AS NUMERIC), 6) AS "rank"
+        FROM user_search_documents d
+        JOIN users u ON u.id = d.user_id
+        WHERE d.search_vector @@ to_tsquery('simple', :prefixQuery)
+          OR :query <% d.search_name
+      ) r
+      WHERE r."rank" < :afterRank OR (r."rank" = :afterRank AND r."id" > :afterId)
+      ORDER BY r."rank" DESC, r."id"
+      LIMIT :limit""", nativeQuery = true)
+  List<UserSearchProjection> search(@Param("query") String query,
+      @Param("prefixQuery") String prefixQuery, @Param("afterRank") BigDecimal afterRank,
+      @Param("afterId") long afterId, @Param("limit") int limit);
+}
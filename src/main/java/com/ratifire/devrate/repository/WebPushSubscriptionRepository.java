@@ -1,10 +1,15 @@
 package com.ratifire.devrate.repository;
 
 import com.ratifire.devrate.entity.notification.webpush.WebPushSubscription;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for performing CRUD operations on web push subscription entity.
@@ -16,5 +21,12 @@ public interface WebPushSubscriptionRepository extends JpaRepository<WebPushSubs
 
   void deleteByEndpoint(String endpoint);
 
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM web_push_subscriptions s WHERE s.endpoint IN :endpoints")
+  void deleteAllByEndpointIn(@Param("endpoints") Collection<String> endpoints);
+
   List<WebPushSubscription> findAllByUserId(Long userId);
+
+  List<WebPushSubscription> findAllByUserIdIn(Collection<Long> userIds);
 }
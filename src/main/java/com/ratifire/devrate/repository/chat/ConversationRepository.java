@@ -0,0 +1,35 @@
+package com.ratifire.devrate.repository.chat;
+
+import com.ratifire.devrate.dto.projection.ConversationTopicProjection;
+import com.ratifire.devrate.entity.chat.Conversation;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for accessing {@link Conversation} entities.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface ConversationRepository extends JpaRepository<Conversation, Long> {
+
+  @Query("SELECT c.opponentId AS opponentUserId, u.firstName AS opponentFirstName, "
+      + "u.lastName AS opponentLastName, u.pictureKey AS opponentPictureKey, "
+      + "c.lastMessage AS lastMessage, c.lastMessageAt AS lastMessageDate, "
+      + "c.unreadCount AS unreadCount "
+      + "FROM Conversation c JOIN User u ON u.id = c.opponentId "
+      + "WHERE c.userId = :userId "
+      + "ORDER BY c.lastMessageAt DESC")
+  List<ConversationTopicProjection> findTopicsByUserId(@Param("userId") long userId,
+      Pageable pageable);
+
+  @Modifying
+  @Query("UPDATE Conversation c SET c.unreadCount = 0 "
+      + "WHERE c.userId = :userId AND c.opponentId = :opponentId AND c.unreadCount > 0")
+  void resetUnreadCount(@Param("userId") long userId, @Param("opponentId") long opponentId);
+}
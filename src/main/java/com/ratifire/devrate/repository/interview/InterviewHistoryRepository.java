@@ -1,5 +1,6 @@
 package com.ratifire.devrate.repository.interview;
 
+import com.ratifire.devrate.dto.projection.InterviewHistoryListProjection;
 import com.ratifire.devrate.entity.interview.InterviewHistory;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -7,6 +8,8 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
 
@@ -17,12 +20,31 @@ import org.springframework.stereotype.Repository;
 @RepositoryRestResource(exported = false)
 public interface InterviewHistoryRepository extends JpaRepository<InterviewHistory, Long> {
 
+  String LIST_VIEW_SELECT = """
+      SELECT h.id AS id, h.dateTime AS dateTime, h.duration AS duration, h.userId AS userId,
+        h.specialization AS specialization, h.masteryLevel AS masteryLevel, h.role AS role,
+        h.attendeeId AS attendeeId, h.attendeeFirstName AS attendeeFirstName,
+        h.attendeeLastName AS attendeeLastName, h.attendeeMasteryLevel AS attendeeMasteryLevel,
+        h.attendeeSpecialization AS attendeeSpecialization, h.feedback AS feedback,
+        h.videoUrl AS videoUrl
+      FROM InterviewHistory h
+      """;
+
   Optional<InterviewHistory> findByIdAndUserIdAndIsVisibleTrue(Long id, Long userId);
 
-  Page<InterviewHistory> findAllByUserIdAndIsVisibleTrue(long userId, Pageable pageable);
+  @Query(value = LIST_VIEW_SELECT
+      + "WHERE h.userId = :userId AND h.isVisible = true ORDER BY h.dateTime DESC, h.id DESC",
+      countQuery = "SELECT COUNT(h) FROM InterviewHistory h "
+          + "WHERE h.userId = :userId AND h.isVisible = true")
+  Page<InterviewHistoryListProjection> findListViewByUserId(@Param("userId") long userId,
+      Pageable pageable);
 
-  Optional<InterviewHistory> findByInterviewIdAndUserId(long interviewId, long userId);
+  @Query(LIST_VIEW_SELECT
+      + "WHERE h.userId = :userId AND h.isVisible = true "
+      + "AND (h.dateTime < :dateTime OR (h.dateTime = :dateTime AND h.id < :id)) "
+      + "ORDER BY h.dateTime DESC, h.id DESC")
+  List<InterviewHistoryListProjection> findListViewByUserIdBefore(@Param("userId") long userId,
+      @Param("dateTime") ZonedDateTime dateTime, @Param("id") long id, Pageable pageable);
 
-  List<InterviewHistory> findByUserIdAndDateTimeBetween(long userId, ZonedDateTime from,
-      ZonedDateTime to);
+  Optional<InterviewHistory> findByInterviewIdAndUserId(long interviewId, long userId);
 }
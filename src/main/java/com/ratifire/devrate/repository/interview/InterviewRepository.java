@@ -2,6 +2,7 @@ package com.ratifire.devrate.repository.interview;
 
 import com.ratifire.devrate.dto.projection.InterviewUserMasteryProjection;
 import com.ratifire.devrate.entity.interview.Interview;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -44,7 +45,10 @@ public interface InterviewRepository extends JpaRepository<Interview, Long> {
 
   Optional<Interview> findByIdAndUserIdAndIsVisibleTrue(long id, long userId);
 
-  List<Interview> findAllByUserIdAndIsVisibleTrue(long userId);
+  boolean existsByUserIdAndIsVisibleTrueAndStartTimeAfterAndStartTimeBefore(long userId,
+      ZonedDateTime after, ZonedDateTime before);
+
+  boolean existsByUserIdAndIsVisibleTrueAndStartTimeBefore(long userId, ZonedDateTime before);
 
   @Modifying
   @Query("UPDATE Interview i SET i.videoUrl = :videoUrl, i.roomUrl = :roomUrl "
@@ -1,10 +1,15 @@
 package com.ratifire.devrate.repository.interview;
 
+import com.ratifire.devrate.entity.User;
 import com.ratifire.devrate.entity.interview.InterviewRequest;
 import com.ratifire.devrate.enums.InterviewRequestRole;
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
@@ -29,4 +34,26 @@ public interface InterviewRequestRepository extends JpaRepository<InterviewReque
 
   List<InterviewRequest> findByMastery_IdInAndRoleIn(List<Long> masteryIds,
       List<InterviewRequestRole> roles);
+
+  @Query(value = "SELECT id FROM interview_requests "
+      + "WHERE expired_at < :now AND expiry_processed_at IS NULL "
+      + "ORDER BY expired_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<Long> lockExpiredIds(@Param("now") ZonedDateTime now, @Param("limit") int limit);
+
+  @Query("SELECT r FROM InterviewRequest r WHERE r.id > :afterId "
+      + "AND r.expiryProcessedAt IS NULL AND r.matchedInterview < r.desiredInterview "
+      + "ORDER BY r.id")
+  List<InterviewRequest> findOpenAfter(@Param("afterId") long afterId, Pageable pageable);
+
+  @Query("SELECT r FROM InterviewRequest r WHERE r.id IN :ids "
+      + "AND r.expiryProcessedAt IS NULL AND r.matchedInterview < r.desiredInterview")
+  List<InterviewRequest> findOpenByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("SELECT DISTINCT r.user FROM InterviewRequest r WHERE r.id IN :ids")
+  List<User> findUsersByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Modifying
+  @Query("UPDATE InterviewRequest r SET r.expiryProcessedAt = :processedAt WHERE r.id IN :ids")
+  void markExpiryProcessed(@Param("ids") Collection<Long> ids,
+      @Param("processedAt") ZonedDateTime processedAt);
 }
@@ -5,7 +5,6 @@ import com.ratifire.devrate.entity.interview.InterviewRequestTimeSlot;
 import com.ratifire.devrate.enums.TimeSlotStatus;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -37,6 +36,28 @@ public interface InterviewRequestTimeSlotRepository extends
       @Param("interviewHistoryId") Long interviewHistoryId,
       @Param("status") TimeSlotStatus status);
 
-  Optional<InterviewRequestTimeSlot> findInterviewRequestTimeSlotsByInterviewRequestIdAndDateTime(
-      long interviewRequestId, ZonedDateTime dateTime);
-}
\ No newline at end of file
+  @Query("SELECT s.dateTime FROM InterviewRequestTimeSlot s "
+      + "WHERE s.userId = :userId AND s.status = :status AND s.dateTime > :from")
+  List<ZonedDateTime> findDateTimesByUserIdAndStatusAfter(@Param("userId") long userId,
+      @Param("status") TimeSlotStatus status, @Param("from") ZonedDateTime from);
+
+  @Modifying
+  @Query("UPDATE InterviewRequestTimeSlot s SET s.status = :status, s.interviewId = "
+      + "CASE WHEN s.interviewRequest.id = :interviewerRequestId THEN :interviewerInterviewId "
+      + "ELSE :candidateInterviewId END "
+      + "WHERE s.interviewRequest.id IN (:interviewerRequestId, :candidateRequestId) "
+      + "AND s.dateTime = :scheduledDate")
+  int bookTimeSlots(@Param("interviewerRequestId") long interviewerRequestId,
+      @Param("candidateRequestId") long candidateRequestId,
+      @Param("scheduledDate") ZonedDateTime scheduledDate,
+      @Param("interviewerInterviewId") Long interviewerInterviewId,
+      @Param("candidateInterviewId") Long candidateInterviewId,
+      @Param("status") TimeSlotStatus status);
+
+  @Modifying
+  @Query(value = "UPDATE interview_request_time_slots SET status = 'EXPIRED' "
+      + "WHERE id IN (SELECT id FROM interview_request_time_slots "
+      + "WHERE status = 'PENDING' AND date_time < :now "
+      + "LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+  int expirePendingTimeSlots(@Param("now") ZonedDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,55 @@
+package com.ratifire.devrate.repository.interview;
+
+import com.ratifire.devrate.entity.interview.InterviewStatsHourly;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for accessing InterviewStatsHourly entities.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface InterviewStatsHourlyRepository extends JpaRepository<InterviewStatsHourly, Long> {
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO interview_stats_hourly (user_id, role, bucket_start, interviews)
+      VALUES (:userId, :role, :bucketStart, :delta)
+      ON CONFLICT (user_id, bucket_start, role)
+      DO UPDATE SET interviews = interview_stats_hourly.interviews + EXCLUDED.interviews""",
+      nativeQuery = true)
+  int increment(@Param("userId") long userId, @Param("role") String role,
+      @Param("bucketStart") ZonedDateTime bucketStart, @Param("delta") int delta);
+
+  List<InterviewStatsHourly> findByUserIdAndBucketStartBetween(long userId, ZonedDateTime from,
+      ZonedDateTime to);
+
+  @Query(value = """
+      SELECT DISTINCT user_id FROM interview_histories
+      WHERE user_id > :afterUserId
+      ORDER BY user_id
+      LIMIT :limit""", nativeQuery = true)
+  List<Long> findHistoryUserIdsAfter(@Param("afterUserId") long afterUserId,
+      @Param("limit") int limit);
+
+  @Modifying
+  @Query("DELETE FROM InterviewStatsHourly s WHERE s.userId IN (:userIds)")
+  int deleteAllByUserIdIn(@Param("userIds") List<Long> userIds);
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO interview_stats_hourly (user_id, role, bucket_start, interviews)
+      SELECT user_id, role, date_trunc('hour', date_time, 'UTC'), COUNT(*)
+      FROM interview_histories
+      WHERE user_id IN (:userIds) AND role IS NOT NULL
+      GROUP BY user_id, role, date_trunc('hour', date_time, 'UTC')
+      ON CONFLICT (user_id, bucket_start, role)
+      DO UPDATE SET interviews = EXCLUDED.interviews""", nativeQuery = true)
+  int insertFromHistories(@Param("userIds") List<Long> userIds);
+}
@@ -0,0 +1,30 @@
+package com.ratifire.devrate.repository.interview;
+
+import com.ratifire.devrate.entity.interview.ProcessedMatcherMessage;
+import java.time.ZonedDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for accessing ProcessedMatcherMessage entities.
+ */
+@Repository
+@RepositoryRestResource(exported = false)
+public interface ProcessedMatcherMessageRepository extends
+    JpaRepository<ProcessedMatcherMessage, String> {
+
+  @Modifying
+  @Query(value = "INSERT INTO processed_matcher_messages (idempotency_key, processed_at) "
+      + "VALUES (:key, :processedAt) ON CONFLICT (idempotency_key) DO NOTHING",
+      nativeQuery = true)
+  int insertIfAbsent(@Param("key") String key,
+      @Param("processedAt") ZonedDateTime processedAt);
+
+  @Modifying
+  @Query("DELETE FROM ProcessedMatcherMessage m WHERE m.processedAt < :threshold")
+  int deleteAllProcessedBefore(@Param("threshold") ZonedDateTime threshold);
+}
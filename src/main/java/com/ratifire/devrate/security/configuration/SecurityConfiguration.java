@@ -4,8 +4,8 @@ package com.ratifire.devrate.security.configuration;
 import static com.ratifire.devrate.security.model.constants.CognitoConstant.HEADER_AUTHORIZATION;
 import static com.ratifire.devrate.security.model.constants.CognitoConstant.HEADER_ID_TOKEN;
 
-import com.ratifire.devrate.security.configuration.properties.WhitelistPathProperties;
 import com.ratifire.devrate.security.filter.CognitoAuthenticationFilter;
+import com.ratifire.devrate.security.filter.WhitelistPathMatcher;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -39,7 +39,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfiguration {
 
   private final CognitoAuthenticationFilter cognitoAuthenticationFilter;
-  private final WhitelistPathProperties whitelistPathProperties;
+  private final WhitelistPathMatcher whitelistPathMatcher;
 
   /**
    * Configures security filters.
@@ -56,8 +56,7 @@ public class SecurityConfiguration {
         .sessionManagement(session -> session
             .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(authorize -> authorize
-            .requestMatchers(
-                whitelistPathProperties.getWhitelistedPaths().toArray(String[]::new)).permitAll()
+            .requestMatchers(whitelistPathMatcher).permitAll()
             .anyRequest().authenticated()
         )
         .httpBasic(AbstractHttpConfigurer::disable)
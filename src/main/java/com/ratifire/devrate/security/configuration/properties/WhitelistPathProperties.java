@@ -2,16 +2,24 @@ package com.ratifire.devrate.security.configuration.properties;
 
 import com.ratifire.devrate.util.JsonConverter;
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.FieldNameConstants;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ResourceUtils;
 
 /**
- * Configuration properties for managing whitelisted paths.
+ * Configuration properties for managing whitelisted paths. The file path is resolved as a Spring
+ * resource, so besides classpath locations a "file:" location can be used to edit the whitelist
+ * without rebuilding the application. A path without a prefix is treated as a classpath location.
  */
+@Slf4j
 @Component
 @FieldNameConstants
 @Getter
@@ -20,10 +28,55 @@ public class WhitelistPathProperties {
 
   @Value("${security.whitelist.file-path}")
   private String whitelistFilePath;
-  private List<String> whitelistedPaths;
+  private volatile List<String> whitelistedPaths;
+  private final ResourceLoader resourceLoader;
+  private long lastModified;
 
+  /**
+   * Constructs a WhitelistPathProperties which reads the whitelist with the given loader.
+   *
+   * @param resourceLoader the loader used to resolve the whitelist file
+   */
+  public WhitelistPathProperties(ResourceLoader resourceLoader) {
+    this.resourceLoader = resourceLoader;
+  }
+
+  /**
+   * Loads the whitelist. A file path without a location prefix is looked up on the classpath.
+   */
   @PostConstruct
   public void init() {
-    this.whitelistedPaths = JsonConverter.loadStringFromJson(whitelistFilePath);
+    if (!ResourceUtils.isUrl(whitelistFilePath)) {
+      this.whitelistFilePath = ResourceUtils.CLASSPATH_URL_PREFIX + whitelistFilePath;
+    }
+    Resource resource = resourceLoader.getResource(whitelistFilePath);
+    this.whitelistedPaths = List.copyOf(JsonConverter.loadStringFromJson(resource));
+    this.lastModified = lastModified(resource);
+  }
+
+  /**
+   * Reloads the whitelist if the underlying file has been modified since it was last loaded.
+   *
+   * @return true if the whitelist was reloaded, otherwise false
+   */
+  public synchronized boolean reloadIfModified() {
+    Resource resource = resourceLoader.getResource(whitelistFilePath);
+    long modified = lastModified(resource);
+    if (modified <= lastModified) {
+      return false;
+    }
+
+    this.whitelistedPaths = List.copyOf(JsonConverter.loadStringFromJson(resource));
+    this.lastModified = modified;
+    log.info("Reloaded {} whitelisted paths from {}", whitelistedPaths.size(), whitelistFilePath);
+    return true;
+  }
+
+  private long lastModified(Resource resource) {
+    try {
+      return resource.lastModified();
+    } catch (IOException e) {
+      return 0L;
+    }
   }
-}
\ No newline at end of file
+}
@@ -3,7 +3,6 @@ package com.ratifire.devrate.security.filter;
 import static com.ratifire.devrate.security.model.enums.CognitoTypeToken.ACCESS_TOKEN;
 import static com.ratifire.devrate.security.model.enums.CognitoTypeToken.ID_TOKEN;
 
-import com.ratifire.devrate.security.configuration.properties.WhitelistPathProperties;
 import com.ratifire.devrate.security.exception.AuthTokenExpiredException;
 import com.ratifire.devrate.security.service.CognitoTokenValidationService;
 import com.ratifire.devrate.security.util.TokenUtil;
@@ -14,13 +13,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.PathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
@@ -33,17 +30,11 @@ public class CognitoAuthenticationFilter extends OncePerRequestFilter {
 
   private static final int EXPIRED_AUTH_TOKEN_HTTP_STATUS = 498;
   private final CognitoTokenValidationService cognitoTokenValidationService;
-  private final WhitelistPathProperties whitelistPathProperties;
-  private final PathMatcher pathMatcher;
+  private final WhitelistPathMatcher whitelistPathMatcher;
 
   @Override
   protected boolean shouldNotFilter(HttpServletRequest request) {
-    String path = request.getServletPath();
-    if (StringUtils.isEmpty(path)) {
-      return false;
-    }
-    return whitelistPathProperties.getWhitelistedPaths().stream()
-        .anyMatch(pattern -> pathMatcher.match(pattern, path));
+    return whitelistPathMatcher.matches(request);
   }
 
   @Override
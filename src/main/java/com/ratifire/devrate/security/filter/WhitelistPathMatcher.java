@@ -0,0 +1,164 @@
+package com.ratifire.devrate.security.filter;
+
+import com.ratifire.devrate.security.configuration.properties.WhitelistPathProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+/**
+ * Request matcher for the whitelisted paths. The Ant-style patterns are compiled once into a set
+ * of exact paths and a set of path prefixes (patterns ending with "/**"), so a path is usually
+ * resolved with a few hash lookups, one per path segment. Remaining patterns fall back to
+ * {@link AntPathMatcher}. Recent decisions are kept in a bounded LRU cache, and the whitelist is
+ * recompiled with an empty cache when its file changes.
+ */
+@Slf4j
+@Component
+public class WhitelistPathMatcher implements RequestMatcher {
+
+  private static final String METRIC_PREFIX = "security.whitelist";
+  private static final String ANY_PATH_SUFFIX = "/**";
+
+  private final WhitelistPathProperties whitelistPathProperties;
+  private final PathMatcher pathMatcher = new AntPathMatcher();
+  private final int cacheSize;
+  private final Timer decisionTimer;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+  private final Counter reloads;
+  private volatile CompiledWhitelist compiled;
+
+  /**
+   * Constructs the matcher, compiles the current whitelist and registers its metrics.
+   */
+  public WhitelistPathMatcher(WhitelistPathProperties whitelistPathProperties,
+      MeterRegistry meterRegistry,
+      @Value("${security.whitelist.cache-size:1024}") int cacheSize) {
+    this.whitelistPathProperties = whitelistPathProperties;
+    this.cacheSize = cacheSize;
+    this.decisionTimer = meterRegistry.timer(METRIC_PREFIX + ".decision");
+    this.cacheHits = meterRegistry.counter(METRIC_PREFIX + ".cache.hits");
+    this.cacheMisses = meterRegistry.counter(METRIC_PREFIX + ".cache.misses");
+    this.reloads = meterRegistry.counter(METRIC_PREFIX + ".reloads");
+    this.compiled = compile(whitelistPathProperties.getWhitelistedPaths());
+    Gauge.builder(METRIC_PREFIX + ".patterns", this, matcher -> matcher.compiled.size())
+        .register(meterRegistry);
+  }
+
+  @Override
+  public boolean matches(HttpServletRequest request) {
+    return matches(request.getServletPath());
+  }
+
+  /**
+   * Checks whether the given path matches one of the whitelisted patterns.
+   *
+   * @param path the servlet path of the request
+   * @return true if the path is whitelisted, otherwise false
+   */
+  public boolean matches(String path) {
+    if (StringUtils.isEmpty(path)) {
+      return false;
+    }
+
+    long start = System.nanoTime();
+    CompiledWhitelist whitelist = compiled;
+    Map<String, Boolean> cache = whitelist.cache();
+    Boolean decision;
+    synchronized (cache) {
+      decision = cache.get(path);
+    }
+    if (decision != null) {
+      cacheHits.increment();
+    } else {
+      cacheMisses.increment();
+      decision = whitelist.matches(path, pathMatcher);
+      synchronized (cache) {
+        cache.put(path, decision);
+      }
+    }
+    decisionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return decision;
+  }
+
+  /**
+   * Recompiles the whitelist when its file has been modified.
+   */
+  @Scheduled(fixedDelayString = "${security.whitelist.reload-interval-ms:30000}")
+  public void reloadIfModified() {
+    try {
+      if (whitelistPathProperties.reloadIfModified()) {
+        compiled = compile(whitelistPathProperties.getWhitelistedPaths());
+        reloads.increment();
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to reload whitelisted paths, keeping the previous ones: {}",
+          e.getMessage());
+    }
+  }
+
+  private CompiledWhitelist compile(List<String> patterns) {
+    Set<String> exactPaths = new HashSet<>();
+    Set<String> prefixes = new HashSet<>();
+    List<String> antPatterns = new ArrayList<>();
+    boolean matchAll = false;
+
+    for (String pattern : patterns) {
+      if (!pathMatcher.isPattern(pattern)) {
+        exactPaths.add(pattern);
+      } else if (pattern.endsWith(ANY_PATH_SUFFIX)
+          && !pathMatcher.isPattern(StringUtils.removeEnd(pattern, ANY_PATH_SUFFIX))) {
+        String prefix = StringUtils.removeEnd(pattern, ANY_PATH_SUFFIX);
+        matchAll |= prefix.isEmpty();
+        prefixes.add(prefix);
+      } else {
+        antPatterns.add(pattern);
+      }
+    }
+
+    return new CompiledWhitelist(matchAll, Set.copyOf(exactPaths), Set.copyOf(prefixes),
+        List.copyOf(antPatterns), new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > cacheSize;
+          }
+        });
+  }
+
+  private record CompiledWhitelist(boolean matchAll, Set<String> exactPaths, Set<String> prefixes,
+      List<String> antPatterns, Map<String, Boolean> cache) {
+
+    boolean matches(String path, PathMatcher pathMatcher) {
+      if (matchAll || exactPaths.contains(path) || prefixes.contains(path)) {
+        return true;
+      }
+      for (int i = path.indexOf('/', 1); i > 0; i = path.indexOf('/', i + 1)) {
+        if (prefixes.contains(path.substring(0, i))) {
+          return true;
+        }
+      }
+      return antPatterns.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    int size() {
+      return exactPaths.size() + prefixes.size() + antPatterns.size();
+    }
+  }
+}
@@ -12,6 +12,7 @@ import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import com.ratifire.devrate.security.exception.AuthTokenExpiredException;
 import com.ratifire.devrate.security.exception.TokenValidationException;
 import com.ratifire.devrate.security.model.enums.CognitoTypeToken;
+import com.ratifire.devrate.security.token.cache.VerifiedTokenCache;
 import com.ratifire.devrate.security.token.validation.TokenClaimsValidator;
 import java.util.List;
 import java.util.Map;
@@ -29,21 +30,24 @@ import org.springframework.stereotype.Service;
 @Profile("!local")
 public class CognitoTokenValidationService {
 
-  private final JWKSource<SecurityContext> jwkSource;
+  private final DefaultJWTProcessor<SecurityContext> jwtProcessor;
   private final Map<CognitoTypeToken, TokenClaimsValidator> claimValidators;
+  private final VerifiedTokenCache verifiedTokenCache;
 
   /**
-   * Constructs a CognitoTokenValidationService with the specified JWK source and list of claim
-   * validators.
+   * Constructs a CognitoTokenValidationService with the specified JWK source, list of claim
+   * validators and cache of already verified tokens.
    */
   public CognitoTokenValidationService(JWKSource<SecurityContext> jwkSource,
-      List<TokenClaimsValidator> claimValidators) {
-    this.jwkSource = jwkSource;
+      List<TokenClaimsValidator> claimValidators, VerifiedTokenCache verifiedTokenCache) {
+    this.jwtProcessor = createJwtProcessor(jwkSource);
     this.claimValidators = initializeValidatorsMap(claimValidators);
+    this.verifiedTokenCache = verifiedTokenCache;
   }
 
   /**
-   * Validates the specified token by checking its signature and claims.
+   * Validates the specified token by checking its signature and claims. Tokens that were already
+   * verified are answered from the cache until their expiration time.
    *
    * @param token the JWT token to validate
    * @param type  the expected type of the token (ACCESS_TOKEN, ID_TOKEN)
@@ -51,12 +55,20 @@ public class CognitoTokenValidationService {
    * @throws TokenValidationException if the token is invalid or validation fails
    */
   public boolean validateToken(String token, CognitoTypeToken type) {
+    if (verifiedTokenCache.isVerified(token, type)) {
+      return true;
+    }
+
     try {
 
       SignedJWT signedJwt = SignedJWT.parse(token);
-      JWTClaimsSet claimsSet = createJwtProcessor().process(signedJwt, null);
+      JWTClaimsSet claimsSet = jwtProcessor.process(signedJwt, null);
       TokenClaimsValidator validator = claimValidators.get(type);
-      return validator.validate(claimsSet);
+      boolean valid = validator.validate(claimsSet);
+      if (valid) {
+        verifiedTokenCache.put(token, type, claimsSet.getExpirationTime());
+      }
+      return valid;
 
     } catch (AuthTokenExpiredException e) {
       throw e;
@@ -67,11 +79,13 @@ public class CognitoTokenValidationService {
 
   /**
    * Creates and configures a JWT processor for validating token signatures using Cognito's JWK
-   * source.
+   * source. The processor is immutable after configuration and shared between requests.
    *
+   * @param jwkSource the source of Cognito's public keys
    * @return A configured DefaultJWTProcessor instance.
    */
-  private DefaultJWTProcessor<SecurityContext> createJwtProcessor() {
+  private static DefaultJWTProcessor<SecurityContext> createJwtProcessor(
+      JWKSource<SecurityContext> jwkSource) {
     JWSKeySelector<SecurityContext> selector = new JWSVerificationKeySelector<>(RS256, jwkSource);
     DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
     jwtProcessor.setJWSKeySelector(selector);
@@ -0,0 +1,145 @@
+package com.ratifire.devrate.security.token.cache;
+
+import com.ratifire.devrate.security.model.enums.CognitoTypeToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of tokens whose signature and claims were already verified. Entries are keyed by
+ * a SHA-256 digest of the raw token, so the tokens themselves are never kept in memory, and each
+ * entry is dropped once the token's "exp" claim has passed.
+ */
+@Slf4j
+@Component
+@Profile("!local")
+public class VerifiedTokenCache {
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final String METRIC_PREFIX = "security.token.cache";
+
+  private final Map<String, Instant> expirationByKey = new ConcurrentHashMap<>();
+  private final boolean enabled;
+  private final int maxSize;
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter evictions;
+
+  /**
+   * Constructs a VerifiedTokenCache with the configured bounds and registers its metrics.
+   */
+  public VerifiedTokenCache(@Value("${security.token-cache.enabled:true}") boolean enabled,
+      @Value("${security.token-cache.max-size:10000}") int maxSize,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.maxSize = maxSize;
+    this.hits = meterRegistry.counter(METRIC_PREFIX + ".hits");
+    this.misses = meterRegistry.counter(METRIC_PREFIX + ".misses");
+    this.evictions = meterRegistry.counter(METRIC_PREFIX + ".evictions");
+    Gauge.builder(METRIC_PREFIX + ".size", expirationByKey, Map::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Checks whether the token of the given type was already verified and has not expired yet.
+   *
+   * @param token the raw JWT token
+   * @param type  the type of the token (ACCESS_TOKEN, ID_TOKEN)
+   * @return true if a non-expired verification result is cached, otherwise false
+   */
+  public boolean isVerified(String token, CognitoTypeToken type) {
+    if (!enabled) {
+      return false;
+    }
+
+    String key = buildKey(token, type);
+    Instant expiration = expirationByKey.get(key);
+    if (expiration == null) {
+      misses.increment();
+      return false;
+    }
+
+    if (!Instant.now().isBefore(expiration)) {
+      evict(key);
+      misses.increment();
+      return false;
+    }
+
+    hits.increment();
+    return true;
+  }
+
+  /**
+   * Remembers a successfully verified token until its expiration time.
+   *
+   * @param token      the raw JWT token
+   * @param type       the type of the token (ACCESS_TOKEN, ID_TOKEN)
+   * @param expiration the value of the token's "exp" claim
+   */
+  public void put(String token, CognitoTypeToken type, Date expiration) {
+    if (!enabled || expiration == null || !Instant.now().isBefore(expiration.toInstant())) {
+      return;
+    }
+
+    if (expirationByKey.size() >= maxSize) {
+      purgeExpired();
+      if (expirationByKey.size() >= maxSize) {
+        evictEarliestExpiring();
+      }
+    }
+
+    expirationByKey.put(buildKey(token, type), expiration.toInstant());
+  }
+
+  /**
+   * Removes all entries whose tokens have already expired.
+   */
+  @Scheduled(fixedDelayString = "${security.token-cache.purge-interval-ms:60000}")
+  public void purgeExpired() {
+    Instant now = Instant.now();
+    expirationByKey.entrySet().removeIf(entry -> {
+      boolean expired = !now.isBefore(entry.getValue());
+      if (expired) {
+        evictions.increment();
+      }
+      return expired;
+    });
+  }
+
+  private void evictEarliestExpiring() {
+    expirationByKey.entrySet().stream()
+        .min(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+        .map(Map.Entry::getKey)
+        .ifPresent(this::evict);
+  }
+
+  private void evict(String key) {
+    if (expirationByKey.remove(key) != null) {
+      evictions.increment();
+    }
+  }
+
+  private String buildKey(String token, CognitoTypeToken type) {
+    try {
+      byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM)
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+      return type.name() + ":" + HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(DIGEST_ALGORITHM + " algorithm is not available", e);
+    }
+  }
+}
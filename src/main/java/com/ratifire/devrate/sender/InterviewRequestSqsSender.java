@@ -1,41 +1,282 @@
 package com.ratifire.devrate.sender;
 
 import com.ratifire.devrate.dto.ParticipantRequestDto;
+import com.ratifire.devrate.enums.SqsMessageType;
 import com.ratifire.devrate.util.JsonConverter;
+import io.awspring.cloud.sqs.operations.SendBatchOperationFailedException;
+import io.awspring.cloud.sqs.operations.SendResult;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 /**
  * Component responsible for sending interview request messages to an Amazon SQS queue.
+ *
+ * <p>Messages are buffered for a short linger interval and sent using SQS batch requests of up to
+ * ten entries. While an UPDATE message for an interview request is waiting in the buffer, newer
+ * UPDATE messages for the same request replace it, and a DELETE message discards it. Entries
+ * rejected by SQS are retried with exponential backoff until the attempt limit is reached.
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class InterviewRequestSqsSender {
 
+  private static final int MAX_BATCH_SIZE = 10;
+  private static final String METRIC_PREFIX = "matcher.sqs";
+
   private final SqsTemplate sqsTemplate;
+  private final String endpoint;
+  private final int maxAttempts;
+  private final long retryBackoffMs;
+  private final Map<String, PendingMessage> pending = new LinkedHashMap<>();
+  private final ScheduledExecutorService flusher;
+  private final Counter sent;
+  private final Counter collapsed;
+  private final Counter retried;
+  private final Counter failed;
+  private final DistributionSummary batchSize;
+
+  /**
+   * Constructs the sender and starts the background flusher.
+   */
+  @Autowired
+  public InterviewRequestSqsSender(SqsTemplate sqsTemplate, MeterRegistry meterRegistry,
+      @Value("${matching-service.send-sqs-endpoint}") String endpoint,
+      @Value("${matching-service.batch.linger-ms:50}") long lingerMs,
+      @Value("${matching-service.batch.max-attempts:5}") int maxAttempts,
+      @Value("${matching-service.batch.retry-backoff-ms:200}") long retryBackoffMs) {
+    this(sqsTemplate, meterRegistry, endpoint, lingerMs, maxAttempts, retryBackoffMs,
+        Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("matcher-sqs-")));
+  }
 
-  @Value("${matching-service.send-sqs-endpoint}")
-  private String endpoint;
+  InterviewRequestSqsSender(SqsTemplate sqsTemplate, MeterRegistry meterRegistry,
+      String endpoint, long lingerMs, int maxAttempts, long retryBackoffMs,
+      ScheduledExecutorService flusher) {
+    this.sqsTemplate = sqsTemplate;
+    this.endpoint = endpoint;
+    this.maxAttempts = maxAttempts;
+    this.retryBackoffMs = retryBackoffMs;
+    this.sent = meterRegistry.counter(METRIC_PREFIX + ".sent");
+    this.collapsed = meterRegistry.counter(METRIC_PREFIX + ".collapsed");
+    this.retried = meterRegistry.counter(METRIC_PREFIX + ".retried");
+    this.failed = meterRegistry.counter(METRIC_PREFIX + ".failed");
+    this.batchSize = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".pending", this, InterviewRequestSqsSender::pendingCount)
+        .register(meterRegistry);
+
+    this.flusher = flusher;
+    this.flusher.scheduleWithFixedDelay(this::flush, lingerMs, lingerMs, TimeUnit.MILLISECONDS);
+  }
 
   /**
-   * Sends the participant interview request message to the configured Amazon SQS queue.
+   * Queues the participant interview request message for sending to the configured Amazon SQS
+   * queue.
    *
+   * @param messageType           the type of the message
    * @param participantRequestDto the DTO containing participant interview request details
-   *                                       to be sent as a message.
+   *                              to be sent as a message.
    * @throws IllegalArgumentException if the DTO cannot be serialized into JSON format.
    */
   public void send(String messageType, ParticipantRequestDto participantRequestDto) {
-    String payload = JsonConverter.serialize(participantRequestDto);
+    sendAll(messageType, List.of(participantRequestDto));
+  }
+
+  /**
+   * Queues several messages of the same type for sending to the configured Amazon SQS queue.
+   *
+   * @param messageType            the type of the messages
+   * @param participantRequestDtos the DTOs to be sent
+   * @throws IllegalArgumentException if a DTO cannot be serialized into JSON format.
+   */
+  public void sendAll(String messageType,
+      Collection<ParticipantRequestDto> participantRequestDtos) {
+    List<PendingMessage> messages = participantRequestDtos.stream()
+        .map(dto -> new PendingMessage(messageType, dto.getId(),
+            JsonConverter.serialize(dto), 0, 0L))
+        .toList();
+
+    boolean fullBatch;
+    synchronized (pending) {
+      messages.forEach(this::enqueue);
+      fullBatch = pending.size() >= MAX_BATCH_SIZE;
+    }
+    if (fullBatch) {
+      flusher.execute(this::flush);
+    }
+  }
+
+  /**
+   * Sends all buffered messages whose retry delay has elapsed.
+   */
+  public void flush() {
+    try {
+      List<PendingMessage> batch;
+      while (!(batch = takeReady(System.currentTimeMillis())).isEmpty()) {
+        sendBatch(batch);
+      }
+    } catch (Exception e) {
+      log.error("Failed to flush matcher-service messages: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Stops the flusher and makes a final attempt to send the buffered messages.
+   */
+  @PreDestroy
+  public void shutdown() {
+    flusher.shutdown();
+    try {
+      flusher.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    List<PendingMessage> batch;
+    while (!(batch = takeReady(Long.MAX_VALUE)).isEmpty()) {
+      sendBatch(batch);
+    }
+  }
+
+  private void enqueue(PendingMessage message) {
+    if (SqsMessageType.DELETE.name().equals(message.type())) {
+      if (pending.remove(updateKey(message.requestId())) != null) {
+        collapsed.increment();
+      }
+    }
+
+    if (SqsMessageType.UPDATE.name().equals(message.type())) {
+      if (pending.put(updateKey(message.requestId()), message) != null) {
+        collapsed.increment();
+      }
+    } else {
+      pending.put(UUID.randomUUID().toString(), message);
+    }
+  }
+
+  private List<PendingMessage> takeReady(long now) {
+    List<PendingMessage> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    synchronized (pending) {
+      Iterator<PendingMessage> iterator = pending.values().iterator();
+      while (iterator.hasNext() && batch.size() < MAX_BATCH_SIZE) {
+        PendingMessage message = iterator.next();
+        if (message.notBefore() <= now) {
+          batch.add(message);
+          iterator.remove();
+        }
+      }
+    }
+    return batch;
+  }
+
+  private void sendBatch(List<PendingMessage> batch) {
+    Map<UUID, PendingMessage> messagesById = new LinkedHashMap<>();
+    List<Message<String>> messages = new ArrayList<>(batch.size());
+    for (PendingMessage pendingMessage : batch) {
+      Message<String> message = buildMessage(pendingMessage);
+      messagesById.put(message.getHeaders().getId(), pendingMessage);
+      messages.add(message);
+    }
+
+    batchSize.record(batch.size());
+    Collection<SendResult.Failed<String>> failures;
+    try {
+      failures = sqsTemplate.sendMany(endpoint, messages).failed();
+    } catch (SendBatchOperationFailedException e) {
+      failures = e.getSendBatchResult(String.class).failed();
+    } catch (Exception e) {
+      log.warn("Failed to send a batch of {} matcher-service messages: {}", batch.size(),
+          e.getMessage());
+      batch.forEach(this::retry);
+      return;
+    }
+
+    Map<UUID, String> errorsById = failures.stream()
+        .collect(Collectors.toMap(failure -> failure.message().getHeaders().getId(),
+            SendResult.Failed::errorMessage, (first, second) -> first));
+    sent.increment(batch.size() - errorsById.size());
+    errorsById.forEach((id, error) -> {
+      PendingMessage message = messagesById.get(id);
+      if (message != null) {
+        log.warn("Matcher-service {} message for interview request {} was rejected: {}",
+            message.type(), message.requestId(), error);
+        retry(message);
+      }
+    });
+  }
+
+  private void retry(PendingMessage message) {
+    int attempts = message.attempts() + 1;
+    if (attempts >= maxAttempts) {
+      failed.increment();
+      log.error("Dropping matcher-service {} message for interview request {} after {} attempts",
+          message.type(), message.requestId(), attempts);
+      return;
+    }
 
-    Message<String> message = MessageBuilder.withPayload(payload)
-        .setHeader("messageType", messageType)
+    retried.increment();
+    long delay = retryBackoffMs << Math.min(attempts - 1, 16);
+    long notBefore = System.currentTimeMillis() + delay;
+    synchronized (pending) {
+      String updateKey = updateKey(message.requestId());
+      if (SqsMessageType.UPDATE.name().equals(message.type())) {
+        // A newer update queued in the meantime supersedes the failed one
+        pending.putIfAbsent(updateKey, message.withRetry(message.payload(), attempts, notBefore));
+      } else if (SqsMessageType.CREATE.name().equals(message.type())
+          && pending.containsKey(updateKey)) {
+        // The create must not be overtaken by a later update, so it takes over its payload
+        String payload = pending.remove(updateKey).payload();
+        pending.put(UUID.randomUUID().toString(), message.withRetry(payload, attempts, notBefore));
+      } else {
+        pending.put(UUID.randomUUID().toString(),
+            message.withRetry(message.payload(), attempts, notBefore));
+      }
+    }
+  }
+
+  private Message<String> buildMessage(PendingMessage message) {
+    return MessageBuilder.withPayload(message.payload())
+        .setHeader("messageType", message.type())
         .setHeader("contentType", "application/json")
         .build();
+  }
+
+  private int pendingCount() {
+    synchronized (pending) {
+      return pending.size();
+    }
+  }
+
+  private static String updateKey(int requestId) {
+    return SqsMessageType.UPDATE.name() + ":" + requestId;
+  }
+
+  private record PendingMessage(String type, int requestId, String payload, int attempts,
+      long notBefore) {
 
-    sqsTemplate.send(endpoint, message);
+    PendingMessage withRetry(String payload, int attempts, long notBefore) {
+      return new PendingMessage(type, requestId, payload, attempts, notBefore);
+    }
   }
 }
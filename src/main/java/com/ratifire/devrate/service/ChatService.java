@@ -2,16 +2,20 @@ package com.ratifire.devrate.service;
 
 import com.ratifire.devrate.dto.ChatMessageDto;
 import com.ratifire.devrate.dto.TopicDto;
-import com.ratifire.devrate.entity.User;
+import com.ratifire.devrate.dto.projection.ConversationTopicProjection;
 import com.ratifire.devrate.entity.chat.Message;
+import com.ratifire.devrate.repository.chat.ConversationRepository;
 import com.ratifire.devrate.repository.chat.MessageRepository;
 import com.ratifire.devrate.security.helper.UserContextProvider;
+import com.ratifire.devrate.service.chat.ChatMessageWriter;
+import com.ratifire.devrate.service.picture.PictureService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service for handling chat operations.
@@ -22,24 +26,22 @@ import org.springframework.stereotype.Service;
 public class ChatService {
 
   private final UserContextProvider userContextProvider;
-  private final UserService userService;
   private final MessageRepository messageRepository;
+  private final ConversationRepository conversationRepository;
+  private final ChatMessageWriter chatMessageWriter;
+  private final PictureService pictureService;
 
   /**
    * Retrieves the latest message from each conversation for the authenticated user.
    *
+   * @param pageable pagination information.
    * @return a list of {@link TopicDto} representing the chat topics.
    */
-  public List<TopicDto> getUserChatTopics() {
+  public List<TopicDto> getUserChatTopics(Pageable pageable) {
     long authUserId = userContextProvider.getAuthenticatedUserId();
-    return messageRepository.findLastMessagesByUserId(authUserId)
+    return conversationRepository.findTopicsByUserId(authUserId, pageable)
         .stream()
-        .map(message -> {
-          User opponent = message.getSender().getId() == authUserId
-              ? message.getReceiver()
-              : message.getSender();
-          return toTopicDto(message, opponent);
-        })
+        .map(this::toTopicDto)
         .toList();
   }
 
@@ -50,8 +52,10 @@ public class ChatService {
    * @param pageable pagination information.
    * @return a page of {@link ChatMessageDto} objects representing the conversation.
    */
+  @Transactional
   public Page<ChatMessageDto> getConversationMessages(long opponentUserId, Pageable pageable) {
     long authUserId = userContextProvider.getAuthenticatedUserId();
+    conversationRepository.resetUnreadCount(authUserId, opponentUserId);
 
     Page<Message> messagesPage = messageRepository
         .findBySenderIdAndReceiverIdOrSenderIdAndReceiverIdOrderBySentAtDesc(
@@ -62,21 +66,13 @@ public class ChatService {
   }
 
   /**
-   * Creates and save a new message.
+   * Creates and save a new message. The message is handed to the write-behind buffer, which
+   * persists it together with the conversation summaries of both participants.
    *
    * @param chatMessageDto the ChatMessageDto object containing the message details.
    */
   public void createMessage(ChatMessageDto chatMessageDto) {
-    User sender = userService.findById(chatMessageDto.getSenderId());
-    User receiver = userService.findById(chatMessageDto.getReceiverId());
-
-    messageRepository.save(Message.builder()
-        .payload(chatMessageDto.getPayload())
-        .sentAt(chatMessageDto.getDateTime())
-        .sender(sender)
-        .receiver(receiver)
-        .status(chatMessageDto.getStatus())
-        .build());
+    chatMessageWriter.write(chatMessageDto);
   }
 
   private ChatMessageDto toChatMessageDto(Message message) {
@@ -89,14 +85,16 @@ public class ChatService {
         .build();
   }
 
-  private TopicDto toTopicDto(Message message, User opponent) {
+  private TopicDto toTopicDto(ConversationTopicProjection topic) {
     return TopicDto.builder()
-        .opponentUserId(opponent.getId())
-        .opponentFirstName(opponent.getFirstName())
-        .opponentLastName(opponent.getLastName())
-        .opponentPicture(opponent.getPicture())
-        .lastMessage(message.getPayload())
-        .lastMessageDate(message.getSentAt())
+        .opponentUserId(topic.getOpponentUserId())
+        .opponentFirstName(topic.getOpponentFirstName())
+        .opponentLastName(topic.getOpponentLastName())
+        .opponentPicture(pictureService.buildPictureUrl(topic.getOpponentUserId(),
+            topic.getOpponentPictureKey()))
+        .lastMessage(topic.getLastMessage())
+        .lastMessageDate(topic.getLastMessageDate())
+        .unreadCount(topic.getUnreadCount())
         .build();
   }
 }
@@ -1,22 +1,20 @@
 package com.ratifire.devrate.service;
 
+import com.ratifire.devrate.dto.ClosestEventDto;
 import com.ratifire.devrate.dto.EventDto;
 import com.ratifire.devrate.entity.Event;
-import com.ratifire.devrate.entity.User;
-import com.ratifire.devrate.entity.interview.Interview;
 import com.ratifire.devrate.enums.EventType;
+import com.ratifire.devrate.repository.EventParticipantRepository;
 import com.ratifire.devrate.repository.EventRepository;
-import com.ratifire.devrate.repository.interview.InterviewRepository;
 import com.ratifire.devrate.security.helper.UserContextProvider;
-import com.ratifire.devrate.util.DateTimeUtils;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 /**
@@ -26,80 +24,77 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class EventService {
 
-  private final UserService userService;
+  @Value("${calendar.range-events.limit:500}")
+  private int maxRangeEvents;
+  @Value("${calendar.upcoming-events.limit:50}")
+  private int maxUpcomingEvents;
+
   private final UserContextProvider userContextProvider;
   private final EventRepository eventRepository;
-  private final InterviewRepository interviewRepository;
+  private final EventParticipantRepository eventParticipantRepository;
 
   /**
-   * Retrieves a list of events for a specified user that occur within a given time range.
+   * Retrieves a list of events for a specified user that occur within a given time range. The
+   * dates are UTC days.
    *
    * @param from the start of the time range (inclusive)
    * @param to   the end of the time range (inclusive)
    * @return a list of {@link EventDto} objects representing the events for the user
    */
   public List<EventDto> findBetweenDateTime(LocalDate from, LocalDate to) {
-    User authUser = userService.findById(userContextProvider.getAuthenticatedUserId());
-    List<Event> userEvents = authUser.getEvents();
-
-    if (userEvents.isEmpty()) {
-      return List.of();
-    }
-
-    List<Event> filteredEvents = userEvents.stream()
-        .filter(event -> DateTimeUtils.isWithinRange(event.getStartTime(), from, to))
-        .toList();
-
-    if (filteredEvents.isEmpty()) {
-      return List.of();
-    }
-
-    Map<Long, Interview> interviewByEventId = interviewRepository
-        .findByEventIdIn(filteredEvents.stream().map(Event::getId).toList())
-        .stream()
-        .filter(interview -> interview.getUserId() == authUser.getId())
-        .collect(Collectors.toMap(
-            Interview::getEventId,
-            interview -> interview,
-            (a, b) -> b
-        ));
-
-    return filteredEvents.stream()
-        .map(event -> buildEventDto(event, interviewByEventId.get(event.getId())))
-        .filter(Objects::nonNull)
+    long authUserId = userContextProvider.getAuthenticatedUserId();
+    return eventRepository.findCalendarEventsBetween(authUserId,
+            from.atStartOfDay(ZoneOffset.UTC), to.plusDays(1).atStartOfDay(ZoneOffset.UTC),
+            PageRequest.of(0, maxRangeEvents)).stream()
+        .map(event -> EventDto.builder()
+            .id(event.getId())
+            .type(event.getType())
+            .hostId(event.getHostId())
+            .startTime(event.getStartTime())
+            .title(event.getTitle())
+            .interviewId(event.getInterviewId())
+            .role(event.getRole())
+            .build())
         .toList();
   }
 
-  private EventDto buildEventDto(Event event, Interview interview) {
-    if (interview == null) {
-      return null;
-    }
-
-    return EventDto.builder()
-        .id(event.getId())
-        .type(event.getType())
-        .hostId(event.getHostId())
-        .startTime(event.getStartTime())
-        .title(event.getTitle())
-        .interviewId(interview.getId())
-        .role(interview.getRole())
-        .build();
+  /**
+   * Retrieves the upcoming interview events of the user that start at or after the given date and
+   * time, ordered by start time, together with the counterpart of each interview.
+   *
+   * @param userId the ID of the user
+   * @param from   the date and time from which events should be retrieved
+   * @return a list of {@link ClosestEventDto} objects representing the upcoming events
+   */
+  public List<ClosestEventDto> findUpcoming(long userId, ZonedDateTime from) {
+    return eventRepository.findUpcomingCalendarEvents(userId, from,
+            PageRequest.of(0, maxUpcomingEvents)).stream()
+        .map(event -> ClosestEventDto.builder()
+            .id(event.getId())
+            .type(event.getType())
+            .startTime(event.getStartTime())
+            .hostId(event.getCounterpartId())
+            .hostName(event.getCounterpartFirstName())
+            .hostSurname(event.getCounterpartLastName())
+            .title(event.getTitle())
+            .interviewId(event.getInterviewId())
+            .role(event.getRole())
+            .build())
+        .toList();
   }
 
   /**
-   * Saves a list of Event objects for each attendee by cloning the provided event and setting the
-   * userId for each attendee.
+   * Saves the event and adds the attendees as its participants with one insert.
    *
-   * @param event     the Event object to be cloned for each attendee
+   * @param event     the Event object to be saved
    * @param attendees a list of user IDs representing the attendees
+   * @return the ID of the saved event
    */
   @Transactional
   public long save(Event event, List<Long> attendees) {
-    List<User> users = userService.findByIds(attendees);
-    users.forEach(user -> user.getEvents().add(event));
-
-    userService.saveAll(users);
-    return eventRepository.save(event).getId();
+    long eventId = eventRepository.save(event).getId();
+    eventParticipantRepository.insertAll(eventId, event.getStartTime(), attendees);
+    return eventId;
   }
 
   /**
@@ -109,13 +104,10 @@ public class EventService {
    */
   @Transactional
   public void delete(long eventId) {
-    Event event = eventRepository.findById(eventId)
-        .orElseThrow(() -> new IllegalStateException("Could not find event with id: " + eventId));
-
-    List<User> users = userService.findAllByEventsContaining(event);
-    users.forEach(user -> user.getEvents().remove(event));
-    userService.saveAll(users);
-    eventRepository.delete(event);
+    eventParticipantRepository.deleteAllByEventId(eventId);
+    if (eventRepository.deleteEventById(eventId) == 0) {
+      throw new IllegalStateException("Could not find event with id: " + eventId);
+    }
   }
 
   /**
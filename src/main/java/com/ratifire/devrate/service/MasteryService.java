@@ -10,7 +10,6 @@ import com.ratifire.devrate.exception.ResourceAlreadyExistException;
 import com.ratifire.devrate.exception.ResourceNotFoundException;
 import com.ratifire.devrate.mapper.DataMapper;
 import com.ratifire.devrate.repository.MasteryRepository;
-import com.ratifire.devrate.service.interview.InterviewMetricsService;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -27,7 +26,6 @@ import org.springframework.stereotype.Service;
 @Named("MasteryService")
 public class MasteryService {
 
-  private final InterviewMetricsService interviewMetricsService;
   private final SkillService skillService;
   private final MasteryRepository masteryRepository;
   private final DataMapper<MasteryDto, Mastery> masteryMapper;
@@ -154,7 +152,6 @@ public class MasteryService {
     Skill skill = skillMapper.toEntity(skillDto);
     skill.setAverageMark(BigDecimal.ZERO);
     mastery.getSkills().add(skill);
-    interviewMetricsService.updateMasteryAverageMark(mastery, skill.getType());
     update(mastery);
     return skillMapper.toDto(skill);
   }
@@ -179,7 +176,6 @@ public class MasteryService {
 
     Mastery mastery = getMasteryById(masteryId);
     mastery.getSkills().addAll(skills);
-    interviewMetricsService.updateMasteryAverageMark(mastery, skillDtos.getFirst().getType());
     update(mastery);
     return skillMapper.toDto(skills);
   }
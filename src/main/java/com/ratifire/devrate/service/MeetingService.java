@@ -1,8 +1,22 @@
 package com.ratifire.devrate.service;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 /**
  * Interface for services that handle meeting creation.
  */
 public interface MeetingService {
   String createMeeting();
+
+  /**
+   * Creates several meetings at once. Implementations backed by an API without batch creation
+   * may keep the default, which creates the meetings one by one.
+   *
+   * @param count the number of meetings to create
+   * @return the URLs of the created meetings
+   */
+  default List<String> createMeetings(int count) {
+    return IntStream.range(0, count).mapToObj(i -> createMeeting()).toList();
+  }
 }
@@ -7,7 +7,6 @@ import com.ratifire.devrate.enums.SkillType;
 import com.ratifire.devrate.exception.ResourceNotFoundException;
 import com.ratifire.devrate.mapper.DataMapper;
 import com.ratifire.devrate.repository.SkillRepository;
-import com.ratifire.devrate.service.interview.InterviewMetricsService;
 import com.ratifire.devrate.util.JsonConverter;
 import java.math.BigDecimal;
 import java.util.List;
@@ -29,7 +28,6 @@ public class SkillService {
   private String defaultSoftSkillsPath;
 
   private MasteryService masteryService;
-  private final InterviewMetricsService interviewMetricsService;
   private final SkillRepository repository;
   private final DataMapper<SkillDto, Skill> mapper;
 
@@ -75,7 +73,8 @@ public class SkillService {
   }
 
   /**
-   * Deletes a skill by its ID and updates the mastery average marks.
+   * Deletes a skill by its ID. The mastery average marks are adjusted by the database triggers
+   * on the skills table.
    *
    * @param id the ID of the skill to be deleted
    */
@@ -88,7 +87,6 @@ public class SkillService {
         .findFirst()
         .ifPresent(skill -> {
           mastery.getSkills().remove(skill);
-          interviewMetricsService.updateMasteryAverageMark(mastery, skill.getType());
           masteryService.update(mastery);
         });
   }
@@ -1,5 +1,6 @@
 package com.ratifire.devrate.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.ratifire.devrate.dto.AchievementDto;
 import com.ratifire.devrate.dto.BookmarkDto;
 import com.ratifire.devrate.dto.ContactDto;
@@ -7,39 +8,49 @@ import com.ratifire.devrate.dto.EducationDto;
 import com.ratifire.devrate.dto.EmploymentRecordDto;
 import com.ratifire.devrate.dto.LanguageProficiencyDto;
 import com.ratifire.devrate.dto.NotificationDto;
+import com.ratifire.devrate.dto.SpecializationDto;
 import com.ratifire.devrate.dto.UserDto;
 import com.ratifire.devrate.dto.UserMainHardSkillsDto;
 import com.ratifire.devrate.dto.UserMainMasterySkillDto;
 import com.ratifire.devrate.dto.UserNameSearchDto;
-import com.ratifire.devrate.dto.UserPictureDto;
+import com.ratifire.devrate.dto.UserProfileDto;
+import com.ratifire.devrate.dto.UserSearchPageDto;
 import com.ratifire.devrate.entity.Achievement;
 import com.ratifire.devrate.entity.Bookmark;
 import com.ratifire.devrate.entity.Contact;
 import com.ratifire.devrate.entity.Education;
 import com.ratifire.devrate.entity.EmploymentRecord;
-import com.ratifire.devrate.entity.Event;
 import com.ratifire.devrate.entity.LanguageProficiency;
-import com.ratifire.devrate.entity.Skill;
 import com.ratifire.devrate.entity.Specialization;
 import com.ratifire.devrate.entity.User;
+import com.ratifire.devrate.enums.PictureSize;
+import com.ratifire.devrate.enums.ProfileCacheSection;
+import com.ratifire.devrate.enums.UserProfileSection;
 import com.ratifire.devrate.exception.UserNotFoundException;
 import com.ratifire.devrate.exception.UserSearchInvalidInputException;
 import com.ratifire.devrate.mapper.DataMapper;
-import com.ratifire.devrate.repository.SpecializationRepository;
 import com.ratifire.devrate.repository.UserRepository;
+import com.ratifire.devrate.service.cache.ProfileCache;
 import com.ratifire.devrate.service.notification.NotificationService;
+import com.ratifire.devrate.service.picture.PictureService;
+import com.ratifire.devrate.service.picture.model.StoredPicture;
+import com.ratifire.devrate.service.search.UserSearchService;
 import java.math.BigDecimal;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service class for performing operations related to {@link User} entities.
@@ -50,10 +61,28 @@ public class UserService {
 
   private static final String NAME_PATTERN = "^[\\p{L}\\s\\-']+$";
   private static final Pattern NAME_REGEX = Pattern.compile(NAME_PATTERN);
+  private static final TypeReference<UserDto> USER_TYPE = new TypeReference<>() {};
+  private static final TypeReference<List<ContactDto>> CONTACTS_TYPE = new TypeReference<>() {};
+  private static final TypeReference<List<EducationDto>> EDUCATIONS_TYPE =
+      new TypeReference<>() {};
+  private static final TypeReference<List<AchievementDto>> ACHIEVEMENTS_TYPE =
+      new TypeReference<>() {};
+  private static final TypeReference<List<LanguageProficiencyDto>> LANGUAGE_PROFICIENCIES_TYPE =
+      new TypeReference<>() {};
+  private static final TypeReference<List<UserMainMasterySkillDto>> PUBLIC_SKILLS_TYPE =
+      new TypeReference<>() {};
+  private static final TypeReference<List<UserMainHardSkillsDto>> MAIN_HARD_SKILLS_TYPE =
+      new TypeReference<>() {};
+  private static final TypeReference<List<SpecializationDto>> SPECIALIZATIONS_TYPE =
+      new TypeReference<>() {};
+  private static final TypeReference<List<EmploymentRecordDto>> EMPLOYMENT_RECORDS_TYPE =
+      new TypeReference<>() {};
 
   private UserRepository userRepository;
-  private final SpecializationRepository specializationRepository;
   private final NotificationService notificationService;
+  private final PictureService pictureService;
+  private final UserSearchService userSearchService;
+  private final ProfileCache profileCache;
   private final DataMapper<UserDto, User> userMapper;
   private final DataMapper<ContactDto, Contact> contactMapper;
   private final DataMapper<EducationDto, Education> educationMapper;
@@ -63,6 +92,7 @@ public class UserService {
   private final DataMapper<BookmarkDto, Bookmark> bookmarkMapper;
   private final DataMapper<UserMainMasterySkillDto, Specialization> userMainMasterySkillMapper;
   private final DataMapper<UserMainHardSkillsDto, Specialization> userMainHardSkillsMapper;
+  private final DataMapper<SpecializationDto, Specialization> specializationMapper;
 
   @Autowired
   public void setUserRepository(@Lazy UserRepository userRepository) {
@@ -115,10 +145,6 @@ public class UserService {
     return userRepository.findEmailByUserId(userId);
   }
 
-  public List<User> findAllByEventsContaining(Event event) {
-    return userRepository.findAllByEventsContaining(event);
-  }
-
   public void saveAll(List<User> users) {
     userRepository.saveAll(users);
   }
@@ -131,9 +157,16 @@ public class UserService {
    * @throws UserNotFoundException if the user with the specified ID is not found
    */
   public UserDto getDtoById(long id) {
-    UserDto dto = userMapper.toDto(findById(id));
+    return profileCache.get(ProfileCacheSection.USER, id, USER_TYPE,
+        () -> toUserDto(findById(id)));
+  }
 
-    specializationRepository.findSpecializationByUserIdAndMainTrue(id)
+  private UserDto toUserDto(User user) {
+    UserDto dto = userMapper.toDto(user);
+
+    user.getSpecializations().stream()
+        .filter(Specialization::isMain)
+        .findFirst()
         .ifPresent(spec -> {
           dto.setHardSkillMark(
               spec.getMainMastery() != null ? spec.getMainMastery().getHardSkillMark()
@@ -170,7 +203,9 @@ public class UserService {
   public UserDto updateByDto(UserDto userDto) {
     User user = findById(userDto.getId());
     userMapper.updateEntity(userDto, user);
-    return userMapper.toDto(userRepository.save(user));
+    User savedUser = userRepository.save(user);
+    profileCache.evict(savedUser.getId(), ProfileCacheSection.USER);
+    return userMapper.toDto(savedUser);
   }
 
   /**
@@ -180,7 +215,9 @@ public class UserService {
    * @return the updated user entity
    */
   public User updateByEntity(User user) {
-    return userRepository.save(user);
+    User savedUser = userRepository.save(user);
+    profileCache.evictAll(savedUser.getId());
+    return savedUser;
   }
 
   /**
@@ -192,6 +229,7 @@ public class UserService {
   public void delete(long userId) {
     User user = findById(userId);
     userRepository.delete(user);
+    profileCache.evictAll(userId);
   }
 
   /**
@@ -201,8 +239,9 @@ public class UserService {
    * @return A list of LanguageProficiencyDto objects.
    */
   public List<LanguageProficiencyDto> findAllLanguageProficienciesByUserId(long userId) {
-    User user = findById(userId);
-    return languageProficiencyMapper.toDto(user.getLanguageProficiencies());
+    return profileCache.get(ProfileCacheSection.LANGUAGE_PROFICIENCIES, userId,
+        LANGUAGE_PROFICIENCIES_TYPE,
+        () -> languageProficiencyMapper.toDto(findById(userId).getLanguageProficiencies()));
   }
 
   /**
@@ -232,6 +271,7 @@ public class UserService {
       }
     }
     userRepository.save(user);
+    profileCache.evict(userId, ProfileCacheSection.LANGUAGE_PROFICIENCIES);
     return languageProficiencyMapper.toDto(user.getLanguageProficiencies());
   }
 
@@ -242,8 +282,9 @@ public class UserService {
    * @return the user's work experience as a DTO
    */
   public List<EmploymentRecordDto> getEmploymentRecordsByUserId(long userId) {
-    User user = findById(userId);
-    return employmentRecordMapper.toDto(user.getEmploymentRecords());
+    return profileCache.get(ProfileCacheSection.EMPLOYMENT_RECORDS, userId,
+        EMPLOYMENT_RECORDS_TYPE,
+        () -> employmentRecordMapper.toDto(findById(userId).getEmploymentRecords()));
   }
 
   /**
@@ -265,10 +306,12 @@ public class UserService {
    * Retrieves the picture associated with a user by their user ID.
    *
    * @param userId the ID of the user whose picture is to be retrieved
-   * @return the user's picture as a base64-encoded string
+   * @param size   the requested size variant of the picture
+   * @return the user's picture content, or empty if the user has no picture
    */
-  public UserPictureDto getPicture(long userId) {
-    return new UserPictureDto(userRepository.findPictureByUserId(userId));
+  public Optional<StoredPicture> getPicture(long userId, PictureSize size) {
+    String pictureKey = userRepository.findPictureKeyByUserId(userId);
+    return pictureKey != null ? pictureService.load(pictureKey, size) : Optional.empty();
   }
 
   /**
@@ -276,12 +319,28 @@ public class UserService {
    * replaced.
    *
    * @param userId      the ID of the user whose picture is to be added or updated
-   * @param userPicture the picture data as a base64-encoded string
+   * @param userPicture the picture data as a base64-encoded string or data URL
    */
   public void addPicture(long userId, String userPicture) {
+    addPicture(userId, pictureService.decode(userPicture));
+  }
+
+  /**
+   * Adds or updates a user's picture by user ID. If the user already has a picture, it is
+   * replaced and the previous content is removed from the picture storage.
+   *
+   * @param userId  the ID of the user whose picture is to be added or updated
+   * @param picture the binary picture content
+   */
+  public void addPicture(long userId, byte[] picture) {
     User user = findById(userId);
-    user.setPicture(userPicture);
+    user.setPictureUpdatedAt(ZonedDateTime.now(ZoneOffset.UTC));
+    String previousKey = user.getPictureKey();
+    user.setPictureKey(pictureService.store(userId, picture));
     updateByEntity(user);
+    if (previousKey != null) {
+      pictureService.delete(previousKey);
+    }
   }
 
   /**
@@ -291,8 +350,14 @@ public class UserService {
    */
   public void deletePicture(long userId) {
     User user = findById(userId);
-    user.setPicture(null);
+    String pictureKey = user.getPictureKey();
+    if (pictureKey == null) {
+      return;
+    }
+    user.setPictureKey(null);
+    user.setPictureUpdatedAt(ZonedDateTime.now(ZoneOffset.UTC));
     updateByEntity(user);
+    pictureService.delete(pictureKey);
   }
 
   /**
@@ -302,8 +367,8 @@ public class UserService {
    * @return A list of AchievementDto objects representing the achievements of the user.
    */
   public List<AchievementDto> getAchievementsByUserId(long userId) {
-    User user = findById(userId);
-    return achievementMapper.toDto(user.getAchievements());
+    return profileCache.get(ProfileCacheSection.ACHIEVEMENTS, userId, ACHIEVEMENTS_TYPE,
+        () -> achievementMapper.toDto(findById(userId).getAchievements()));
   }
 
   /**
@@ -329,8 +394,8 @@ public class UserService {
    * @return A list of {@link EducationDto} objects representing the education details.
    */
   public List<EducationDto> getEducationsByUserId(long userId) {
-    User user = findById(userId);
-    return educationMapper.toDto(user.getEducations());
+    return profileCache.get(ProfileCacheSection.EDUCATIONS, userId, EDUCATIONS_TYPE,
+        () -> educationMapper.toDto(findById(userId).getEducations()));
   }
 
   /**
@@ -357,8 +422,8 @@ public class UserService {
    * @return A list of ContactDto objects.
    */
   public List<ContactDto> findAllContactsByUserId(long userId) {
-    User user = findById(userId);
-    return contactMapper.toDto(user.getContacts());
+    return profileCache.get(ProfileCacheSection.CONTACTS, userId, CONTACTS_TYPE,
+        () -> contactMapper.toDto(findById(userId).getContacts()));
   }
 
   /**
@@ -387,6 +452,7 @@ public class UserService {
       }
     }
     userRepository.save(user);
+    profileCache.evict(userId, ProfileCacheSection.CONTACTS);
     return contactMapper.toDto(user.getContacts());
   }
 
@@ -432,14 +498,20 @@ public class UserService {
    * @return a list of main mastery skills for the user, excluding hidden skills.
    */
   public List<UserMainMasterySkillDto> getPublicMainMasterySkillsByUserId(long userId) {
-    User user = findById(userId);
-    user.getSpecializations().forEach(specialization -> {
-      List<Skill> skills = specialization.getMainMastery().getSkills().stream()
-          .filter(skill -> !skill.isHidden())
-          .toList();
-      specialization.getMainMastery().setSkills(skills);
-    });
-    return userMainMasterySkillMapper.toDto(user.getSpecializations());
+    return profileCache.get(ProfileCacheSection.PUBLIC_SKILLS, userId, PUBLIC_SKILLS_TYPE,
+        () -> toPublicMainMasterySkills(findById(userId)));
+  }
+
+  private List<UserMainMasterySkillDto> toPublicMainMasterySkills(User user) {
+    return userMainMasterySkillMapper.toDto(user.getSpecializations()).stream()
+        .map(dto -> UserMainMasterySkillDto.builder()
+            .specialization(dto.getSpecialization())
+            .mainMastery(dto.getMainMastery())
+            .mainMasterySkills(dto.getMainMasterySkills().stream()
+                .filter(skill -> !skill.isHidden())
+                .toList())
+            .build())
+        .toList();
   }
 
   /**
@@ -450,34 +522,97 @@ public class UserService {
    * @throws UserNotFoundException if no user with the given ID is found
    */
   public List<UserMainHardSkillsDto> getMainHardSkills(long userId) {
-    User user = findById(userId);
-    return userMainHardSkillsMapper.toDto(user.getSpecializations());
+    return profileCache.get(ProfileCacheSection.MAIN_HARD_SKILLS, userId, MAIN_HARD_SKILLS_TYPE,
+        () -> userMainHardSkillsMapper.toDto(findById(userId).getSpecializations()));
+  }
+
+  /**
+   * Retrieves the public profile of a user in one call. Sections are served from the profile
+   * cache; on a miss the user is loaded once and shared by all missed sections, so the number of
+   * queries does not depend on the number of sections or on the size of their lists.
+   *
+   * @param userId   the ID of the user
+   * @param sections the sections to include, or null or empty to include all sections
+   * @return the aggregated profile with only the requested sections set
+   * @throws UserNotFoundException if a section is not cached and no user with the given ID exists
+   */
+  @Transactional(readOnly = true)
+  public UserProfileDto getProfile(long userId, Set<UserProfileSection> sections) {
+    Set<UserProfileSection> requested = sections == null || sections.isEmpty()
+        ? EnumSet.allOf(UserProfileSection.class) : sections;
+    AtomicReference<User> loaded = new AtomicReference<>();
+    Supplier<User> user = () -> loaded.updateAndGet(u -> u != null ? u : findById(userId));
+
+    UserProfileDto.UserProfileDtoBuilder profile = UserProfileDto.builder();
+    if (requested.contains(UserProfileSection.USER)) {
+      profile.user(profileCache.get(ProfileCacheSection.USER, userId, USER_TYPE,
+          () -> toUserDto(user.get())));
+    }
+    if (requested.contains(UserProfileSection.CONTACTS)) {
+      profile.contacts(profileCache.get(ProfileCacheSection.CONTACTS, userId, CONTACTS_TYPE,
+          () -> contactMapper.toDto(user.get().getContacts())));
+    }
+    if (requested.contains(UserProfileSection.EDUCATIONS)) {
+      profile.educations(profileCache.get(ProfileCacheSection.EDUCATIONS, userId,
+          EDUCATIONS_TYPE, () -> educationMapper.toDto(user.get().getEducations())));
+    }
+    if (requested.contains(UserProfileSection.EMPLOYMENT_RECORDS)) {
+      profile.employmentRecords(profileCache.get(ProfileCacheSection.EMPLOYMENT_RECORDS, userId,
+          EMPLOYMENT_RECORDS_TYPE,
+          () -> employmentRecordMapper.toDto(user.get().getEmploymentRecords())));
+    }
+    if (requested.contains(UserProfileSection.ACHIEVEMENTS)) {
+      profile.achievements(profileCache.get(ProfileCacheSection.ACHIEVEMENTS, userId,
+          ACHIEVEMENTS_TYPE, () -> achievementMapper.toDto(user.get().getAchievements())));
+    }
+    if (requested.contains(UserProfileSection.LANGUAGE_PROFICIENCIES)) {
+      profile.languageProficiencies(profileCache.get(ProfileCacheSection.LANGUAGE_PROFICIENCIES,
+          userId, LANGUAGE_PROFICIENCIES_TYPE,
+          () -> languageProficiencyMapper.toDto(user.get().getLanguageProficiencies())));
+    }
+    if (requested.contains(UserProfileSection.SPECIALIZATIONS)) {
+      profile.specializations(profileCache.get(ProfileCacheSection.SPECIALIZATIONS, userId,
+          SPECIALIZATIONS_TYPE, () -> specializationMapper.toDto(user.get().getSpecializations())));
+    }
+    if (requested.contains(UserProfileSection.SKILLS)) {
+      profile.skills(profileCache.get(ProfileCacheSection.PUBLIC_SKILLS, userId,
+          PUBLIC_SKILLS_TYPE, () -> toPublicMainMasterySkills(user.get())));
+    }
+    return profile.build();
   }
 
   /**
-   * Searches for users based on a provided query string. The query can contain either a first name,
-   * a last name, or both separated by a space. If both names are provided, the method attempts to
-   * find users that match both.
+   * Searches for users based on a provided query string. The query can contain a first name, a
+   * last name, or both separated by a space, as well as words of the main specialization or the
+   * country. Words may be incomplete and names may contain small typos.
    *
    * @param query the search query containing the user's first name, last name, or both.
    * @return a list of {@link UserNameSearchDto} containing the search results.
    */
   public List<UserNameSearchDto> searchUsers(String query) {
+    return searchUsers(query, null, 10).getContent();
+  }
+
+  /**
+   * Searches for users based on a provided query string and returns one page of the results.
+   *
+   * @param query  the search query containing the user's first name, last name, or both.
+   * @param cursor the cursor returned with the previous page, or null for the first page
+   * @param size   the maximum number of results
+   * @return a page of {@link UserNameSearchDto} containing the search results.
+   */
+  public UserSearchPageDto searchUsers(String query, String cursor, int size) {
     if (query == null || query.isBlank()) {
-      return List.of();
+      return new UserSearchPageDto(List.of(), null);
     }
 
-    String[] parts = query.trim().split("\\s+");
-    String firstParam = parts[0];
-    String secondParam = parts.length > 1 ? parts[1] : "";
-
-    if (isNameInvalid(firstParam) || (!secondParam.isBlank() && isNameInvalid(secondParam))) {
+    boolean invalid = Arrays.stream(query.trim().split("\\s+")).anyMatch(this::isNameInvalid);
+    if (invalid) {
       throw new UserSearchInvalidInputException("Please enter a valid first/last name using only "
           + "letters, spaces, hyphens, or apostrophes.");
     }
 
-    Pageable pageable = PageRequest.of(0, 10);
-    return userRepository.findUsersByName(firstParam, secondParam, query, pageable);
+    return userSearchService.search(query, cursor, size);
   }
 
   /**
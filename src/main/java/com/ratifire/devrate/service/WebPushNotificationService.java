@@ -1,80 +1,156 @@
 package com.ratifire.devrate.service;
 
-import com.ratifire.devrate.dto.NotificationDto;
+import com.ratifire.devrate.entity.notification.outbox.NotificationOutboxMessage;
 import com.ratifire.devrate.entity.notification.webpush.WebPushSubscription;
 import com.ratifire.devrate.repository.WebPushSubscriptionRepository;
-import com.ratifire.devrate.util.JsonConverter;
-import java.security.GeneralSecurityException;
-import java.security.Security;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import nl.martijndwars.webpush.Encoding;
 import nl.martijndwars.webpush.Notification;
 import nl.martijndwars.webpush.PushService;
 import org.apache.http.HttpResponse;
-import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service class for performing operations related to sending web push notifications.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class WebPushNotificationService {
 
-  @Value("${VAPID_PUBLIC_KEY}")
-  private String publicKey;
-
-  @Value("${VAPID_PRIVATE_KEY}")
-  private String privateKey;
-
-  @Value("${VAPID_SUBJECT}")
-  private String subject;
-
   private final WebPushSubscriptionRepository repository;
+  private final PushService pushService;
+  private final CloseableHttpAsyncClient webPushHttpClient;
+  private final long sendTimeoutMs;
 
-  static {
-    Security.addProvider(new BouncyCastleProvider());
+  /**
+   * Constructs a WebPushNotificationService on top of the shared push client.
+   */
+  public WebPushNotificationService(WebPushSubscriptionRepository repository,
+      PushService pushService, CloseableHttpAsyncClient webPushHttpClient,
+      @Value("${notification.web-push.send-timeout-ms:30000}") long sendTimeoutMs) {
+    this.repository = repository;
+    this.pushService = pushService;
+    this.webPushHttpClient = webPushHttpClient;
+    this.sendTimeoutMs = sendTimeoutMs;
   }
 
   /**
-   * Send notification by logged user.
+   * Sends queued notifications to all web push subscriptions of their recipients. Subscriptions
+   * of all recipients are loaded with a single query, all requests are sent concurrently over the
+   * pooled HTTP client, and subscriptions whose endpoints are gone are removed in one delete. A
+   * notification is delivered when at least one subscription of its recipient accepted it.
    *
-   * @param userId  current logged userId
-   * @param message message that will be sent
+   * @param messages queued notifications with their serialized bodies
+   * @return IDs of the queued notifications that could not be delivered
    */
-  @Transactional
-  public void sendNotification(Long userId, NotificationDto message) {
-    try {
-      List<WebPushSubscription> subs = repository.findAllByUserId(userId);
-      PushService pushService = new PushService(publicKey, privateKey, subject);
-      String payload = JsonConverter.serialize(message);
-      for (WebPushSubscription sub : subs) {
-        try {
-          sendNotification(sub, payload, pushService);
-        } catch (Exception e) {
-          log.error("Error while sending web push notification to user {}", userId, e);
-        }
+  public Set<Long> sendNotifications(List<NotificationOutboxMessage> messages) {
+    Set<Long> userIds = messages.stream()
+        .map(NotificationOutboxMessage::getRecipientId)
+        .collect(Collectors.toSet());
+    Map<Long, List<WebPushSubscription>> subsByUserId =
+        repository.findAllByUserIdIn(userIds).stream()
+            .collect(Collectors.groupingBy(sub -> sub.getUser().getId()));
+    if (subsByUserId.isEmpty()) {
+      return Set.of();
+    }
+
+    List<PushDelivery> deliveries = new ArrayList<>();
+    for (NotificationOutboxMessage message : messages) {
+      byte[] payloadBytes = message.getBody().getBytes(StandardCharsets.UTF_8);
+      for (WebPushSubscription sub : subsByUserId.getOrDefault(message.getRecipientId(),
+          List.of())) {
+        deliveries.add(new PushDelivery(message.getId(), message.getRecipientId(),
+            sub.getEndpoint(), send(sub, payloadBytes)));
+      }
+    }
+
+    awaitAll(deliveries);
+
+    Set<Long> sentMessageIds = new HashSet<>();
+    Set<String> goneEndpoints = new HashSet<>();
+    for (PushDelivery delivery : deliveries) {
+      int statusCode = delivery.response().state() == Future.State.SUCCESS
+          ? delivery.response().resultNow() : -1;
+      if (statusCode == 404 || statusCode == 410) {
+        goneEndpoints.add(delivery.endpoint());
+        sentMessageIds.add(delivery.messageId());
+      } else if (statusCode >= 200 && statusCode <= 299) {
+        sentMessageIds.add(delivery.messageId());
+      } else if (statusCode != -1) {
+        log.warn("Web push notification to user {} failed, status code {}", delivery.userId(),
+            statusCode);
       }
-    } catch (GeneralSecurityException e) {
-      log.error("Error creating push service notification {}", userId, e);
     }
+
+    if (!goneEndpoints.isEmpty()) {
+      repository.deleteAllByEndpointIn(goneEndpoints); // remove inactive subscriptions
+    }
+
+    return deliveries.stream()
+        .map(PushDelivery::messageId)
+        .filter(messageId -> !sentMessageIds.contains(messageId))
+        .collect(Collectors.toSet());
   }
 
-  private void sendNotification(WebPushSubscription sub, String payload, PushService pushService)
-      throws Exception {
-    Notification notification = new Notification(sub.getEndpoint(), sub.getPublicKey(),
-        sub.getAuth(), payload);
+  private CompletableFuture<Integer> send(WebPushSubscription sub, byte[] payload) {
+    CompletableFuture<Integer> response = new CompletableFuture<>();
+    try {
+      Notification notification = new Notification(sub.getEndpoint(), sub.getPublicKey(),
+          sub.getAuth(), payload);
+      webPushHttpClient.execute(pushService.preparePost(notification, Encoding.AESGCM),
+          new FutureCallback<>() {
+            @Override
+            public void completed(HttpResponse result) {
+              response.complete(result.getStatusLine().getStatusCode());
+            }
+
+            @Override
+            public void failed(Exception ex) {
+              response.completeExceptionally(ex);
+            }
 
-    HttpResponse resp = pushService.send(notification);
-    int statusCode = resp.getStatusLine().getStatusCode();
-    if (statusCode == 404 || statusCode == 410) {
-      repository.deleteByEndpoint(sub.getEndpoint()); // remove inactive subscription
-    } else if (statusCode > 299) {
-      log.warn("Web push notification failed, status code {}. Message: {}", statusCode, payload);
+            @Override
+            public void cancelled() {
+              response.cancel(false);
+            }
+          });
+    } catch (Exception e) {
+      response.completeExceptionally(e);
     }
+    return response;
+  }
+
+  private void awaitAll(List<PushDelivery> deliveries) {
+    CompletableFuture<?>[] responses = deliveries.stream()
+        .map(PushDelivery::response)
+        .toArray(CompletableFuture[]::new);
+    try {
+      CompletableFuture.allOf(responses).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.error("Error while sending web push notifications", e);
+    }
+    deliveries.stream()
+        .filter(delivery -> delivery.response().isCompletedExceptionally())
+        .forEach(delivery -> log.error("Error while sending web push notification to user {}",
+            delivery.userId(), delivery.response().exceptionNow()));
+  }
+
+  private record PushDelivery(long messageId, long userId, String endpoint,
+      CompletableFuture<Integer> response) {
   }
 }
@@ -0,0 +1,272 @@
+package com.ratifire.devrate.service.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ratifire.devrate.enums.ProfileCacheSection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache for the sections of public user profiles. Values are kept per user and
+ * section in a bounded in-memory tier with a short time-to-live and, when a
+ * {@link ProfileCacheStore} is configured, in a shared second tier with a longer time-to-live.
+ * Mutators evict the affected sections; evictions inside a transaction are repeated once the
+ * transaction commits, so a concurrent read cannot put back the data that was just replaced.
+ *
+ * <p>Values of both tiers are kept as JSON written with the application's {@link ObjectMapper},
+ * the same way they are rendered in HTTP responses. Every read returns a freshly deserialized
+ * instance, so callers may modify the returned value without affecting the cached one.
+ */
+@Slf4j
+@Component
+public class ProfileCache {
+
+  private static final String METRIC_PREFIX = "profile.cache";
+  private static final String KEY_PREFIX = "profile:";
+
+  private final ObjectMapper objectMapper;
+  private final ProfileCacheStore store;
+  private final boolean enabled;
+  private final int maxSize;
+  private final Duration localTtl;
+  private final Duration sharedTtl;
+  private final Map<String, LocalEntry> localEntries;
+  private final TierMetrics localMetrics;
+  private final TierMetrics sharedMetrics;
+
+  /**
+   * Constructs a ProfileCache with the configured bounds and registers its metrics.
+   */
+  public ProfileCache(ObjectMapper objectMapper, ObjectProvider<ProfileCacheStore> store,
+      MeterRegistry meterRegistry,
+      @Value("${profile-cache.enabled:true}") boolean enabled,
+      @Value("${profile-cache.l1.max-size:10000}") int maxSize,
+      @Value("${profile-cache.l1.ttl:PT30S}") Duration localTtl,
+      @Value("${profile-cache.l2.ttl:PT10M}") Duration sharedTtl) {
+    this.objectMapper = objectMapper;
+    this.store = store.getIfAvailable();
+    this.enabled = enabled;
+    this.maxSize = maxSize;
+    this.localTtl = localTtl;
+    this.sharedTtl = sharedTtl;
+    this.localEntries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+        return size() > ProfileCache.this.maxSize;
+      }
+    };
+    this.localMetrics = new TierMetrics(meterRegistry, "l1");
+    this.sharedMetrics = new TierMetrics(meterRegistry, "l2");
+    Gauge.builder(METRIC_PREFIX + ".size", this, ProfileCache::localSize)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Returns the cached section of the user's profile, loading and caching it on a miss.
+   *
+   * @param section the profile section
+   * @param userId  the ID of the user
+   * @param type    the type of the section value, used to read it from the shared tier
+   * @param loader  loads the section value from the database
+   * @return the section value
+   */
+  public <T> T get(ProfileCacheSection section, long userId, TypeReference<T> type,
+      Supplier<T> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+
+    String key = buildKey(section, userId);
+    T value = read(key, getLocal(key), type);
+    if (value != null) {
+      localMetrics.hit();
+      return value;
+    }
+    localMetrics.miss();
+
+    if (store != null) {
+      String json = getShared(key);
+      value = read(key, json, type);
+      if (value != null) {
+        sharedMetrics.hit();
+        putLocal(key, json);
+        return value;
+      }
+      sharedMetrics.miss();
+    }
+
+    value = loader.get();
+    String json = write(key, value);
+    if (json != null) {
+      putLocal(key, json);
+      putShared(key, json);
+    }
+    return value;
+  }
+
+  /**
+   * Evicts the given sections of the user's profile.
+   *
+   * @param userId   the ID of the user
+   * @param sections the profile sections to evict
+   */
+  public void evict(long userId, ProfileCacheSection... sections) {
+    if (!enabled) {
+      return;
+    }
+
+    List<String> keys = Arrays.stream(sections).map(section -> buildKey(section, userId)).toList();
+    evictKeys(keys);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictKeys(keys);
+        }
+      });
+    }
+  }
+
+  /**
+   * Evicts all sections of the user's profile.
+   *
+   * @param userId the ID of the user
+   */
+  public void evictAll(long userId) {
+    evict(userId, ProfileCacheSection.values());
+  }
+
+  private void evictKeys(List<String> keys) {
+    synchronized (localEntries) {
+      keys.forEach(localEntries::remove);
+    }
+    if (store != null) {
+      try {
+        store.delete(keys);
+      } catch (Exception e) {
+        log.warn("Failed to evict profile cache keys {}: {}", keys, e.getMessage());
+      }
+    }
+  }
+
+  private String getLocal(String key) {
+    synchronized (localEntries) {
+      LocalEntry entry = localEntries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (Instant.now().isAfter(entry.expiresAt())) {
+        localEntries.remove(key);
+        return null;
+      }
+      return entry.json();
+    }
+  }
+
+  private void putLocal(String key, String json) {
+    synchronized (localEntries) {
+      localEntries.put(key, new LocalEntry(json, Instant.now().plus(localTtl)));
+    }
+  }
+
+  private String getShared(String key) {
+    try {
+      return store.get(key).orElse(null);
+    } catch (Exception e) {
+      log.warn("Failed to read profile cache key {}: {}", key, e.getMessage());
+      return null;
+    }
+  }
+
+  private void putShared(String key, String json) {
+    if (store == null) {
+      return;
+    }
+    try {
+      store.put(key, json, sharedTtl);
+    } catch (Exception e) {
+      log.warn("Failed to write profile cache key {}: {}", key, e.getMessage());
+    }
+  }
+
+  private <T> T read(String key, String json, TypeReference<T> type) {
+    if (json == null) {
+      return null;
+    }
+    try {
+      return objectMapper.readValue(json, type);
+    } catch (Exception e) {
+      log.warn("Failed to read profile cache key {}: {}", key, e.getMessage());
+      return null;
+    }
+  }
+
+  private String write(String key, Object value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (Exception e) {
+      log.warn("Failed to write profile cache key {}: {}", key, e.getMessage());
+      return null;
+    }
+  }
+
+  private int localSize() {
+    synchronized (localEntries) {
+      return localEntries.size();
+    }
+  }
+
+  private static String buildKey(ProfileCacheSection section, long userId) {
+    return KEY_PREFIX + section.name().toLowerCase() + ":" + userId;
+  }
+
+  private record LocalEntry(String json, Instant expiresAt) {
+  }
+
+  /**
+   * Hit and miss counters of one cache tier together with the derived hit ratio.
+   */
+  private static final class TierMetrics {
+
+    private final Counter hits;
+    private final Counter misses;
+
+    TierMetrics(MeterRegistry meterRegistry, String tier) {
+      this.hits = meterRegistry.counter(METRIC_PREFIX + ".hits", "tier", tier);
+      this.misses = meterRegistry.counter(METRIC_PREFIX + ".misses", "tier", tier);
+      Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, TierMetrics::hitRatio)
+          .tag("tier", tier)
+          .register(meterRegistry);
+    }
+
+    void hit() {
+      hits.increment();
+    }
+
+    void miss() {
+      misses.increment();
+    }
+
+    double hitRatio() {
+      double total = hits.count() + misses.count();
+      return total == 0 ? 0 : hits.count() / total;
+    }
+  }
+}
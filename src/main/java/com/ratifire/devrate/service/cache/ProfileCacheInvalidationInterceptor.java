@@ -0,0 +1,37 @@
+package com.ratifire.devrate.service.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Evicts the cached profile of the authenticated user after each successful mutating request to
+ * the profile endpoints. This covers the profile data changed outside {@code UserService}, such
+ * as specializations, masteries, skills, educations and achievements edited by their own IDs.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileCacheInvalidationInterceptor implements HandlerInterceptor {
+
+  private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+  private final ProfileCache profileCache;
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    if (ex != null || response.getStatus() >= 400 || READ_METHODS.contains(request.getMethod())) {
+      return;
+    }
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+      profileCache.evictAll(userId);
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.ratifire.devrate.service.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Shared second tier of the {@link ProfileCache}, holding serialized profile sections that are
+ * visible to all application nodes.
+ */
+public interface ProfileCacheStore {
+
+  /**
+   * Returns the value stored under the key.
+   *
+   * @param key the cache key
+   * @return the serialized value, or empty if the key is not present
+   */
+  Optional<String> get(String key);
+
+  /**
+   * Stores the value under the key for the given time.
+   *
+   * @param key   the cache key
+   * @param value the serialized value
+   * @param ttl   the time after which the value expires
+   */
+  void put(String key, String value, Duration ttl);
+
+  /**
+   * Removes the values stored under the keys.
+   *
+   * @param keys the cache keys
+   */
+  void delete(Collection<String> keys);
+}
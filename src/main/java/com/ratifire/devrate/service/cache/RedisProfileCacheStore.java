@@ -0,0 +1,35 @@
+package com.ratifire.devrate.service.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ProfileCacheStore} backed by Redis.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "profile-cache.l2.type", havingValue = "redis")
+public class RedisProfileCacheStore implements ProfileCacheStore {
+
+  private final StringRedisTemplate redisTemplate;
+
+  @Override
+  public Optional<String> get(String key) {
+    return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+  }
+
+  @Override
+  public void put(String key, String value, Duration ttl) {
+    redisTemplate.opsForValue().set(key, value, ttl);
+  }
+
+  @Override
+  public void delete(Collection<String> keys) {
+    redisTemplate.delete(keys);
+  }
+}
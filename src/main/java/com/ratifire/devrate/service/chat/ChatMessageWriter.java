@@ -0,0 +1,226 @@
+package com.ratifire.devrate.service.chat;
+
+import com.ratifire.devrate.dto.ChatMessageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind buffer for chat messages. Messages are accepted without touching the database and
+ * persisted by a background thread with JDBC batch inserts, once the batch is full or its oldest
+ * message waited for the flush interval. Conversation summaries of both participants are updated
+ * in the same transaction as the messages of the batch.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+  private static final String METRIC_PREFIX = "chat.messages";
+  private static final String INSERT_MESSAGE = "INSERT INTO messages "
+      + "(payload, sent_at, sender_id, receiver_id, status) VALUES (?, ?, ?, ?, ?)";
+  private static final String UPSERT_CONVERSATION = "INSERT INTO conversations (user_id, "
+      + "opponent_id, last_message, last_message_sender_id, last_message_at, unread_count) "
+      + "VALUES (?, ?, ?, ?, ?, ?) "
+      + "ON CONFLICT (user_id, opponent_id) DO UPDATE SET "
+      + "last_message = CASE WHEN conversations.last_message_at <= EXCLUDED.last_message_at "
+      + "THEN EXCLUDED.last_message ELSE conversations.last_message END, "
+      + "last_message_sender_id = CASE WHEN conversations.last_message_at "
+      + "<= EXCLUDED.last_message_at THEN EXCLUDED.last_message_sender_id "
+      + "ELSE conversations.last_message_sender_id END, "
+      + "last_message_at = GREATEST(conversations.last_message_at, EXCLUDED.last_message_at), "
+      + "unread_count = conversations.unread_count + EXCLUDED.unread_count";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<ChatMessageDto> queue;
+  private final int batchSize;
+  private final long flushIntervalMs;
+  private final long shutdownTimeoutMs;
+  private final Timer flushTimer;
+  private final DistributionSummary batchSizeSummary;
+  private final Counter persisted;
+  private final Counter dropped;
+  private final Thread flusher;
+  private volatile boolean running = true;
+
+  /**
+   * Constructs a ChatMessageWriter with the configured thresholds and registers its metrics.
+   */
+  public ChatMessageWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${chat.write-behind.capacity:10000}") int capacity,
+      @Value("${chat.write-behind.batch-size:200}") int batchSize,
+      @Value("${chat.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+      @Value("${chat.write-behind.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.batchSize = batchSize;
+    this.flushIntervalMs = flushIntervalMs;
+    this.shutdownTimeoutMs = shutdownTimeoutMs;
+    this.flushTimer = meterRegistry.timer(METRIC_PREFIX + ".flush");
+    this.batchSizeSummary = meterRegistry.summary(METRIC_PREFIX + ".flush.size");
+    this.persisted = meterRegistry.counter(METRIC_PREFIX + ".persisted");
+    this.dropped = meterRegistry.counter(METRIC_PREFIX + ".dropped");
+    Gauge.builder(METRIC_PREFIX + ".backlog", queue, BlockingQueue::size)
+        .register(meterRegistry);
+    this.flusher = new CustomizableThreadFactory("chat-writer-").newThread(this::run);
+  }
+
+  /**
+   * Starts the background flusher.
+   */
+  @PostConstruct
+  public void start() {
+    flusher.start();
+  }
+
+  /**
+   * Stops the flusher loop and waits until the buffered messages are persisted.
+   */
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    flusher.join(shutdownTimeoutMs);
+    if (!queue.isEmpty()) {
+      log.error("Chat writer stopped with {} unsaved messages", queue.size());
+    }
+  }
+
+  /**
+   * Accepts a message for persistence. When the buffer is full the message is written on the
+   * calling thread, so messages are never dropped because of back pressure.
+   *
+   * @param message the chat message to persist
+   */
+  public void write(ChatMessageDto message) {
+    if (!running || !queue.offer(message)) {
+      log.warn("Chat write-behind buffer is not accepting messages, writing synchronously");
+      flush(List.of(message));
+    }
+  }
+
+  private void run() {
+    List<ChatMessageDto> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        ChatMessageDto first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize && running) {
+          queue.drainTo(batch, batchSize - batch.size());
+          long remaining = deadline - System.nanoTime();
+          if (batch.size() >= batchSize || remaining <= 0) {
+            break;
+          }
+          ChatMessageDto next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+          if (next != null) {
+            batch.add(next);
+          }
+        }
+        queue.drainTo(batch, batchSize - batch.size());
+
+        flush(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      } catch (Exception e) {
+        log.error("Unexpected error in chat writer", e);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void flush(List<ChatMessageDto> batch) {
+    flushTimer.record(() -> {
+      try {
+        transactionTemplate.executeWithoutResult(status -> insert(batch));
+        persisted.increment(batch.size());
+      } catch (Exception e) {
+        log.warn("Batch insert of {} chat messages failed, retrying one by one: {}",
+            batch.size(), e.getMessage());
+        batch.forEach(this::flushSingle);
+      }
+    });
+    batchSizeSummary.record(batch.size());
+  }
+
+  private void flushSingle(ChatMessageDto message) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> insert(List.of(message)));
+      persisted.increment();
+    } catch (Exception e) {
+      dropped.increment();
+      log.error("Failed to persist chat message from user {} to user {}", message.getSenderId(),
+          message.getReceiverId(), e);
+    }
+  }
+
+  private void insert(List<ChatMessageDto> batch) {
+    jdbcTemplate.batchUpdate(INSERT_MESSAGE, batch, batch.size(),
+        (ps, message) -> {
+          ps.setString(1, message.getPayload());
+          ps.setTimestamp(2, Timestamp.from(message.getDateTime().toInstant()));
+          ps.setLong(3, message.getSenderId());
+          ps.setLong(4, message.getReceiverId());
+          ps.setString(5, message.getStatus());
+        });
+
+    jdbcTemplate.batchUpdate(UPSERT_CONVERSATION, toConversationUpdates(batch));
+  }
+
+  /**
+   * Merges the conversation updates of the batch per conversation, so no conversation is upserted
+   * twice by the same batch statement: the latest message of a conversation is kept and the
+   * unread messages of the conversation are summed up.
+   *
+   * @param batch the chat messages, in the order they were sent
+   * @return the upsert arguments, one row per conversation
+   */
+  static List<Object[]> toConversationUpdates(List<ChatMessageDto> batch) {
+    Map<ConversationKey, Object[]> updates = new LinkedHashMap<>();
+    for (ChatMessageDto message : batch) {
+      Timestamp sentAt = Timestamp.from(message.getDateTime().toInstant());
+      merge(updates, message.getSenderId(), message.getReceiverId(), message, sentAt, 0);
+      merge(updates, message.getReceiverId(), message.getSenderId(), message, sentAt, 1);
+    }
+    return new ArrayList<>(updates.values());
+  }
+
+  private static void merge(Map<ConversationKey, Object[]> updates, long userId, long opponentId,
+      ChatMessageDto message, Timestamp sentAt, int unread) {
+    Object[] update = new Object[]{userId, opponentId, message.getPayload(),
+        message.getSenderId(), sentAt, unread};
+    updates.merge(new ConversationKey(userId, opponentId), update, (previous, next) -> {
+      Object[] latest = ((Timestamp) next[4]).before((Timestamp) previous[4]) ? previous : next;
+      latest[5] = (int) previous[5] + (int) next[5];
+      return latest;
+    });
+  }
+
+  private record ConversationKey(long userId, long opponentId) {
+  }
+}
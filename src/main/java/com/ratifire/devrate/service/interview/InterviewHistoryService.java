@@ -2,14 +2,17 @@ package com.ratifire.devrate.service.interview;
 
 import com.ratifire.devrate.dto.InterviewFeedbackDto;
 import com.ratifire.devrate.dto.InterviewHistoryDto;
+import com.ratifire.devrate.dto.InterviewHistoryKeysetPageDto;
 import com.ratifire.devrate.dto.InterviewStatsConductedPassedByDateDto;
 import com.ratifire.devrate.dto.SkillFeedbackDto;
+import com.ratifire.devrate.dto.projection.InterviewHistoryListProjection;
 import com.ratifire.devrate.dto.projection.UserNameProjection;
 import com.ratifire.devrate.entity.Mastery;
 import com.ratifire.devrate.entity.User;
 import com.ratifire.devrate.entity.interview.Interview;
 import com.ratifire.devrate.entity.interview.InterviewHistory;
 import com.ratifire.devrate.enums.InterviewRequestRole;
+import com.ratifire.devrate.enums.InterviewStatsBucket;
 import com.ratifire.devrate.enums.SkillType;
 import com.ratifire.devrate.enums.TimeSlotStatus;
 import com.ratifire.devrate.exception.InterviewHistoryNotFoundException;
@@ -21,9 +24,9 @@ import com.ratifire.devrate.security.helper.UserContextProvider;
 import com.ratifire.devrate.service.EventService;
 import com.ratifire.devrate.service.MasteryService;
 import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,8 +35,6 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,6 +45,9 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class InterviewHistoryService {
 
+  private static final ZonedDateTime KEYSET_START_DATE_TIME =
+      ZonedDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
   private final InterviewService interviewService;
   private final MasteryService masteryService;
   private final InterviewHistoryRepository interviewHistoryRepository;
@@ -52,6 +56,7 @@ public class InterviewHistoryService {
   private final UserRepository userRepository;
   private final EventService eventService;
   private final InterviewRequestTimeSlotRepository timeSlotRepository;
+  private final InterviewStatsService interviewStatsService;
 
   /**
    * Retrieves an InterviewSummary entity by its identifier.
@@ -81,15 +86,55 @@ public class InterviewHistoryService {
   }
 
   /**
-   * Retrieves all InterviewHistory entities associated with the authenticated user.
+   * Retrieves a page of the authenticated user's interview histories. Only the list-view columns
+   * are read; evaluated skills are available through {@link #findByIdAndUserId(long)}.
    *
-   * @return a list of InterviewHistory entities linked to the current user.
+   * @return a page of interview histories linked to the current user.
    */
   public Page<InterviewHistoryDto> getAllByUserId(int page, int size) {
     long userId = userContextProvider.getAuthenticatedUserId();
-    Pageable pageable = PageRequest.of(page, size, Sort.by("dateTime").descending());
-    return interviewHistoryRepository.findAllByUserIdAndIsVisibleTrue(userId, pageable)
-        .map(this::constructInterviewHistoryDto);
+    return interviewHistoryRepository.findListViewByUserId(userId, PageRequest.of(page, size))
+        .map(this::constructInterviewHistoryListDto);
+  }
+
+  /**
+   * Retrieves the authenticated user's interview histories that precede the given position, using
+   * keyset pagination. Histories are ordered by date and id, newest first.
+   *
+   * @param beforeDateTime the date of the last history of the previous page, or null for the first
+   *                       page
+   * @param beforeId       the id of the last history of the previous page, or null for the first
+   *                       page
+   * @param size           the maximum number of histories to return
+   * @return a page of interview histories with the position of the next page
+   */
+  public InterviewHistoryKeysetPageDto getAllByUserIdBefore(ZonedDateTime beforeDateTime,
+      Long beforeId, int size) {
+    long userId = userContextProvider.getAuthenticatedUserId();
+    boolean firstPage = beforeDateTime == null || beforeId == null;
+    List<InterviewHistoryListProjection> rows = interviewHistoryRepository
+        .findListViewByUserIdBefore(userId,
+            firstPage ? KEYSET_START_DATE_TIME : beforeDateTime,
+            firstPage ? Long.MAX_VALUE : beforeId,
+            PageRequest.of(0, size + 1));
+
+    boolean hasNext = rows.size() > size;
+    List<InterviewHistoryListProjection> content = hasNext ? rows.subList(0, size) : rows;
+    InterviewHistoryListProjection last = content.isEmpty() ? null : content.getLast();
+
+    return InterviewHistoryKeysetPageDto.builder()
+        .content(content.stream().map(this::constructInterviewHistoryListDto).toList())
+        .nextDateTime(hasNext ? last.getDateTime() : null)
+        .nextId(hasNext ? last.getId() : null)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  private InterviewHistoryDto constructInterviewHistoryListDto(
+      InterviewHistoryListProjection interviewHistory) {
+    int candidateMasteryLevel = interviewHistory.getRole() == InterviewRequestRole.CANDIDATE
+        ? interviewHistory.getMasteryLevel() : interviewHistory.getAttendeeMasteryLevel();
+    return interviewHistoryMapper.toListDto(interviewHistory, candidateMasteryLevel);
   }
 
   private InterviewHistoryDto constructInterviewHistoryDto(InterviewHistory interviewHistory) {
@@ -114,6 +159,7 @@ public class InterviewHistoryService {
 
     userRepository.saveAll(users);
     interviewHistoryRepository.delete(interviewHistory);
+    interviewStatsService.remove(interviewHistory);
   }
 
   /**
@@ -211,6 +257,7 @@ public class InterviewHistoryService {
 
     List<InterviewHistory> savedInterviewHistories = interviewHistoryRepository.saveAll(
         List.of(currentInterviewHistory, oppositeInterviewHistory));
+    interviewStatsService.record(savedInterviewHistories);
 
     Long currentInterviewHistoryId = savedInterviewHistories.stream()
         .filter(i -> i.getInterviewId() == currentInterviewId)
@@ -265,36 +312,18 @@ public class InterviewHistoryService {
   }
 
   /**
-   * Counts the number of conducted and passed interviews for the specified user within a given date
-   * range.
+   * Counts the number of conducted and passed interviews for the authenticated user within a given
+   * date range, grouped by day, week or month in the given time zone.
    *
-   * @param from the start date of the date range (inclusive)
-   * @param to   the end date of the date range (inclusive)
-   * @return a list with the count of conducted and passed interviews per date.
+   * @param from   the start date of the date range (inclusive)
+   * @param to     the end date of the date range (inclusive)
+   * @param bucket the period by which the interviews are grouped
+   * @param zone   the time zone of the user
+   * @return a list with the count of conducted and passed interviews per period.
    */
   public List<InterviewStatsConductedPassedByDateDto> getInterviewsConductedPassed(
-      ZonedDateTime from, ZonedDateTime to) {
+      ZonedDateTime from, ZonedDateTime to, InterviewStatsBucket bucket, ZoneId zone) {
     long userId = userContextProvider.getAuthenticatedUserId();
-
-    List<InterviewHistory> interviewHistories = interviewHistoryRepository
-        .findByUserIdAndDateTimeBetween(userId, from, to);
-
-    Map<ZonedDateTime, InterviewStatsConductedPassedByDateDto> interviewStats = new HashMap<>();
-
-    for (InterviewHistory interview : interviewHistories) {
-      ZonedDateTime date = interview.getDateTime();
-      interviewStats.putIfAbsent(date, new InterviewStatsConductedPassedByDateDto(date, 0, 0));
-
-      if (InterviewRequestRole.CANDIDATE == interview.getRole()) {
-        interviewStats.get(date).setPassed(interviewStats.get(date).getPassed() + 1);
-      }
-
-      if (InterviewRequestRole.INTERVIEWER == interview.getRole()) {
-        interviewStats.get(date).setConducted(interviewStats.get(date).getConducted() + 1);
-      }
-    }
-
-    return interviewStats.values().stream()
-        .sorted(Comparator.comparing(InterviewStatsConductedPassedByDateDto::getDate)).toList();
+    return interviewStatsService.getConductedPassed(userId, from, to, bucket, zone);
   }
-}
\ No newline at end of file
+}
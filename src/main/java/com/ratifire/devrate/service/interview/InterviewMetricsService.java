@@ -3,22 +3,21 @@ package com.ratifire.devrate.service.interview;
 import static com.ratifire.devrate.enums.InterviewRequestRole.CANDIDATE;
 import static com.ratifire.devrate.enums.InterviewRequestRole.INTERVIEWER;
 
+import com.ratifire.devrate.dto.projection.MasteryMarksProjection;
 import com.ratifire.devrate.entity.Mastery;
-import com.ratifire.devrate.entity.Skill;
 import com.ratifire.devrate.entity.Specialization;
 import com.ratifire.devrate.entity.User;
 import com.ratifire.devrate.entity.interview.InterviewHistory;
 import com.ratifire.devrate.enums.InterviewRequestRole;
-import com.ratifire.devrate.enums.SkillType;
 import com.ratifire.devrate.repository.MasteryRepository;
 import com.ratifire.devrate.repository.SkillRepository;
 import com.ratifire.devrate.repository.SpecializationRepository;
 import com.ratifire.devrate.service.MasteryHistoryService;
 import com.ratifire.devrate.service.UserService;
+import com.ratifire.devrate.service.cache.ProfileCache;
+import com.ratifire.devrate.util.JsonConverter;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -39,6 +38,7 @@ public class InterviewMetricsService {
   private final SpecializationRepository specializationRepository;
   private final MasteryRepository masteryRepository;
   private final SkillRepository skillRepository;
+  private final ProfileCache profileCache;
 
 
   /**
@@ -67,15 +67,10 @@ public class InterviewMetricsService {
     incrementTotalInterviewCounters(interviewer.getUserId(), candidate.getUserId());
     incrementInterviewCountersBySpecialization(interviewerMastery, candidateMastery);
 
-    Map<String, BigDecimal> interviewerEvaluatedSkills = interviewer.getSoftSkills();
-    Map<String, BigDecimal> candidateEvaluatedSkills = new HashMap<>(candidate.getSoftSkills());
-    candidateEvaluatedSkills.putAll(candidate.getHardSkills());
-
-    updateSkillMarks(interviewerEvaluatedSkills, interviewerMasteryId);
-    updateSkillMarks(candidateEvaluatedSkills, candidateMasteryId);
-
-    updateMasteryAverageMark(interviewerMastery, INTERVIEWER);
-    updateMasteryAverageMark(candidateMastery, CANDIDATE);
+    updateSkillMarks(collectSkillMarks(interviewer, candidate));
+    refreshMasteryMarks(List.of(interviewerMastery, candidateMastery));
+    profileCache.evictAll(interviewer.getUserId());
+    profileCache.evictAll(candidate.getUserId());
   }
 
   /**
@@ -123,128 +118,64 @@ public class InterviewMetricsService {
   }
 
   /**
-   * Updates the average mark for a given mastery based on the specified skill type.
+   * Collects the marks given during the interview: the soft skills of both participants and the
+   * hard skills of the candidate, each with the mastery it belongs to.
    *
-   * @param mastery   the mastery entity whose average mark is to be updated
-   * @param skillType the type of skill (soft or hard) to filter and update the average mark
+   * @param interviewer the interview history of the interviewer
+   * @param candidate   the interview history of the candidate
+   * @return the evaluated skills of both interview participants
    */
-  public void updateMasteryAverageMark(Mastery mastery, SkillType skillType) {
-    List<Skill> skills = mastery.getSkills().stream()
-        .filter(s -> s.getType() == skillType)
-        .toList();
-
-    BigDecimal updatedAverageMark = computeMasteryAverageMark(skills);
-
-    if (skillType == SkillType.SOFT_SKILL) {
-      mastery.setSoftSkillMark(updatedAverageMark);
-    } else {
-      mastery.setHardSkillMark(updatedAverageMark);
-    }
+  static List<SkillMark> collectSkillMarks(InterviewHistory interviewer,
+      InterviewHistory candidate) {
+    List<SkillMark> evaluatedSkills = new ArrayList<>();
+    interviewer.getSoftSkills().forEach((name, mark) ->
+        evaluatedSkills.add(new SkillMark(interviewer.getMasteryId(), name, mark)));
+    candidate.getSoftSkills().forEach((name, mark) ->
+        evaluatedSkills.add(new SkillMark(candidate.getMasteryId(), name, mark)));
+    candidate.getHardSkills().forEach((name, mark) ->
+        evaluatedSkills.add(new SkillMark(candidate.getMasteryId(), name, mark)));
+    return evaluatedSkills;
   }
 
   /**
-   * Updates the average mark for a given mastery based on the specified user role during an
-   * interview.
+   * Adds the new marks to the running sums of the evaluated skills with a single set-based update.
+   * Skill averages, counters and growth flags are derived from the sums in the same statement, and
+   * the mastery sums and marks are adjusted by the database triggers on the skills table.
    *
-   * @param mastery the mastery entity whose average mark is to be updated
-   * @param role    the role of the user during the interview
+   * @param evaluatedSkills the evaluated skills of both interview participants
    */
-  public void updateMasteryAverageMark(Mastery mastery, InterviewRequestRole role) {
-    if (ObjectUtils.isEmpty(mastery)) {
-      throw new IllegalStateException("Not enough providing interview data");
-    }
-
-    Map<SkillType, List<Skill>> skillsByType = mastery.getSkills().stream()
-        .collect(Collectors.groupingBy(Skill::getType));
+  private void updateSkillMarks(List<SkillMark> evaluatedSkills) {
+    int updatedSkills = skillRepository.applyMarks(JsonConverter.serialize(evaluatedSkills));
 
-    BigDecimal updatedSoftSkillMark = computeMasteryAverageMark(
-        skillsByType.getOrDefault(SkillType.SOFT_SKILL, List.of()));
-    mastery.setSoftSkillMark(updatedSoftSkillMark);
-
-    if (role == CANDIDATE) {
-      BigDecimal updatedHardSkillMark = computeMasteryAverageMark(
-          skillsByType.getOrDefault(SkillType.HARD_SKILL, List.of()));
-      mastery.setHardSkillMark(updatedHardSkillMark);
+    if (updatedSkills != evaluatedSkills.size()) {
+      throw new IllegalArgumentException("Not all skills were found for masteryIds: "
+          + evaluatedSkills.stream().map(SkillMark::masteryId).distinct().toList());
     }
-
-    masteryRepository.save(mastery);
-    masteryHistoryService.saveHistory(mastery);
   }
 
   /**
-   * Computes the average mark for a list of skills.
+   * Reloads the marks maintained by the database into the given masteries and records them in the
+   * mastery history.
    *
-   * @param skills the list of Skill objects whose average marks are to be computed
-   * @return the computed average mark as a BigDecimal
+   * @param masteries the masteries whose skills were evaluated
    */
-  private BigDecimal computeMasteryAverageMark(List<Skill> skills) {
-    BigDecimal totalSkillMarks = skills.stream()
-        .map(Skill::getAverageMark)
-        .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-    if (skills.isEmpty()) {
-      return BigDecimal.ZERO;
-    }
-
-    return totalSkillMarks.divide(BigDecimal.valueOf(skills.size()), 2, RoundingMode.HALF_UP);
-  }
-
-  /**
-   * Updates the average marks and growth status of skills based on the provided map of skill IDs
-   * and their new marks.
-   *
-   * @param skillsMap a map where the key is the skill ID and the value is the new mark to be
-   *                  considered for updating the skill's average mark
-   */
-  private void updateSkillMarks(Map<String, BigDecimal> skillsMap, long masteryId) {
-    List<String> skillNames = new ArrayList<>(skillsMap.keySet());
-    List<Skill> skills = skillRepository.findByMasteryIdAndNameIn(masteryId, skillNames);
-
-    if (skills.size() != skillNames.size()) {
-      throw new IllegalArgumentException("Not all skills were found for masteryId: " + masteryId);
-    }
-
-    skills.forEach(skill -> {
-      BigDecimal newMark = skillsMap.get(skill.getName());
-      BigDecimal previousAverageMark = skill.getAverageMark();
-      long counter = skill.getCounter();
-
-      BigDecimal updatedAverageMark = counter > 0
-          ? computeSkillAverageMark(counter, previousAverageMark, newMark)
-          : newMark;
+  private void refreshMasteryMarks(List<Mastery> masteries) {
+    Map<Long, MasteryMarksProjection> marksById = masteryRepository.findMarksByIdIn(
+            masteries.stream().map(Mastery::getId).toList())
+        .stream()
+        .collect(Collectors.toMap(MasteryMarksProjection::getId, Function.identity()));
 
-      updateSkillGrowthStatus(skill, updatedAverageMark, counter + 1);
-      skillRepository.save(skill);
+    masteries.forEach(mastery -> {
+      MasteryMarksProjection marks = marksById.get(mastery.getId());
+      mastery.setSoftSkillMark(marks.getSoftSkillMark());
+      mastery.setHardSkillMark(marks.getHardSkillMark());
+      masteryHistoryService.saveHistory(mastery);
     });
   }
 
   /**
-   * Computes the new average mark for the skill.
-   *
-   * @param counter the current counter value for the skill
-   * @param oldMark the current average mark for the skill
-   * @param newMark the new mark to be added to the average
-   * @return the new calculated average mark
-   */
-  private BigDecimal computeSkillAverageMark(long counter, BigDecimal oldMark,
-      BigDecimal newMark) {
-    BigDecimal oldNumberOfMarks = oldMark.multiply(BigDecimal.valueOf(counter));
-    BigDecimal newNumberOfMarks = oldNumberOfMarks.add(newMark);
-    return newNumberOfMarks.divide(BigDecimal.valueOf(counter + 1), 2,
-        RoundingMode.HALF_UP);
-  }
-
-  /**
-   * Sets the mark, counter, and grows status for the skill.
-   *
-   * @param skill   the skill to be updated and saved
-   * @param mark    the new mark to set for the skill
-   * @param counter the new counter value to set for the skill
+   * A new mark given to a skill of a mastery during an interview.
    */
-  private void updateSkillGrowthStatus(Skill skill, BigDecimal mark, long counter) {
-    int comparisonResult = skill.getAverageMark().compareTo(mark);
-    skill.setGrows(comparisonResult <= 0);
-    skill.setAverageMark(mark);
-    skill.setCounter(counter);
+  record SkillMark(long masteryId, String name, BigDecimal mark) {
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package com.ratifire.devrate.service.interview;
+
+import com.ratifire.devrate.entity.User;
+import com.ratifire.devrate.repository.interview.InterviewRequestRepository;
+import com.ratifire.devrate.repository.interview.InterviewRequestTimeSlotRepository;
+import com.ratifire.devrate.service.notification.NotificationService;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Scheduled job that expires interview time slots and interview requests in bulk. Pending time
+ * slots in the past are marked as expired with set-based updates, and interview requests whose
+ * expiration date has passed are processed once: their owners are notified and the requests are
+ * removed from the matcher-service. Work is done in bounded chunks, each in its own transaction,
+ * and rows are locked with SKIP LOCKED so several application nodes can run the job concurrently.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterviewRequestExpiryScheduler {
+
+  private final InterviewRequestRepository interviewRequestRepository;
+  private final InterviewRequestTimeSlotRepository timeSlotRepository;
+  private final NotificationService notificationService;
+  private final MatcherServiceQueueSender matcherServiceQueueSender;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${interview-request.expiry.chunk-size:500}")
+  private int chunkSize;
+
+  /**
+   * Expires past time slots and processes expired interview requests.
+   */
+  @Scheduled(fixedDelayString = "${interview-request.expiry.interval-ms:60000}",
+      initialDelayString = "${interview-request.expiry.initial-delay-ms:30000}")
+  public void expire() {
+    ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+    int expiredTimeSlots = expireTimeSlots(now);
+    int expiredRequests = expireInterviewRequests(now);
+    if (expiredTimeSlots > 0 || expiredRequests > 0) {
+      log.info("Expired {} interview time slots and {} interview requests", expiredTimeSlots,
+          expiredRequests);
+    }
+  }
+
+  private int expireTimeSlots(ZonedDateTime now) {
+    int total = 0;
+    int updated;
+    do {
+      updated = transactionTemplate.execute(
+          status -> timeSlotRepository.expirePendingTimeSlots(now, chunkSize));
+      total += updated;
+    } while (updated == chunkSize);
+    return total;
+  }
+
+  private int expireInterviewRequests(ZonedDateTime now) {
+    int total = 0;
+    List<Long> ids;
+    do {
+      ids = transactionTemplate.execute(status -> processExpiredChunk(now));
+      deleteFromMatcher(ids);
+      total += ids.size();
+    } while (ids.size() == chunkSize);
+    return total;
+  }
+
+  private List<Long> processExpiredChunk(ZonedDateTime now) {
+    List<Long> ids = interviewRequestRepository.lockExpiredIds(now, chunkSize);
+    if (ids.isEmpty()) {
+      return ids;
+    }
+
+    interviewRequestRepository.markExpiryProcessed(ids, now);
+    interviewRequestRepository.findUsersByIdIn(ids).forEach(this::notifyExpiry);
+    return ids;
+  }
+
+  private void notifyExpiry(User user) {
+    try {
+      notificationService.sendInterviewRequestExpiry(user);
+    } catch (Exception e) {
+      log.error("Failed to send interview request expiry notification to user {}: {}",
+          user.getId(), e.getMessage(), e);
+    }
+  }
+
+  private void deleteFromMatcher(List<Long> ids) {
+    try {
+      matcherServiceQueueSender.deleteAll(ids);
+    } catch (Exception e) {
+      log.error("Failed to send delete messages for expired interview requests {}: {}", ids,
+          e.getMessage(), e);
+    }
+  }
+}
@@ -20,16 +20,13 @@ import com.ratifire.devrate.mapper.impl.InterviewRequestTimeSlotMapper;
 import com.ratifire.devrate.repository.interview.InterviewRequestRepository;
 import com.ratifire.devrate.repository.interview.InterviewRequestTimeSlotRepository;
 import com.ratifire.devrate.security.helper.UserContextProvider;
-import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -93,10 +90,10 @@ public class InterviewRequestService {
    *
    * @return a list of {@link InterviewRequestViewDto} containing the details.
    */
+  @Transactional(readOnly = true)
   public List<InterviewRequestViewDto> getAll() {
     long userId = userContextProvider.getAuthenticatedUserId();
     List<InterviewRequest> interviewRequests = repository.findAllByUser_Id(userId);
-    updateExpiredTimeSlots(interviewRequests);
     return constructInterviewRequestViewDto(interviewRequests);
   }
 
@@ -106,35 +103,14 @@ public class InterviewRequestService {
    * @param masteryId the ID of the mastery to fetch interview requests for.
    * @return a list of {@link InterviewRequestViewDto} containing the details.
    */
+  @Transactional(readOnly = true)
   public List<InterviewRequestViewDto> getByMasteryId(long masteryId) {
     long userId = userContextProvider.getAuthenticatedUserId();
     List<InterviewRequest> interviewRequests = repository.findAllByMastery_IdAndUser_Id(masteryId,
         userId);
-    updateExpiredTimeSlots(interviewRequests);
     return constructInterviewRequestViewDto(interviewRequests);
   }
 
-  private void updateExpiredTimeSlots(List<InterviewRequest> interviewRequests) {
-    if (CollectionUtils.isEmpty(interviewRequests)) {
-      return;
-    }
-
-    ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
-    boolean hasExpiredSlots = false;
-    for (InterviewRequest request : interviewRequests) {
-      for (InterviewRequestTimeSlot slot : request.getTimeSlots()) {
-        if (TimeSlotStatus.PENDING == slot.getStatus() && slot.getDateTime().isBefore(now)) {
-          slot.setStatus(TimeSlotStatus.EXPIRED);
-          hasExpiredSlots = true;
-        }
-      }
-    }
-
-    if (hasExpiredSlots) {
-      repository.saveAll(interviewRequests);
-    }
-  }
-
   private List<InterviewRequestViewDto> constructInterviewRequestViewDto(
       List<InterviewRequest> interviewRequests) {
     List<Skill> skills = interviewRequests.stream()
@@ -181,6 +157,7 @@ public class InterviewRequestService {
     validateTimeSlots(requestDto.getTimeSlots(), requestDto.getDesiredInterview());
 
     long userId = userContextProvider.getAuthenticatedUserId();
+    validateTimeSlotConflicts(userId, requestDto.getTimeSlots(), List.of());
 
     InterviewRequest interviewRequest = mapper.toEntity(requestDto);
     interviewRequest.setUser(User.builder().id(userId).build());
@@ -233,12 +210,27 @@ public class InterviewRequestService {
       validateTimeSlots(pendingDateTime, requestDto.getDesiredInterview());
     }
 
+    if (isExpiryPostponed(interviewRequest, requestDto.getExpiredAt())) {
+      interviewRequest.setExpiryProcessedAt(null);
+    }
+
     mapper.updateEntity(requestDto, interviewRequest);
     repository.save(interviewRequest);
 
     matcherServiceQueueSender.update(interviewRequest);
   }
 
+  /**
+   * Checks whether an already expired request is moved to a future expiry date, so that the
+   * expiry scheduler processes it again once the new date is reached.
+   */
+  private boolean isExpiryPostponed(InterviewRequest interviewRequest,
+      ZonedDateTime newExpiredAt) {
+    return interviewRequest.getExpiryProcessedAt() != null
+        && newExpiredAt != null
+        && newExpiredAt.isAfter(ZonedDateTime.now());
+  }
+
   private void validateSkills(InterviewRequest interviewRequest) {
     List<Skill> skills = interviewRequest.getMastery().getSkills();
 
@@ -271,9 +263,36 @@ public class InterviewRequestService {
 
   }
 
+  /**
+   * Checks that none of the new time slots overlaps a scheduled interview of the user or another
+   * pending time slot of the interview request.
+   *
+   * @param userId       the ID of the user owning the interview request
+   * @param timeSlots    the time slots to add
+   * @param pendingSlots the pending time slots the interview request already has
+   */
+  private void validateTimeSlotConflicts(long userId, List<ZonedDateTime> timeSlots,
+      List<ZonedDateTime> pendingSlots) {
+    ZonedDateTime from = ZonedDateTime.now().minus(TimeSlotIntervalIndex.SLOT_DURATION);
+    TimeSlotIntervalIndex booked = TimeSlotIntervalIndex.of(timeSlotRepository
+        .findDateTimesByUserIdAndStatusAfter(userId, TimeSlotStatus.BOOKED, from));
+    TimeSlotIntervalIndex pending = TimeSlotIntervalIndex.of(pendingSlots);
+
+    for (ZonedDateTime timeSlot : timeSlots) {
+      if (booked.overlaps(timeSlot)) {
+        throw new InvalidInterviewRequestException("Time slot \"" + timeSlot
+            + "\" overlaps an interview that is already scheduled.");
+      }
+      if (!pending.add(timeSlot)) {
+        throw new InvalidInterviewRequestException("Time slot \"" + timeSlot
+            + "\" overlaps another time slot of the interview request.");
+      }
+    }
+  }
+
   /**
    * Updates the status and interview ID for time slots corresponding to the provided interviewer
-   * and candidate interview requests on the specified scheduled date.
+   * and candidate interview requests on the specified scheduled date with a single statement.
    *
    * @param interviewerRequestId the ID of the interviewer's {@link InterviewRequest}
    * @param candidateRequestId   the ID of the candidate's {@link InterviewRequest}
@@ -288,29 +307,13 @@ public class InterviewRequestService {
     Map<InterviewRequestRole, Long> roleToId = interviews.stream()
         .collect(Collectors.toMap(Interview::getRole, Interview::getId));
 
-    List<InterviewRequestTimeSlot> slotsToSave = Stream.of(
-            updateTimeSlot(interviewerRequestId, scheduledDate,
-                roleToId.get(InterviewRequestRole.INTERVIEWER)),
-            updateTimeSlot(candidateRequestId, scheduledDate,
-                roleToId.get(InterviewRequestRole.CANDIDATE))).filter(Objects::nonNull)
-        .collect(Collectors.toList());
-
-    timeSlotRepository.saveAll(slotsToSave);
-  }
-
-  private InterviewRequestTimeSlot updateTimeSlot(long requestId, ZonedDateTime scheduledDate,
-      Long interviewId) {
-    return timeSlotRepository
-        .findInterviewRequestTimeSlotsByInterviewRequestIdAndDateTime(requestId, scheduledDate)
-        .map(slot -> {
-          slot.setStatus(TimeSlotStatus.BOOKED);
-          slot.setInterviewId(interviewId);
-          return slot;
-        })
-        .orElseGet(() -> {
-          log.warn("Time slot not found for requestId: {} and date: {}", requestId, scheduledDate);
-          return null;
-        });
+    int updated = timeSlotRepository.bookTimeSlots(interviewerRequestId, candidateRequestId,
+        scheduledDate, roleToId.get(InterviewRequestRole.INTERVIEWER),
+        roleToId.get(InterviewRequestRole.CANDIDATE), TimeSlotStatus.BOOKED);
+    if (updated < 2) {
+      log.warn("Time slots not found for interviewer requestId: {}, candidate requestId: {} "
+          + "and date: {}", interviewerRequestId, candidateRequestId, scheduledDate);
+    }
   }
 
   /**
@@ -370,7 +373,7 @@ public class InterviewRequestService {
         .toList();
     List<InterviewRequest> updatedRequests = repository.findAllById(requestIds);
 
-    updatedRequests.forEach(matcherServiceQueueSender::update);
+    matcherServiceQueueSender.updateAll(updatedRequests);
   }
 
   /**
@@ -385,6 +388,12 @@ public class InterviewRequestService {
 
     validateSkills(interviewRequest);
 
+    List<ZonedDateTime> pendingSlots = interviewRequest.getTimeSlots().stream()
+        .filter(timeSlot -> TimeSlotStatus.PENDING == timeSlot.getStatus())
+        .map(InterviewRequestTimeSlot::getDateTime)
+        .toList();
+    validateTimeSlotConflicts(interviewRequest.getUser().getId(), dateTimes, pendingSlots);
+
     List<InterviewRequestTimeSlot> timeSlotsToAdd = dateTimes.stream()
         .map(dateTime -> InterviewRequestTimeSlot.builder()
             .interviewRequest(interviewRequest)
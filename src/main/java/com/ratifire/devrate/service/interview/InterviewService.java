@@ -19,7 +19,6 @@ import com.ratifire.devrate.entity.interview.Interview;
 import com.ratifire.devrate.entity.interview.InterviewRequest;
 import com.ratifire.devrate.enums.ConsentStatus;
 import com.ratifire.devrate.enums.InterviewRequestRole;
-import com.ratifire.devrate.enums.InterviewStatusIndicator;
 import com.ratifire.devrate.enums.MasteryLevel;
 import com.ratifire.devrate.enums.SkillType;
 import com.ratifire.devrate.exception.InterviewJoinTooEarlyException;
@@ -29,10 +28,9 @@ import com.ratifire.devrate.repository.interview.InterviewRepository;
 import com.ratifire.devrate.security.helper.UserContextProvider;
 import com.ratifire.devrate.service.EventService;
 import com.ratifire.devrate.service.MasteryService;
-import com.ratifire.devrate.service.MeetingService;
 import com.ratifire.devrate.service.UserService;
+import com.ratifire.devrate.service.meeting.MeetingRoomService;
 import com.ratifire.devrate.service.notification.NotificationService;
-import com.ratifire.devrate.service.snspublisher.SnsPublisherService;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -43,14 +41,12 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 
 /**
  * Service for handling Interview operations.
@@ -59,15 +55,9 @@ import org.springframework.util.CollectionUtils;
 @RequiredArgsConstructor
 public class InterviewService {
 
-  private static final int INTERVIEW_DURATION = 1;    // hours
   private static final int INTERVIEW_JOIN_EARLY_LIMIT_MINUTES = 5;
 
-  @Value("${aws.region}")
-  private String awsRegion;
-  @Value("${aws.s3.interview.video.bucket}")
-  private String awsS3InterviewVideoBucket;
-
-  private final MeetingService meetingService;
+  private final MeetingRoomService meetingRoomService;
   private final InterviewRequestService interviewRequestService;
   private final EventService eventService;
   private final UserService userService;
@@ -76,7 +66,8 @@ public class InterviewService {
   private final InterviewRepository interviewRepository;
   private final UserContextProvider userContextProvider;
   private final DataMapper<InterviewDto, Interview> mapper;
-  private final SnsPublisherService snsPublisherService;
+  private final MatcherMessageDeduplicationService matcherMessageDeduplicationService;
+  private final InterviewStatusIndicatorService statusIndicatorService;
 
   /**
    * Retrieves a single visible interview by id for the auth user.
@@ -173,83 +164,21 @@ public class InterviewService {
    * @return a list of {@link ClosestEventDto} objects representing the events starting from
    */
   public List<ClosestEventDto> findUpcomingEvents(ZonedDateTime from) {
-    long authUserId = userContextProvider.getAuthenticatedUserId();
-    User authUser = userService.findById(authUserId);
-
-    List<Event> upcomingEvents = authUser.getEvents().stream()
-        .filter(event -> !event.getStartTime().isBefore(from.withZoneSameInstant(ZoneId.of("UTC"))))
-        .toList();
-
-    if (upcomingEvents.isEmpty()) {
-      return List.of();
-    }
-
-    // Find and group interviews by event id
-    List<Long> eventIds = upcomingEvents.stream().map(Event::getId).toList();
-    List<Interview> allInterviews = interviewRepository.findByEventIdIn(eventIds);
-    Map<Long, List<Interview>> interviewsByEventId = allInterviews.stream()
-        .collect(Collectors.groupingBy(Interview::getEventId));
-
-    List<Long> opponentUserIds = allInterviews.stream()
-        .map(Interview::getUserId)
-        .filter(userId -> userId != authUserId)
-        .toList();
-
-    Map<Long, User> opponentById = userService.findByIds(opponentUserIds).stream()
-        .collect(Collectors.toMap(User::getId, user -> user));
-
-    return upcomingEvents.stream()
-        .map(event -> createClosestEventDto(event, interviewsByEventId.get(event.getId()),
-            authUserId, opponentById))
-        .filter(Objects::nonNull)
-        .toList();
-  }
-
-  private ClosestEventDto createClosestEventDto(Event event, List<Interview> eventInterviews,
-      long authUserId, Map<Long, User> opponentById) {
-    if (CollectionUtils.isEmpty(eventInterviews)) {
-      return null;
-    }
-
-    Interview authInterview = null;
-    Interview opponentInterview = null;
-    for (Interview interview : eventInterviews) {
-      if (interview.getUserId() == authUserId) {
-        authInterview = interview;
-      } else {
-        opponentInterview = interview;
-      }
-    }
-
-    if (authInterview == null || opponentInterview == null) {
-      return null;
-    }
-
-    User opponent = opponentById.get(opponentInterview.getUserId());
-    if (opponent == null) {
-      return null;
-    }
-
-    return ClosestEventDto.builder()
-        .id(event.getId())
-        .type(event.getType())
-        .startTime(event.getStartTime())
-        .hostId(opponent.getId())
-        .hostName(opponent.getFirstName())
-        .hostSurname(opponent.getLastName())
-        .title(event.getTitle())
-        .interviewId(authInterview.getId())
-        .role(authInterview.getRole())
-        .build();
+    return eventService.findUpcoming(userContextProvider.getAuthenticatedUserId(), from);
   }
 
   /**
    * Creates interviews and an associated event based on the given paired participant data.
    *
    * @param matchedUsers Data transfer object containing the details of paired participant.
+   * @return true if the interviews were created, false if the message was already processed
    */
   @Transactional
-  public void create(PairedParticipantDto matchedUsers) {
+  public boolean create(PairedParticipantDto matchedUsers) {
+    if (!matcherMessageDeduplicationService.markProcessed(matchedUsers)) {
+      return false;
+    }
+
     long interviewerId = matchedUsers.getInterviewerId();
     long candidateId = matchedUsers.getCandidateId();
     long interviewerRequestId = matchedUsers.getInterviewerParticipantId();
@@ -281,6 +210,7 @@ public class InterviewService {
     Interview candidate = buildInterview(candidateId, candidateRequestId, eventId, CANDIDATE,
         date, candidateRequestComment, candidateLanguageCode, candidateConsentStatus);
     List<Interview> interviews = interviewRepository.saveAll(List.of(interviewer, candidate));
+    statusIndicatorService.evict(List.of(interviewerId, candidateId));
 
     // TODO: need refactoring related to the interview list that use only for getting interviewIds
     //  for each users
@@ -294,6 +224,7 @@ public class InterviewService {
 
     sendInterviewScheduledAlerts(
         requestMap.get(interviewerRequestId), requestMap.get(candidateRequestId), date, interviews);
+    return true;
   }
 
   private String extractCommentForRole(List<InterviewRequest> requests, InterviewRequestRole role) {
@@ -331,6 +262,7 @@ public class InterviewService {
    */
   public void save(Interview interview) {
     interviewRepository.save(interview);
+    statusIndicatorService.evict(List.of(interview.getUserId()));
   }
 
   /**
@@ -345,6 +277,7 @@ public class InterviewService {
     interviewRequestService.markRejectedInterviewTimeSlotsAsPending(interviews);
 
     interviewRepository.deleteAll(interviews);
+    statusIndicatorService.evict(interviews.stream().map(Interview::getUserId).toList());
     eventService.delete(interviews.getFirst().getEventId());
     //TODO: add logic for deleting provider meeting room (if needed)
 
@@ -374,6 +307,7 @@ public class InterviewService {
   public void delete(long id) {
     List<Interview> interviews = interviewRepository.findInterviewPairById(id);
     interviewRepository.deleteAll(interviews);
+    statusIndicatorService.evict(interviews.stream().map(Interview::getUserId).toList());
   }
 
   /**
@@ -382,7 +316,9 @@ public class InterviewService {
    * @param ids the identifiers of the interview records to be deleted
    */
   public void deleteByIds(List<Long> ids) {
-    interviewRepository.deleteAllById(ids);
+    List<Interview> interviews = interviewRepository.findAllById(ids);
+    interviewRepository.deleteAll(interviews);
+    statusIndicatorService.evict(interviews.stream().map(Interview::getUserId).toList());
   }
 
 
@@ -562,44 +498,17 @@ public class InterviewService {
   /**
    * Determines the overall interview status for the currently authenticated user.
    */
-  public InterviewsOverallStatusDto getInterviewStatusIndicator(String userTimeZone) {
-    long authUserId = userContextProvider.getAuthenticatedUserId();
-
-    List<Interview> interviews = interviewRepository.findAllByUserIdAndIsVisibleTrue(authUserId);
-
-    if (interviews.isEmpty()) {
-      return new InterviewsOverallStatusDto(null);
-    }
-
-    ZoneId userZoneId = ZoneId.of(userTimeZone);
-    ZonedDateTime now = ZonedDateTime.now(userZoneId);
-
-    boolean inProgress = interviews.stream()
-        .map(Interview::getStartTime)
-        .map(start -> start.withZoneSameInstant(userZoneId))
-        .anyMatch(start -> now.isAfter(start) && now.isBefore(start.plusHours(INTERVIEW_DURATION)));
-    if (inProgress) {
-      return new InterviewsOverallStatusDto(InterviewStatusIndicator.IN_PROGRESS);
-    }
-
-    boolean awaitingFeedback = interviews.stream()
-        .map(Interview::getStartTime)
-        .map(start -> start.withZoneSameInstant(userZoneId))
-        .anyMatch(start -> now.isAfter(start.plusHours(INTERVIEW_DURATION)));
-    if (awaitingFeedback) {
-      return new InterviewsOverallStatusDto(InterviewStatusIndicator.AWAITING_FEEDBACK);
-    }
-
-    return new InterviewsOverallStatusDto(null);
+  public InterviewsOverallStatusDto getInterviewStatusIndicator() {
+    return statusIndicatorService.getStatus(userContextProvider.getAuthenticatedUserId());
   }
 
   /**
-   * Retrieves or creates a meeting room link for the interview pair.
+   * Retrieves the meeting room link for the interview pair. The room is usually created ahead of
+   * time and is only created here when the interview has none yet.
    *
    * @param id ID of the interview for which the meeting link is requested.
    * @return A valid meeting room URL.
    */
-  @Transactional
   public String resolveMeetingUrl(long id) {
     Interview interview =
         interviewRepository.findByIdAndUserId(id, userContextProvider.getAuthenticatedUserId())
@@ -611,32 +520,6 @@ public class InterviewService {
       throw new InterviewJoinTooEarlyException();
     }
 
-    if (interview.getRoomUrl() != null) {
-      return interview.getRoomUrl();
-    }
-
-    String roomUrl = meetingService.createMeeting();
-
-    String fileName = String.format(
-        "%d/%02d/%02d/Meeting_%d_%d.mp4",
-        startTime.getYear(),
-        startTime.getMonthValue(),
-        startTime.getDayOfMonth(),
-        interview.getEventId(),
-        System.currentTimeMillis()
-    );
-
-    String videoUrl = String.format(
-        "https://%s.s3.%s.amazonaws.com/%s",
-        awsS3InterviewVideoBucket,
-        awsRegion,
-        fileName
-    );
-
-    interviewRepository.updateInterviewsRoomUrlByEventId(interview.getEventId(), roomUrl, videoUrl);
-
-    snsPublisherService.publishMeetingStarting(roomUrl, fileName);
-
-    return roomUrl;
+    return meetingRoomService.join(interview.getEventId(), startTime);
   }
 }
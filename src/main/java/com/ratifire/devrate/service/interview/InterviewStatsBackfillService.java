@@ -0,0 +1,71 @@
+package com.ratifire.devrate.service.interview;
+
+import com.ratifire.devrate.repository.interview.InterviewStatsHourlyRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Job that rebuilds the interview statistics rollup from the interview histories. Users are
+ * processed in id order in batches; the rollup rows of each batch are replaced in a single
+ * transaction, so the job can be re-run safely at any time.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "interview-stats.backfill.enabled", havingValue = "true")
+public class InterviewStatsBackfillService {
+
+  private final InterviewStatsHourlyRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  /**
+   * Constructs an InterviewStatsBackfillService with the configured batch size.
+   */
+  public InterviewStatsBackfillService(InterviewStatsHourlyRepository repository,
+      TransactionTemplate transactionTemplate,
+      @Value("${interview-stats.backfill.batch-size:200}") int batchSize) {
+    this.repository = repository;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Rebuilds the rollup for all users once the application has started.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    long lastUserId = 0;
+    int users = 0;
+    List<Long> batch;
+
+    do {
+      batch = repository.findHistoryUserIdsAfter(lastUserId, batchSize);
+      if (batch.isEmpty()) {
+        break;
+      }
+      try {
+        rebuild(batch);
+        users += batch.size();
+      } catch (Exception e) {
+        log.error("Failed to rebuild interview statistics of users {}..{}: {}", batch.getFirst(),
+            batch.getLast(), e.getMessage());
+      }
+      lastUserId = batch.getLast();
+    } while (batch.size() == batchSize);
+
+    log.info("Rebuilt interview statistics of {} users", users);
+  }
+
+  private void rebuild(List<Long> userIds) {
+    transactionTemplate.executeWithoutResult(status -> {
+      repository.deleteAllByUserIdIn(userIds);
+      repository.insertFromHistories(userIds);
+    });
+  }
+}
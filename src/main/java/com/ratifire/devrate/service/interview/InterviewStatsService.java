@@ -0,0 +1,110 @@
+package com.ratifire.devrate.service.interview;
+
+import com.ratifire.devrate.dto.InterviewStatsConductedPassedByDateDto;
+import com.ratifire.devrate.entity.interview.InterviewHistory;
+import com.ratifire.devrate.entity.interview.InterviewStatsHourly;
+import com.ratifire.devrate.enums.InterviewRequestRole;
+import com.ratifire.devrate.enums.InterviewStatsBucket;
+import com.ratifire.devrate.repository.interview.InterviewStatsHourlyRepository;
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for maintaining and reading the interview statistics rollup. The rollup keeps the number
+ * of interviews per user, role and UTC hour, so statistics for any period and time zone are
+ * assembled from a few counters instead of the interview histories themselves.
+ */
+@Service
+@RequiredArgsConstructor
+public class InterviewStatsService {
+
+  private final InterviewStatsHourlyRepository repository;
+
+  /**
+   * Adds the given interview histories to the rollup.
+   *
+   * @param interviewHistories the newly created interview histories
+   */
+  public void record(Collection<InterviewHistory> interviewHistories) {
+    interviewHistories.forEach(history -> apply(history, 1));
+  }
+
+  /**
+   * Removes the given interview history from the rollup.
+   *
+   * @param interviewHistory the interview history being deleted
+   */
+  public void remove(InterviewHistory interviewHistory) {
+    apply(interviewHistory, -1);
+  }
+
+  /**
+   * Counts the conducted and passed interviews of the user within the given range, grouped by the
+   * requested period in the given time zone. The range is matched with hourly precision.
+   *
+   * @param userId the ID of the user
+   * @param from   the start of the range (inclusive)
+   * @param to     the end of the range (inclusive)
+   * @param bucket the period by which the interviews are grouped
+   * @param zone   the time zone in which the periods start
+   * @return a list with the count of conducted and passed interviews per period, ordered by date
+   */
+  @Transactional(readOnly = true)
+  public List<InterviewStatsConductedPassedByDateDto> getConductedPassed(long userId,
+      ZonedDateTime from, ZonedDateTime to, InterviewStatsBucket bucket, ZoneId zone) {
+    List<InterviewStatsHourly> rows = repository.findByUserIdAndBucketStartBetween(userId,
+        toHour(from), to);
+
+    Map<ZonedDateTime, InterviewStatsConductedPassedByDateDto> statsByDate = new TreeMap<>();
+    for (InterviewStatsHourly row : rows) {
+      ZonedDateTime date = bucketStart(row.getBucketStart(), bucket, zone);
+      InterviewStatsConductedPassedByDateDto stats = statsByDate.computeIfAbsent(date,
+          key -> new InterviewStatsConductedPassedByDateDto(key, 0, 0));
+
+      if (InterviewRequestRole.CANDIDATE == row.getRole()) {
+        stats.setPassed(stats.getPassed() + row.getInterviews());
+      }
+
+      if (InterviewRequestRole.INTERVIEWER == row.getRole()) {
+        stats.setConducted(stats.getConducted() + row.getInterviews());
+      }
+    }
+
+    return new ArrayList<>(statsByDate.values());
+  }
+
+  private void apply(InterviewHistory interviewHistory, int delta) {
+    if (interviewHistory.getRole() == null) {
+      return;
+    }
+    repository.increment(interviewHistory.getUserId(), interviewHistory.getRole().name(),
+        toHour(interviewHistory.getDateTime()), delta);
+  }
+
+  private static ZonedDateTime toHour(ZonedDateTime dateTime) {
+    return dateTime.withZoneSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+  }
+
+  static ZonedDateTime bucketStart(ZonedDateTime hour, InterviewStatsBucket bucket,
+      ZoneId zone) {
+    ZonedDateTime local = hour.withZoneSameInstant(zone);
+    return switch (bucket) {
+      case DAY -> local.truncatedTo(ChronoUnit.DAYS);
+      case WEEK -> local.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+          .truncatedTo(ChronoUnit.DAYS);
+      case MONTH -> local.with(TemporalAdjusters.firstDayOfMonth()).truncatedTo(ChronoUnit.DAYS);
+    };
+  }
+}
@@ -0,0 +1,139 @@
+package com.ratifire.devrate.service.interview;
+
+import com.ratifire.devrate.dto.InterviewsOverallStatusDto;
+import com.ratifire.devrate.enums.InterviewStatusIndicator;
+import com.ratifire.devrate.repository.interview.InterviewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service computing the overall interview status shown to users. The status is answered by the
+ * database with one indexed existence query per state, in UTC, and is kept per user in a small
+ * in-process cache for a short time. Creating, deleting or completing interviews evicts the
+ * status of the affected users; evictions inside a transaction are repeated once it commits.
+ */
+@Service
+public class InterviewStatusIndicatorService {
+
+  private static final String METRIC_PREFIX = "interview.status.indicator.cache";
+  private static final Duration INTERVIEW_DURATION = Duration.ofHours(1);
+
+  private final InterviewRepository interviewRepository;
+  private final int cacheSize;
+  private final Duration cacheTtl;
+  private final Map<Long, CachedStatus> cache;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+
+  /**
+   * Constructs an InterviewStatusIndicatorService with the configured cache bounds and registers
+   * its metrics.
+   */
+  public InterviewStatusIndicatorService(InterviewRepository interviewRepository,
+      MeterRegistry meterRegistry,
+      @Value("${interview-status-indicator.cache.max-size:10000}") int cacheSize,
+      @Value("${interview-status-indicator.cache.ttl:PT30S}") Duration cacheTtl) {
+    this.interviewRepository = interviewRepository;
+    this.cacheSize = cacheSize;
+    this.cacheTtl = cacheTtl;
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, CachedStatus> eldest) {
+        return size() > InterviewStatusIndicatorService.this.cacheSize;
+      }
+    };
+    this.cacheHits = meterRegistry.counter(METRIC_PREFIX + ".hits");
+    this.cacheMisses = meterRegistry.counter(METRIC_PREFIX + ".misses");
+  }
+
+  /**
+   * Returns the overall interview status of the user: in progress when one of the user's visible
+   * interviews is taking place now, awaiting feedback when one of them has already ended, and no
+   * status otherwise.
+   *
+   * @param userId the ID of the user
+   * @return the overall interview status
+   */
+  public InterviewsOverallStatusDto getStatus(long userId) {
+    CachedStatus cached = getCached(userId);
+    if (cached != null) {
+      cacheHits.increment();
+      return new InterviewsOverallStatusDto(cached.status());
+    }
+    cacheMisses.increment();
+
+    InterviewStatusIndicator status = load(userId);
+    synchronized (cache) {
+      cache.put(userId, new CachedStatus(status, Instant.now().plus(cacheTtl)));
+    }
+    return new InterviewsOverallStatusDto(status);
+  }
+
+  /**
+   * Evicts the cached status of the users.
+   *
+   * @param userIds the IDs of the users
+   */
+  public void evict(Collection<Long> userIds) {
+    List<Long> ids = List.copyOf(userIds);
+    evictKeys(ids);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictKeys(ids);
+        }
+      });
+    }
+  }
+
+  private InterviewStatusIndicator load(long userId) {
+    ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+    ZonedDateTime endedBefore = now.minus(INTERVIEW_DURATION);
+
+    if (interviewRepository.existsByUserIdAndIsVisibleTrueAndStartTimeAfterAndStartTimeBefore(
+        userId, endedBefore, now)) {
+      return InterviewStatusIndicator.IN_PROGRESS;
+    }
+    if (interviewRepository.existsByUserIdAndIsVisibleTrueAndStartTimeBefore(userId,
+        endedBefore)) {
+      return InterviewStatusIndicator.AWAITING_FEEDBACK;
+    }
+    return null;
+  }
+
+  private CachedStatus getCached(long userId) {
+    synchronized (cache) {
+      CachedStatus cached = cache.get(userId);
+      if (cached == null) {
+        return null;
+      }
+      if (Instant.now().isAfter(cached.expiresAt())) {
+        cache.remove(userId);
+        return null;
+      }
+      return cached;
+    }
+  }
+
+  private void evictKeys(List<Long> userIds) {
+    synchronized (cache) {
+      userIds.forEach(cache::remove);
+    }
+  }
+
+  private record CachedStatus(InterviewStatusIndicator status, Instant expiresAt) {
+  }
+}
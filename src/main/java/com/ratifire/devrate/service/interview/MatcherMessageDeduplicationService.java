@@ -0,0 +1,66 @@
+package com.ratifire.devrate.service.interview;
+
+import com.ratifire.devrate.dto.PairedParticipantDto;
+import com.ratifire.devrate.repository.interview.ProcessedMatcherMessageRepository;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service that makes processing of matcher-service messages idempotent. Each paired participants
+ * message is identified by the interviewer and candidate interview request ids and the interview
+ * date, and the key is recorded in the same transaction that creates the interviews, so a
+ * replayed message is skipped once the original one has been committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatcherMessageDeduplicationService {
+
+  private final ProcessedMatcherMessageRepository repository;
+
+  @Value("${matching-service.listener.dedup-retention:P14D}")
+  private Duration retention;
+
+  /**
+   * Records the message as processed within the current transaction.
+   *
+   * @param message the paired participants message
+   * @return true if the message is processed for the first time, false if it is a duplicate
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public boolean markProcessed(PairedParticipantDto message) {
+    return repository.insertIfAbsent(buildKey(message), ZonedDateTime.now(ZoneOffset.UTC)) > 0;
+  }
+
+  /**
+   * Removes idempotency keys that are older than the configured retention.
+   */
+  @Transactional
+  @Scheduled(cron = "${matching-service.listener.dedup-purge-cron:0 30 3 * * *}")
+  public void purgeExpired() {
+    int removed = repository.deleteAllProcessedBefore(
+        ZonedDateTime.now(ZoneOffset.UTC).minus(retention));
+    if (removed > 0) {
+      log.info("Removed {} processed matcher-service message keys", removed);
+    }
+  }
+
+  /**
+   * Builds the idempotency key of a paired participants message.
+   *
+   * @param message the paired participants message
+   * @return the idempotency key
+   */
+  public static String buildKey(PairedParticipantDto message) {
+    return message.getInterviewerParticipantId() + ":" + message.getCandidateParticipantId()
+        + ":" + message.getDate().toInstant().getEpochSecond();
+  }
+}
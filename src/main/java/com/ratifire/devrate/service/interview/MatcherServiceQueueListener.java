@@ -4,30 +4,53 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ratifire.devrate.dto.PairedParticipantDto;
 import io.awspring.cloud.sqs.annotation.SqsListener;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
- * Listener for handling messages from matcher-service.
+ * Listener for handling messages from matcher-service. Messages are consumed concurrently up to
+ * the configured limit; duplicates are detected by {@link MatcherMessageDeduplicationService}.
  */
+@Slf4j
 @Component
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class MatcherServiceQueueListener {
 
-  private ObjectMapper objectMapper;
-  private InterviewService interviewService;
+  private static final String METRIC_NAME = "matcher.listener.messages";
+
+  private final ObjectMapper objectMapper;
+  private final InterviewService interviewService;
+  private final MeterRegistry meterRegistry;
 
   /**
-   * Processes incoming messages from the queue.
+   * Processes incoming messages from the queue. A failed message is rethrown so that it becomes
+   * visible again and is redelivered by SQS.
    *
    * @param message the message payload
    */
-  @SqsListener("${matching-service.received-sqs-endpoint}")
+  @SqsListener(value = "${matching-service.received-sqs-endpoint}",
+      maxConcurrentMessages = "${matching-service.listener.max-concurrent-messages:10}",
+      maxMessagesPerPoll = "${matching-service.listener.max-messages-per-poll:10}")
   public void receiveMessage(String message) throws JsonProcessingException {
-    System.out.println("Message: " + message);
-    PairedParticipantDto pairedParticipantDto = objectMapper.readValue(message,
-        PairedParticipantDto.class);
-    System.out.println("Interview paired received: " + pairedParticipantDto);
-    interviewService.create(pairedParticipantDto);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "failed";
+    try {
+      PairedParticipantDto pairedParticipantDto = objectMapper.readValue(message,
+          PairedParticipantDto.class);
+      log.debug("Interview paired received: {}", pairedParticipantDto);
+      boolean created = interviewService.create(pairedParticipantDto);
+      outcome = created ? "processed" : "duplicate";
+      if (!created) {
+        log.info("Skipped already processed matcher-service message: {}", pairedParticipantDto);
+      }
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.error("Failed to process matcher-service message {}: {}", message, e.getMessage(), e);
+      throw e;
+    } finally {
+      sample.stop(meterRegistry.timer(METRIC_NAME, "outcome", outcome));
+    }
   }
 }
@@ -5,11 +5,16 @@ import com.ratifire.devrate.entity.interview.InterviewRequest;
 import com.ratifire.devrate.enums.SqsMessageType;
 import com.ratifire.devrate.mapper.impl.ParticipantRequestMapper;
 import com.ratifire.devrate.sender.InterviewRequestSqsSender;
+import com.ratifire.devrate.service.interview.matching.EmbeddedMatchingEngine;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 /**
- * Handles sending interview requests to the matcher-service queue.
+ * Handles sending interview requests to the matcher-service queue. When the embedded matching
+ * engine is enabled, the requests are passed to it instead.
  */
 @Component
 @RequiredArgsConstructor
@@ -17,6 +22,7 @@ public class MatcherServiceQueueSender {
 
   private final InterviewRequestSqsSender interviewRequestSqsSender;
   private final ParticipantRequestMapper mapper;
+  private final ObjectProvider<EmbeddedMatchingEngine> embeddedMatchingEngine;
 
   /**
    * Sends a create message to the queue.
@@ -24,6 +30,11 @@ public class MatcherServiceQueueSender {
    * @param request the interview request
    */
   public void create(InterviewRequest request) {
+    EmbeddedMatchingEngine engine = embeddedMatchingEngine.getIfAvailable();
+    if (engine != null) {
+      engine.submit(request);
+      return;
+    }
     ParticipantRequestDto dto = mapper.toDto(request);
     interviewRequestSqsSender.send(SqsMessageType.CREATE.name(), dto);
   }
@@ -34,19 +45,67 @@ public class MatcherServiceQueueSender {
    * @param request the interview request
    */
   public void update(InterviewRequest request) {
+    EmbeddedMatchingEngine engine = embeddedMatchingEngine.getIfAvailable();
+    if (engine != null) {
+      engine.submit(request);
+      return;
+    }
     ParticipantRequestDto dto = mapper.toDto(request);
     interviewRequestSqsSender.send(SqsMessageType.UPDATE.name(), dto);
   }
 
+  /**
+   * Sends update messages for several interview requests.
+   *
+   * @param requests the interview requests
+   */
+  public void updateAll(Collection<InterviewRequest> requests) {
+    if (requests.isEmpty()) {
+      return;
+    }
+    EmbeddedMatchingEngine engine = embeddedMatchingEngine.getIfAvailable();
+    if (engine != null) {
+      engine.submitAll(requests);
+      return;
+    }
+    interviewRequestSqsSender.sendAll(SqsMessageType.UPDATE.name(), requests.stream()
+        .map(mapper::toDto)
+        .toList());
+  }
+
   /**
    * Sends a delete message to the queue.
    *
    * @param interviewRequestId the id of the interview request that should be deleted
    */
   public void delete(long interviewRequestId) {
+    EmbeddedMatchingEngine engine = embeddedMatchingEngine.getIfAvailable();
+    if (engine != null) {
+      engine.removeAll(List.of(interviewRequestId));
+      return;
+    }
     ParticipantRequestDto dto = ParticipantRequestDto.builder()
         .id((int) interviewRequestId)
         .build();
     interviewRequestSqsSender.send(SqsMessageType.DELETE.name(), dto);
   }
+
+  /**
+   * Sends delete messages for several interview requests.
+   *
+   * @param interviewRequestIds the ids of the interview requests that should be deleted
+   */
+  public void deleteAll(Collection<Long> interviewRequestIds) {
+    if (interviewRequestIds.isEmpty()) {
+      return;
+    }
+    EmbeddedMatchingEngine engine = embeddedMatchingEngine.getIfAvailable();
+    if (engine != null) {
+      engine.removeAll(interviewRequestIds);
+      return;
+    }
+    interviewRequestSqsSender.sendAll(SqsMessageType.DELETE.name(), interviewRequestIds.stream()
+        .map(id -> ParticipantRequestDto.builder().id(id.intValue()).build())
+        .toList());
+  }
 }
@@ -0,0 +1,70 @@
+package com.ratifire.devrate.service.interview;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * In-memory index of the time slots of one user. Every slot is an interval of
+ * {@link #SLOT_DURATION} starting at its date and time; intervals are kept ordered by start, so
+ * overlap checks take logarithmic time.
+ *
+ * <p>The index is not thread-safe.
+ */
+public class TimeSlotIntervalIndex {
+
+  /**
+   * Duration of a time slot, equal to the duration of an interview.
+   */
+  public static final Duration SLOT_DURATION = Duration.ofHours(1);
+
+  private static final long SLOT_MILLIS = SLOT_DURATION.toMillis();
+
+  private final TreeSet<Long> starts = new TreeSet<>();
+
+  /**
+   * Creates an index holding the given time slots.
+   *
+   * @param dateTimes the start dates of the time slots
+   * @return the index
+   */
+  public static TimeSlotIntervalIndex of(Collection<ZonedDateTime> dateTimes) {
+    TimeSlotIntervalIndex index = new TimeSlotIntervalIndex();
+    dateTimes.forEach(dateTime -> index.starts.add(toMillis(dateTime)));
+    return index;
+  }
+
+  /**
+   * Returns whether a time slot starting at the given date overlaps an indexed time slot.
+   *
+   * @param dateTime the start date of the time slot
+   */
+  public boolean overlaps(ZonedDateTime dateTime) {
+    long start = toMillis(dateTime);
+    Long previous = starts.floor(start);
+    if (previous != null && previous + SLOT_MILLIS > start) {
+      return true;
+    }
+    Long next = starts.ceiling(start);
+    return next != null && next < start + SLOT_MILLIS;
+  }
+
+  /**
+   * Adds the time slot unless it overlaps an indexed time slot.
+   *
+   * @param dateTime the start date of the time slot
+   * @return true if the time slot was added, false if it overlaps
+   */
+  public boolean add(ZonedDateTime dateTime) {
+    if (overlaps(dateTime)) {
+      return false;
+    }
+    starts.add(toMillis(dateTime));
+    return true;
+  }
+
+  private static long toMillis(ZonedDateTime dateTime) {
+    return dateTime.toInstant().toEpochMilli();
+  }
+}
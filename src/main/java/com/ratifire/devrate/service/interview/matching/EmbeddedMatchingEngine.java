@@ -0,0 +1,285 @@
+package com.ratifire.devrate.service.interview.matching;
+
+import com.ratifire.devrate.dto.PairedParticipantDto;
+import com.ratifire.devrate.dto.ParticipantRequestDto;
+import com.ratifire.devrate.entity.interview.InterviewRequest;
+import com.ratifire.devrate.mapper.impl.ParticipantRequestMapper;
+import com.ratifire.devrate.repository.interview.InterviewRequestRepository;
+import com.ratifire.devrate.service.interview.InterviewService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-process alternative to the external matcher-service, enabled with
+ * {@code matching-service.engine=embedded}. Open interview requests are kept in a
+ * {@link MatchingIndex} that is mutated by a single thread, and every pair it makes is passed
+ * straight to {@link InterviewService#create(PairedParticipantDto)} on a separate worker pool.
+ *
+ * <p>Changes are applied after the transaction that made them commits, so pairs only refer to
+ * committed requests. The index is filled from the database when the application starts. When the
+ * interview of a pair cannot be created, both requests are reloaded from the database and added
+ * to the index again after a short delay.
+ *
+ * <p>The index lives in the memory of one application instance and only sees the requests
+ * changed by that instance, so the embedded engine supports a single instance only. It holds a
+ * PostgreSQL advisory lock on a dedicated connection while running, and an instance that cannot
+ * get the lock fails to start. Deployments with several instances use the matcher-service.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "matching-service.engine", havingValue = "embedded")
+public class EmbeddedMatchingEngine {
+
+  private static final String METRIC_PREFIX = "matcher.embedded";
+  private static final long INSTANCE_LOCK_KEY = 0x6d61746368L;
+
+  private final ObjectProvider<InterviewService> interviewService;
+  private final InterviewRequestRepository interviewRequestRepository;
+  private final ParticipantRequestMapper mapper;
+  private final TransactionTemplate transactionTemplate;
+  private final DataSource dataSource;
+  private final int warmUpBatchSize;
+  private final Duration retryDelay;
+  private final MatchingIndex index = new MatchingIndex();
+  private final ScheduledExecutorService indexExecutor;
+  private final ExecutorService deliveryExecutor;
+  private final Counter pairs;
+  private final Counter failures;
+  private Connection instanceLock;
+
+  /**
+   * Constructs an EmbeddedMatchingEngine with the configured worker pool and registers its
+   * metrics.
+   */
+  public EmbeddedMatchingEngine(ObjectProvider<InterviewService> interviewService,
+      InterviewRequestRepository interviewRequestRepository, ParticipantRequestMapper mapper,
+      TransactionTemplate transactionTemplate, DataSource dataSource, MeterRegistry meterRegistry,
+      @Value("${matching-service.embedded.delivery-pool-size:4}") int deliveryPoolSize,
+      @Value("${matching-service.embedded.warm-up-batch-size:500}") int warmUpBatchSize,
+      @Value("${matching-service.embedded.retry-delay:PT30S}") Duration retryDelay) {
+    this.interviewService = interviewService;
+    this.interviewRequestRepository = interviewRequestRepository;
+    this.mapper = mapper;
+    this.transactionTemplate = transactionTemplate;
+    this.dataSource = dataSource;
+    this.warmUpBatchSize = warmUpBatchSize;
+    this.retryDelay = retryDelay;
+    this.indexExecutor = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("matcher-index-"));
+    this.deliveryExecutor = Executors.newFixedThreadPool(deliveryPoolSize,
+        new CustomizableThreadFactory("matcher-delivery-"));
+    this.pairs = meterRegistry.counter(METRIC_PREFIX + ".pairs");
+    this.failures = meterRegistry.counter(METRIC_PREFIX + ".failures");
+    Gauge.builder(METRIC_PREFIX + ".open.requests", index, MatchingIndex::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Takes the advisory lock that keeps a second instance from running the embedded engine.
+   *
+   * @throws IllegalStateException if another instance holds the lock
+   */
+  @PostConstruct
+  public void acquireInstanceLock() {
+    try {
+      Connection connection = dataSource.getConnection();
+      if (tryAdvisoryLock(connection)) {
+        instanceLock = connection;
+        return;
+      }
+      connection.close();
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to lock the embedded matching engine", e);
+    }
+    throw new IllegalStateException("The embedded matching engine is already running in another "
+        + "instance; it supports a single instance only");
+  }
+
+  /**
+   * Adds or replaces the interview request and matches it against the open requests.
+   *
+   * @param request the interview request
+   */
+  public void submit(InterviewRequest request) {
+    ParticipantRequestDto dto = toOpenRequest(request);
+    afterCommit(() -> deliver(index.add(dto)));
+  }
+
+  /**
+   * Adds or replaces several interview requests.
+   *
+   * @param requests the interview requests
+   */
+  public void submitAll(Collection<InterviewRequest> requests) {
+    List<ParticipantRequestDto> dtos = requests.stream().map(this::toOpenRequest).toList();
+    afterCommit(() -> dtos.forEach(dto -> deliver(index.add(dto))));
+  }
+
+  /**
+   * Removes interview requests from the open requests.
+   *
+   * @param requestIds the IDs of the interview requests
+   */
+  public void removeAll(Collection<Long> requestIds) {
+    List<Long> ids = List.copyOf(requestIds);
+    afterCommit(() -> ids.forEach(id -> index.remove(id.intValue())));
+  }
+
+  /**
+   * Fills the index with the open interview requests once the application has started. Requests
+   * submitted in the meantime are kept as they are.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    long lastId = 0;
+    int loaded = 0;
+    List<ParticipantRequestDto> batch;
+
+    do {
+      long afterId = lastId;
+      batch = transactionTemplate.execute(status -> interviewRequestRepository
+          .findOpenAfter(afterId, PageRequest.of(0, warmUpBatchSize)).stream()
+          .map(this::toOpenRequest)
+          .toList());
+      if (batch.isEmpty()) {
+        break;
+      }
+      List<ParticipantRequestDto> requests = batch;
+      indexExecutor.execute(() -> requests.stream()
+          .filter(dto -> !index.contains(dto.getId()))
+          .forEach(dto -> deliver(index.add(dto))));
+      loaded += batch.size();
+      lastId = batch.getLast().getId();
+    } while (batch.size() == warmUpBatchSize);
+
+    log.info("Loaded {} open interview requests into the embedded matching engine", loaded);
+  }
+
+  /**
+   * Stops the engine, letting the pairs already made be delivered.
+   */
+  @PreDestroy
+  public void shutdown() {
+    indexExecutor.shutdown();
+    deliveryExecutor.shutdown();
+    try {
+      indexExecutor.awaitTermination(5, TimeUnit.SECONDS);
+      deliveryExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    releaseInstanceLock();
+  }
+
+  /**
+   * Maps the request for the index: only future pending dates are kept, and the desired
+   * interview count is reduced to the interviews that are still to be matched.
+   */
+  private ParticipantRequestDto toOpenRequest(InterviewRequest request) {
+    ParticipantRequestDto dto = mapper.toDto(request);
+    Date now = new Date();
+    dto.setDates(dto.getDates().stream()
+        .filter(date -> date.after(now))
+        .collect(Collectors.toSet()));
+    dto.setDesiredInterview(request.getDesiredInterview() - request.getMatchedInterview());
+    return dto;
+  }
+
+  private void afterCommit(Runnable task) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          indexExecutor.execute(task);
+        }
+      });
+    } else {
+      indexExecutor.execute(task);
+    }
+  }
+
+  private void deliver(List<PairedParticipantDto> made) {
+    made.forEach(pair -> deliveryExecutor.execute(() -> {
+      try {
+        interviewService.getObject().create(pair);
+        pairs.increment();
+      } catch (Exception e) {
+        failures.increment();
+        log.error("Failed to create the interview for embedded matcher pair {}: {}", pair,
+            e.getMessage(), e);
+        indexExecutor.schedule(() -> reindex(pair), retryDelay.toMillis(),
+            TimeUnit.MILLISECONDS);
+      }
+    }));
+  }
+
+  /**
+   * Frees the date of the failed pair and adds both requests again as they are stored now, so
+   * requests that were closed in the meantime are not matched again.
+   */
+  private void reindex(PairedParticipantDto pair) {
+    try {
+      index.release(pair);
+      List<Long> requestIds = List.of(pair.getInterviewerParticipantId(),
+          pair.getCandidateParticipantId());
+      List<ParticipantRequestDto> requests = transactionTemplate.execute(status ->
+          interviewRequestRepository.findOpenByIdIn(requestIds).stream()
+              .map(this::toOpenRequest)
+              .toList());
+      requests.forEach(dto -> deliver(index.add(dto)));
+    } catch (Exception e) {
+      log.error("Failed to add the requests of embedded matcher pair {} again: {}", pair,
+          e.getMessage(), e);
+    }
+  }
+
+  private static boolean tryAdvisoryLock(Connection connection) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(
+        "SELECT pg_try_advisory_lock(?)")) {
+      statement.setLong(1, INSTANCE_LOCK_KEY);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+
+  private void releaseInstanceLock() {
+    if (instanceLock == null) {
+      return;
+    }
+    try {
+      instanceLock.close();
+    } catch (SQLException e) {
+      log.warn("Failed to release the embedded matching engine lock: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,303 @@
+package com.ratifire.devrate.service.interview.matching;
+
+import com.ratifire.devrate.dto.PairedParticipantDto;
+import com.ratifire.devrate.dto.ParticipantRequestDto;
+import com.ratifire.devrate.enums.InterviewRequestRole;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * In-memory index of open interview requests that pairs candidates with interviewers.
+ *
+ * <p>Requests are indexed by specialization, role and time slot, and within a slot by mastery
+ * level. A candidate is paired with an interviewer of the same specialization whose mastery level
+ * is equal or higher, preferring the closest level; within a level the interviewer sharing the
+ * most hard skills and then the closest average mark is chosen, and older requests win ties.
+ * Participants blacklisted by either side, and participants already paired at the same time, are
+ * skipped.
+ *
+ * <p>Matching is incremental: a request is matched against the indexed requests when it is added,
+ * and only the part that could not be matched is indexed. No two indexed requests can therefore be
+ * paired with each other, so adding a request never needs to revisit the rest of the index.
+ *
+ * <p>The index is not thread-safe.
+ */
+public class MatchingIndex {
+
+  private final Map<Integer, Entry> entries = new HashMap<>();
+  private final Map<SlotKey, TreeMap<Integer, LinkedHashSet<Integer>>> slots = new HashMap<>();
+  private final Map<Long, Set<Long>> busyDates = new HashMap<>();
+  private final Map<Long, Integer> entriesByParticipant = new HashMap<>();
+  private final Map<String, Integer> skillBits = new HashMap<>();
+
+  /**
+   * Adds or replaces the request and pairs it with the indexed requests of the opposite role.
+   * The desired interview count of the request is the number of interviews still to be matched.
+   *
+   * @param request the open interview request
+   * @return the pairs made for the request, ordered by date
+   */
+  public List<PairedParticipantDto> add(ParticipantRequestDto request) {
+    remove(request.getId());
+
+    Entry entry = new Entry(request, toSkillMask(request.getHardSkills()));
+    if (entry.remaining <= 0 || entry.dates.isEmpty()) {
+      return List.of();
+    }
+
+    List<PairedParticipantDto> pairs = new ArrayList<>();
+    Iterator<Long> dates = entry.dates.iterator();
+    while (dates.hasNext() && entry.remaining > 0) {
+      long date = dates.next();
+      if (isBusy(entry.participantId, date)) {
+        continue;
+      }
+      Entry match = findMatch(entry, date);
+      if (match != null) {
+        dates.remove();
+        pairs.add(book(entry, match, date));
+      }
+    }
+
+    if (entry.remaining > 0 && !entry.dates.isEmpty()) {
+      index(entry);
+    } else if (!entriesByParticipant.containsKey(entry.participantId)) {
+      busyDates.remove(entry.participantId);
+    }
+    return pairs;
+  }
+
+  /**
+   * Removes the request from the index.
+   *
+   * @param requestId the ID of the interview request
+   */
+  public void remove(int requestId) {
+    Entry entry = entries.get(requestId);
+    if (entry != null) {
+      unindex(entry);
+    }
+  }
+
+  /**
+   * Frees the date of a pair whose interview could not be created, so both participants can be
+   * paired at that date again. The requests themselves have to be added again by the caller.
+   *
+   * @param pair the pair made by the index
+   */
+  public void release(PairedParticipantDto pair) {
+    long date = pair.getDate().toInstant().toEpochMilli();
+    releaseDate(pair.getInterviewerId(), date);
+    releaseDate(pair.getCandidateId(), date);
+  }
+
+  /**
+   * Returns whether the request is indexed.
+   *
+   * @param requestId the ID of the interview request
+   */
+  public boolean contains(int requestId) {
+    return entries.containsKey(requestId);
+  }
+
+  /**
+   * Returns the number of indexed requests.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  private Entry findMatch(Entry entry, long date) {
+    InterviewRequestRole opposite = entry.role == InterviewRequestRole.CANDIDATE
+        ? InterviewRequestRole.INTERVIEWER : InterviewRequestRole.CANDIDATE;
+    TreeMap<Integer, LinkedHashSet<Integer>> byLevel =
+        slots.get(new SlotKey(entry.specialization, opposite, date));
+    if (byLevel == null) {
+      return null;
+    }
+
+    NavigableMap<Integer, LinkedHashSet<Integer>> levels =
+        entry.role == InterviewRequestRole.CANDIDATE
+            ? byLevel.tailMap(entry.level, true)
+            : byLevel.headMap(entry.level, true).descendingMap();
+    for (LinkedHashSet<Integer> ids : levels.values()) {
+      Entry best = null;
+      int bestSharedSkills = -1;
+      for (int id : ids) {
+        Entry other = entries.get(id);
+        if (!isCompatible(entry, other, date)) {
+          continue;
+        }
+        int sharedSkills = countShared(entry.hardSkills, other.hardSkills);
+        if (sharedSkills > bestSharedSkills || (sharedSkills == bestSharedSkills
+            && markDistance(entry, other) < markDistance(entry, best))) {
+          best = other;
+          bestSharedSkills = sharedSkills;
+        }
+      }
+      if (best != null) {
+        return best;
+      }
+    }
+    return null;
+  }
+
+  private boolean isCompatible(Entry entry, Entry other, long date) {
+    return other.participantId != entry.participantId
+        && !entry.blackList.contains((int) other.participantId)
+        && !other.blackList.contains((int) entry.participantId)
+        && !isBusy(other.participantId, date);
+  }
+
+  private PairedParticipantDto book(Entry entry, Entry match, long date) {
+    busyDates.computeIfAbsent(entry.participantId, id -> new HashSet<>()).add(date);
+    busyDates.computeIfAbsent(match.participantId, id -> new HashSet<>()).add(date);
+    entry.remaining--;
+    match.remaining--;
+    match.dates.remove(date);
+    removeFromSlot(match, date);
+    if (match.remaining <= 0 || match.dates.isEmpty()) {
+      unindex(match);
+    }
+
+    Entry interviewer = entry.role == InterviewRequestRole.INTERVIEWER ? entry : match;
+    Entry candidate = interviewer == entry ? match : entry;
+    PairedParticipantDto pair = new PairedParticipantDto();
+    pair.setInterviewerId(interviewer.participantId);
+    pair.setCandidateId(candidate.participantId);
+    pair.setInterviewerParticipantId((long) interviewer.id);
+    pair.setCandidateParticipantId((long) candidate.id);
+    pair.setDate(ZonedDateTime.ofInstant(Instant.ofEpochMilli(date), ZoneOffset.UTC));
+    return pair;
+  }
+
+  private void index(Entry entry) {
+    entries.put(entry.id, entry);
+    entriesByParticipant.merge(entry.participantId, 1, Integer::sum);
+    for (long date : entry.dates) {
+      slots.computeIfAbsent(new SlotKey(entry.specialization, entry.role, date),
+              key -> new TreeMap<>())
+          .computeIfAbsent(entry.level, level -> new LinkedHashSet<>())
+          .add(entry.id);
+    }
+  }
+
+  private void unindex(Entry entry) {
+    if (entries.remove(entry.id) == null) {
+      return;
+    }
+    for (long date : entry.dates) {
+      removeFromSlot(entry, date);
+    }
+    if (entriesByParticipant.merge(entry.participantId, -1, Integer::sum) == 0) {
+      entriesByParticipant.remove(entry.participantId);
+      busyDates.remove(entry.participantId);
+    }
+  }
+
+  private void removeFromSlot(Entry entry, long date) {
+    SlotKey key = new SlotKey(entry.specialization, entry.role, date);
+    TreeMap<Integer, LinkedHashSet<Integer>> byLevel = slots.get(key);
+    if (byLevel == null) {
+      return;
+    }
+    LinkedHashSet<Integer> ids = byLevel.get(entry.level);
+    if (ids != null && ids.remove(entry.id) && ids.isEmpty()) {
+      byLevel.remove(entry.level);
+      if (byLevel.isEmpty()) {
+        slots.remove(key);
+      }
+    }
+  }
+
+  private void releaseDate(long participantId, long date) {
+    Set<Long> dates = busyDates.get(participantId);
+    if (dates != null && dates.remove(date) && dates.isEmpty()) {
+      busyDates.remove(participantId);
+    }
+  }
+
+  private boolean isBusy(long participantId, long date) {
+    Set<Long> dates = busyDates.get(participantId);
+    return dates != null && dates.contains(date);
+  }
+
+  /**
+   * Converts skill names into a bit mask, assigning every new skill name the next free bit, so
+   * shared skills are counted without comparing strings.
+   */
+  private long[] toSkillMask(Set<String> skills) {
+    if (skills == null || skills.isEmpty()) {
+      return new long[0];
+    }
+    int[] bits = skills.stream()
+        .mapToInt(skill -> skillBits.computeIfAbsent(skill, name -> skillBits.size()))
+        .toArray();
+    long[] mask = new long[Arrays.stream(bits).max().orElse(0) / Long.SIZE + 1];
+    for (int bit : bits) {
+      mask[bit / Long.SIZE] |= 1L << bit;
+    }
+    return mask;
+  }
+
+  private static int countShared(long[] first, long[] second) {
+    int shared = 0;
+    for (int i = 0; i < Math.min(first.length, second.length); i++) {
+      shared += Long.bitCount(first[i] & second[i]);
+    }
+    return shared;
+  }
+
+  private static double markDistance(Entry entry, Entry other) {
+    return other == null ? Double.MAX_VALUE : Math.abs(entry.averageMark - other.averageMark);
+  }
+
+  private record SlotKey(String specialization, InterviewRequestRole role, long date) {
+  }
+
+  /**
+   * Mutable state of an indexed request.
+   */
+  private static final class Entry {
+
+    private final int id;
+    private final long participantId;
+    private final InterviewRequestRole role;
+    private final String specialization;
+    private final int level;
+    private final long[] hardSkills;
+    private final double averageMark;
+    private final Set<Integer> blackList;
+    private final TreeSet<Long> dates = new TreeSet<>();
+    private int remaining;
+
+    Entry(ParticipantRequestDto request, long[] hardSkills) {
+      this.id = request.getId();
+      this.participantId = request.getParticipantId();
+      this.role = request.getRole();
+      this.specialization = request.getSpecialization();
+      this.level = request.getMasteryLevel();
+      this.hardSkills = hardSkills;
+      this.averageMark = request.getAverageMark();
+      this.blackList = request.getBlackList() != null ? request.getBlackList() : Set.of();
+      this.remaining = request.getDesiredInterview();
+      if (request.getDates() != null) {
+        request.getDates().stream().map(Date::getTime).forEach(dates::add);
+      }
+    }
+  }
+}
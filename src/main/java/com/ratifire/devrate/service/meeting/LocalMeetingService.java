@@ -0,0 +1,29 @@
+package com.ratifire.devrate.service.meeting;
+
+import com.ratifire.devrate.service.MeetingService;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Meeting service that creates meeting URLs locally without calling any external API, for tests
+ * and local development. Enabled with {@code meeting.service.type=Local}.
+ */
+@Service
+@ConditionalOnProperty(name = "meeting.service.type", havingValue = "Local")
+public class LocalMeetingService implements MeetingService {
+
+  @Value("${meeting.local.base-url:http://localhost:3001/join}")
+  private String baseUrl;
+
+  /**
+   * Creates a meeting URL with a random room name.
+   *
+   * @return the URL of the meeting
+   */
+  @Override
+  public String createMeeting() {
+    return baseUrl + "/" + UUID.randomUUID();
+  }
+}
@@ -0,0 +1,68 @@
+package com.ratifire.devrate.service.meeting;
+
+import com.ratifire.devrate.entity.Event;
+import com.ratifire.devrate.enums.EventType;
+import com.ratifire.devrate.repository.EventRepository;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that creates meeting rooms in the background for interview events starting
+ * within the configured lead time, so participants joining an interview get a room that already
+ * exists. Rooms are created in batches; when several application nodes provision the same event,
+ * the first room stored wins and the others are discarded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "meeting-room.provisioning.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class MeetingRoomProvisioner {
+
+  private final EventRepository eventRepository;
+  private final MeetingRoomService meetingRoomService;
+
+  @Value("${meeting-room.provisioning.lead-time:PT15M}")
+  private Duration leadTime;
+  @Value("${meeting-room.provisioning.batch-size:20}")
+  private int batchSize;
+
+  /**
+   * Creates meeting rooms for the upcoming interview events that have none yet.
+   */
+  @Scheduled(fixedDelayString = "${meeting-room.provisioning.interval-ms:60000}",
+      initialDelayString = "${meeting-room.provisioning.initial-delay-ms:30000}")
+  public void provision() {
+    ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+    int total = 0;
+    List<Event> events;
+    do {
+      events = eventRepository.findWithoutMeetingRoom(EventType.INTERVIEW, now,
+          now.plus(leadTime), PageRequest.of(0, batchSize));
+      if (events.isEmpty()) {
+        break;
+      }
+      try {
+        meetingRoomService.provision(events);
+      } catch (Exception e) {
+        log.error("Failed to provision meeting rooms for events {}: {}",
+            events.stream().map(Event::getId).toList(), e.getMessage(), e);
+        break;
+      }
+      total += events.size();
+    } while (events.size() == batchSize);
+
+    if (total > 0) {
+      log.info("Provisioned meeting rooms for {} upcoming interview events", total);
+    }
+  }
+}
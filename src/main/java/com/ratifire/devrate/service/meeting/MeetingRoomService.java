@@ -0,0 +1,141 @@
+package com.ratifire.devrate.service.meeting;
+
+import com.ratifire.devrate.entity.Event;
+import com.ratifire.devrate.entity.MeetingRoom;
+import com.ratifire.devrate.repository.MeetingRoomRepository;
+import com.ratifire.devrate.repository.interview.InterviewRepository;
+import com.ratifire.devrate.service.MeetingService;
+import com.ratifire.devrate.service.snspublisher.SnsPublisherService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service assigning meeting rooms to interview events. Rooms are normally created ahead of time by
+ * the {@link MeetingRoomProvisioner}; a room is only created on demand when a participant joins an
+ * event that has none yet. The first room stored for an event wins: the event ID is the primary
+ * key of the meeting rooms table, so concurrent assignments cannot create a second room, and the
+ * recording of a meeting is started by the first participant to join only.
+ */
+@Slf4j
+@Service
+public class MeetingRoomService {
+
+  private static final String METRIC_PREFIX = "meeting.rooms";
+
+  private final MeetingService meetingService;
+  private final MeetingRoomRepository meetingRoomRepository;
+  private final InterviewRepository interviewRepository;
+  private final SnsPublisherService snsPublisherService;
+  private final TransactionTemplate transactionTemplate;
+  private final String awsRegion;
+  private final String awsS3InterviewVideoBucket;
+  private final Counter provisioned;
+  private final Counter createdOnDemand;
+  private final Counter discarded;
+
+  /**
+   * Constructs a MeetingRoomService and registers its metrics.
+   */
+  public MeetingRoomService(MeetingService meetingService,
+      MeetingRoomRepository meetingRoomRepository, InterviewRepository interviewRepository,
+      SnsPublisherService snsPublisherService, TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${aws.region}") String awsRegion,
+      @Value("${aws.s3.interview.video.bucket}") String awsS3InterviewVideoBucket) {
+    this.meetingService = meetingService;
+    this.meetingRoomRepository = meetingRoomRepository;
+    this.interviewRepository = interviewRepository;
+    this.snsPublisherService = snsPublisherService;
+    this.transactionTemplate = transactionTemplate;
+    this.awsRegion = awsRegion;
+    this.awsS3InterviewVideoBucket = awsS3InterviewVideoBucket;
+    this.provisioned = meterRegistry.counter(METRIC_PREFIX + ".provisioned");
+    this.createdOnDemand = meterRegistry.counter(METRIC_PREFIX + ".created.on.demand");
+    this.discarded = meterRegistry.counter(METRIC_PREFIX + ".discarded");
+  }
+
+  /**
+   * Returns the meeting room of the event for a joining participant, creating it if the event has
+   * none yet. The first participant to join starts the recording of the meeting.
+   *
+   * @param eventId   the ID of the interview event
+   * @param startTime the start time of the event
+   * @return the URL of the meeting room
+   */
+  public String join(long eventId, ZonedDateTime startTime) {
+    MeetingRoom room = meetingRoomRepository.findById(eventId)
+        .orElseGet(() -> assign(eventId, startTime, meetingService.createMeeting(),
+            createdOnDemand));
+
+    Boolean started = transactionTemplate.execute(status ->
+        meetingRoomRepository.markStarted(eventId, ZonedDateTime.now(ZoneOffset.UTC)) == 1);
+    if (Boolean.TRUE.equals(started)) {
+      snsPublisherService.publishMeetingStarting(room.getRoomUrl(), room.getVideoFileName());
+    }
+    return room.getRoomUrl();
+  }
+
+  /**
+   * Creates meeting rooms for the events with one batch call and assigns them.
+   *
+   * @param events the interview events without a meeting room
+   */
+  public void provision(List<Event> events) {
+    List<String> roomUrls = meetingService.createMeetings(events.size());
+    for (int i = 0; i < events.size(); i++) {
+      Event event = events.get(i);
+      assign(event.getId(), event.getStartTime(), roomUrls.get(i), provisioned);
+    }
+  }
+
+  /**
+   * Stores the room for the event unless the event already has one, and returns the room the event
+   * ends up with. The interviews of the event get the room URL only when the room was stored.
+   */
+  private MeetingRoom assign(long eventId, ZonedDateTime startTime, String roomUrl,
+      Counter counter) {
+    String videoFileName = buildVideoFileName(eventId, startTime);
+    return transactionTemplate.execute(status -> {
+      if (meetingRoomRepository.insertIfAbsent(eventId, roomUrl, videoFileName,
+          ZonedDateTime.now(ZoneOffset.UTC)) == 1) {
+        interviewRepository.updateInterviewsRoomUrlByEventId(eventId, roomUrl,
+            buildVideoUrl(videoFileName));
+        counter.increment();
+      } else {
+        discarded.increment();
+        log.info("Event {} already has a meeting room, discarding {}", eventId, roomUrl);
+      }
+      return meetingRoomRepository.findById(eventId)
+          .orElseThrow(() -> new IllegalStateException(
+              "Meeting room not found for event with id: " + eventId));
+    });
+  }
+
+  private String buildVideoFileName(long eventId, ZonedDateTime startTime) {
+    ZonedDateTime start = startTime.withZoneSameInstant(ZoneOffset.UTC);
+    return String.format(
+        "%d/%02d/%02d/Meeting_%d_%d.mp4",
+        start.getYear(),
+        start.getMonthValue(),
+        start.getDayOfMonth(),
+        eventId,
+        System.currentTimeMillis()
+    );
+  }
+
+  private String buildVideoUrl(String fileName) {
+    return String.format(
+        "https://%s.s3.%s.amazonaws.com/%s",
+        awsS3InterviewVideoBucket,
+        awsRegion,
+        fileName
+    );
+  }
+}
@@ -1,6 +1,9 @@
 package com.ratifire.devrate.service.notification;
 
+import com.ratifire.devrate.entity.notification.outbox.NotificationOutboxMessage;
 import com.ratifire.devrate.service.notification.model.NotificationRequest;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Strategy interface for different notification channels.
@@ -9,13 +12,22 @@ import com.ratifire.devrate.service.notification.model.NotificationRequest;
 public interface NotificationChannel {
 
   /**
-   * Sends a notification through this channel.
+   * Sends a notification through this channel. The channel content is prepared right away and
+   * queued in the notification outbox, the actual delivery happens asynchronously.
    *
    * @param request The notification request containing all necessary data
-   * @return true if notification was sent successfully, false otherwise
+   * @return true if notification was queued successfully, false otherwise
    */
   boolean send(NotificationRequest request);
 
+  /**
+   * Delivers a batch of queued notifications of this channel.
+   *
+   * @param messages The queued notifications to deliver
+   * @return The delivery errors keyed by the ID of every message that was not delivered
+   */
+  Map<Long, String> deliver(List<NotificationOutboxMessage> messages);
+
   /**
    * Gets the type of this notification channel.
    *
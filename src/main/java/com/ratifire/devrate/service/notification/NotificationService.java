@@ -177,7 +177,8 @@ public class NotificationService {
   }
 
   /**
-   * Sends a notification through specified channels.
+   * Sends a notification through specified channels. Each channel prepares its content and queues
+   * it in the notification outbox in the caller's transaction, delivery happens asynchronously.
    *
    * @param request The notification request
    * @param channelTypes The channels to send through
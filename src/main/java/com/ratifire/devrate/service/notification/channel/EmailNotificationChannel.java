@@ -1,15 +1,22 @@
 package com.ratifire.devrate.service.notification.channel;
 
+import com.ratifire.devrate.entity.notification.outbox.NotificationOutboxMessage;
 import com.ratifire.devrate.service.notification.NotificationChannel;
 import com.ratifire.devrate.service.notification.NotificationChannelType;
 import com.ratifire.devrate.service.notification.model.NotificationRequest;
+import com.ratifire.devrate.service.notification.outbox.NotificationOutbox;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
@@ -18,7 +25,8 @@ import org.thymeleaf.context.Context;
 
 /**
  * Email notification channel implementation.
- * Handles sending notifications via email using templates.
+ * Handles sending notifications via email using templates. Templates are rendered when the
+ * notification is queued, queued emails are delivered in batches over a single SMTP connection.
  */
 @Slf4j
 @Component
@@ -27,6 +35,7 @@ public class EmailNotificationChannel implements NotificationChannel {
 
   private final JavaMailSender mailSender;
   private final TemplateEngine templateEngine;
+  private final NotificationOutbox notificationOutbox;
 
   @Value("${from.email.address}")
   private String fromEmailAddress;
@@ -43,15 +52,53 @@ public class EmailNotificationChannel implements NotificationChannel {
 
     try {
       String emailContent = buildEmailContent(request);
-      sendEmail(request.getRecipient().getEmail(), request.getSubject(), emailContent);
+      long recipientId = request.getRecipient().getId();
+      notificationOutbox.enqueue(getChannelType(), recipientId != 0 ? recipientId : null,
+          request.getRecipient().getEmail(), request.getSubject(), emailContent);
 
       return true;
     } catch (Exception e) {
-      log.error("Failed to send email notification to: {}", request.getRecipient().getEmail(), e);
+      log.error("Failed to queue email notification to: {}", request.getRecipient().getEmail(), e);
       return false;
     }
   }
 
+  @Override
+  public Map<Long, String> deliver(List<NotificationOutboxMessage> messages) {
+    Map<Long, String> errors = new HashMap<>();
+    Map<MimeMessage, Long> messageIds = new IdentityHashMap<>();
+    List<MimeMessage> mimeMessages = new ArrayList<>();
+
+    for (NotificationOutboxMessage message : messages) {
+      try {
+        MimeMessage mimeMessage = createMimeMessage(message.getRecipientAddress(),
+            message.getSubject(), message.getBody());
+        messageIds.put(mimeMessage, message.getId());
+        mimeMessages.add(mimeMessage);
+      } catch (MessagingException e) {
+        errors.put(message.getId(), e.getMessage());
+      }
+    }
+
+    if (mimeMessages.isEmpty()) {
+      return errors;
+    }
+
+    try {
+      mailSender.send(mimeMessages.toArray(MimeMessage[]::new));
+    } catch (MailSendException e) {
+      if (e.getFailedMessages().isEmpty()) {
+        messageIds.values().forEach(id -> errors.put(id, e.getMessage()));
+      }
+      e.getFailedMessages().forEach((failedMessage, cause) ->
+          errors.put(messageIds.get(failedMessage), cause.getMessage()));
+    } catch (MailException e) {
+      messageIds.values().forEach(id -> errors.put(id, e.getMessage()));
+    }
+
+    return errors;
+  }
+
   @Override
   public NotificationChannelType getChannelType() {
     return NotificationChannelType.EMAIL;
@@ -82,9 +129,9 @@ public class EmailNotificationChannel implements NotificationChannel {
     return templateEngine.process(request.getContent(), context);
   }
 
-  private void sendEmail(String recipient, String subject, String content)
-      throws MessagingException, MailException {
-    
+  private MimeMessage createMimeMessage(String recipient, String subject, String content)
+      throws MessagingException {
+
     MimeMessage mimeMessage = mailSender.createMimeMessage();
     MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "utf-8");
     
@@ -92,7 +139,7 @@ public class EmailNotificationChannel implements NotificationChannel {
     helper.setTo(recipient);
     helper.setSubject(subject);
     helper.setText(content, true);
-    
-    mailSender.send(mimeMessage);
+
+    return mimeMessage;
   }
 }
\ No newline at end of file
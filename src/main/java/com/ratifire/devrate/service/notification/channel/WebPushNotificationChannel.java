@@ -1,11 +1,16 @@
 package com.ratifire.devrate.service.notification.channel;
 
 import com.ratifire.devrate.dto.NotificationDto;
+import com.ratifire.devrate.entity.notification.outbox.NotificationOutboxMessage;
 import com.ratifire.devrate.service.WebPushNotificationService;
 import com.ratifire.devrate.service.notification.NotificationChannel;
 import com.ratifire.devrate.service.notification.NotificationChannelType;
 import com.ratifire.devrate.service.notification.model.NotificationRequest;
+import com.ratifire.devrate.service.notification.outbox.NotificationOutbox;
 import com.ratifire.devrate.util.JsonConverter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,7 +18,8 @@ import org.springframework.stereotype.Component;
 
 /**
  * Web Push notification channel implementation.
- * Handles sending push notifications to web browsers.
+ * Handles sending push notifications to web browsers. Queued notifications are grouped by
+ * recipient, so subscriptions of the whole batch are loaded at once.
  */
 @Slf4j
 @Component
@@ -21,6 +27,7 @@ import org.springframework.stereotype.Component;
 public class WebPushNotificationChannel implements NotificationChannel {
 
   private final WebPushNotificationService webPushNotificationService;
+  private final NotificationOutbox notificationOutbox;
 
   @Value("${notification.web-push.enabled:true}")
   private boolean webPushEnabled;
@@ -34,16 +41,25 @@ public class WebPushNotificationChannel implements NotificationChannel {
 
     try {
       NotificationDto notificationDto = createNotificationDto(request);
-      webPushNotificationService.sendNotification(request.getRecipient().getId(), notificationDto);
+      notificationOutbox.enqueue(getChannelType(), request.getRecipient().getId(), null, null,
+          JsonConverter.serialize(notificationDto));
 
       return true;
     } catch (Exception e) {
-      log.error("Failed to send Web Push notification to user: {}",
+      log.error("Failed to queue Web Push notification to user: {}",
           request.getRecipient().getId(), e);
       return false;
     }
   }
 
+  @Override
+  public Map<Long, String> deliver(List<NotificationOutboxMessage> messages) {
+    Map<Long, String> errors = new HashMap<>();
+    webPushNotificationService.sendNotifications(messages)
+        .forEach(messageId -> errors.put(messageId, "Push service rejected the notification"));
+    return errors;
+  }
+
   @Override
   public NotificationChannelType getChannelType() {
     return NotificationChannelType.WEB_PUSH;
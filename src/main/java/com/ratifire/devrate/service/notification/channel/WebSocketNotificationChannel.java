@@ -2,15 +2,20 @@ package com.ratifire.devrate.service.notification.channel;
 
 import com.ratifire.devrate.dto.NotificationDto;
 import com.ratifire.devrate.entity.Notification;
+import com.ratifire.devrate.entity.notification.outbox.NotificationOutboxMessage;
 import com.ratifire.devrate.entity.notification.payload.NotificationPayload;
 import com.ratifire.devrate.mapper.DataMapper;
 import com.ratifire.devrate.repository.NotificationRepository;
 import com.ratifire.devrate.service.notification.NotificationChannel;
 import com.ratifire.devrate.service.notification.NotificationChannelType;
 import com.ratifire.devrate.service.notification.model.NotificationRequest;
+import com.ratifire.devrate.service.notification.outbox.NotificationOutbox;
 import com.ratifire.devrate.util.JsonConverter;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,16 +24,20 @@ import org.springframework.stereotype.Component;
 
 /**
  * WebSocket notification channel implementation.
- * Handles sending real-time notifications via WebSocket and persisting them in database.
+ * Handles sending real-time notifications via WebSocket and persisting them in database. The
+ * notification is persisted when it is queued, the WebSocket message is delivered asynchronously.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WebSocketNotificationChannel implements NotificationChannel {
 
+  private static final String DESTINATION = "/topic/notifications/%s";
+
   private final SimpMessagingTemplate simpMessagingTemplate;
   private final NotificationRepository notificationRepository;
   private final DataMapper<NotificationDto, Notification> notificationMapper;
+  private final NotificationOutbox notificationOutbox;
 
   @Value("${notification.websocket.enabled:true}")
   private boolean websocketEnabled;
@@ -48,18 +57,34 @@ public class WebSocketNotificationChannel implements NotificationChannel {
         notification = createAndSaveNotification(request);
       }
 
-      // Send real-time notification via WebSocket
-      sendWebSocketNotification(request, notification);
+      // Queue real-time notification for WebSocket delivery
+      queueWebSocketNotification(request, notification);
 
       return true;
 
     } catch (Exception e) {
-      log.error("Failed to send WebSocket notification to user: {}",
+      log.error("Failed to queue WebSocket notification to user: {}",
           request.getRecipient().getId(), e);
       return false;
     }
   }
 
+  @Override
+  public Map<Long, String> deliver(List<NotificationOutboxMessage> messages) {
+    Map<Long, String> errors = new HashMap<>();
+    for (NotificationOutboxMessage message : messages) {
+      try {
+        NotificationDto notificationDto =
+            JsonConverter.deserialize(message.getBody(), NotificationDto.class);
+        simpMessagingTemplate.convertAndSend(
+            String.format(DESTINATION, message.getRecipientId()), notificationDto);
+      } catch (Exception e) {
+        errors.put(message.getId(), e.getMessage());
+      }
+    }
+    return errors;
+  }
+
   @Override
   public NotificationChannelType getChannelType() {
     return NotificationChannelType.WEBSOCKET;
@@ -84,7 +109,8 @@ public class WebSocketNotificationChannel implements NotificationChannel {
     return notificationRepository.save(notification);
   }
 
-  private void sendWebSocketNotification(NotificationRequest request, Notification notification) {
+  private void queueWebSocketNotification(NotificationRequest request,
+      Notification notification) {
     NotificationDto notificationDto;
     
     if (notification != null) {
@@ -94,9 +120,8 @@ public class WebSocketNotificationChannel implements NotificationChannel {
       notificationDto = createNotificationDto(request);
     }
 
-    String destination = String.format("/topic/notifications/%s",
-        request.getRecipient().getId());
-    simpMessagingTemplate.convertAndSend(destination, notificationDto);
+    notificationOutbox.enqueue(getChannelType(), request.getRecipient().getId(), null, null,
+        JsonConverter.serialize(notificationDto));
   }
 
   private NotificationDto createNotificationDto(NotificationRequest request) {
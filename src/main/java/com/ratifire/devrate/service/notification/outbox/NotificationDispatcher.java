@@ -0,0 +1,202 @@
+package com.ratifire.devrate.service.notification.outbox;
+
+import com.ratifire.devrate.configuration.NotificationDispatchProperties;
+import com.ratifire.devrate.configuration.NotificationDispatchProperties.ChannelProperties;
+import com.ratifire.devrate.entity.notification.outbox.NotificationOutboxMessage;
+import com.ratifire.devrate.service.notification.NotificationChannel;
+import com.ratifire.devrate.service.notification.NotificationChannelType;
+import com.ratifire.devrate.service.notification.factory.NotificationChannelFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the {@link NotificationOutbox} with a dedicated worker pool per notification channel.
+ * Every worker claims a batch of due messages, hands the whole batch to the channel and records
+ * the outcome, so a slow SMTP server never holds back WebSocket or push delivery.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+  private static final String METRIC_PREFIX = "notification.dispatch";
+  private static final String CHANNEL_TAG = "channel";
+
+  private final NotificationOutbox outbox;
+  private final NotificationChannelFactory channelFactory;
+  private final NotificationDispatchProperties properties;
+  private final Map<NotificationChannelType, ChannelWorkers> workers =
+      new EnumMap<>(NotificationChannelType.class);
+
+  /**
+   * Constructs a NotificationDispatcher and starts the worker pools of all channels.
+   */
+  public NotificationDispatcher(NotificationOutbox outbox,
+      NotificationChannelFactory channelFactory, NotificationDispatchProperties properties,
+      MeterRegistry meterRegistry) {
+    this.outbox = outbox;
+    this.channelFactory = channelFactory;
+    this.properties = properties;
+    for (NotificationChannelType channelType : NotificationChannelType.values()) {
+      workers.put(channelType, new ChannelWorkers(channelType,
+          properties.getChannel(channelType).getWorkers(), meterRegistry));
+    }
+  }
+
+  /**
+   * Hands due messages to idle workers of every channel.
+   */
+  @Scheduled(fixedDelayString = "${notification.dispatch.poll-interval-ms:1000}")
+  public void dispatch() {
+    workers.values().forEach(this::dispatch);
+  }
+
+  private void dispatch(ChannelWorkers channelWorkers) {
+    ChannelProperties settings = properties.getChannel(channelWorkers.channelType);
+    while (channelWorkers.idle.tryAcquire()) {
+      List<NotificationOutboxMessage> batch;
+      try {
+        batch = outbox.claim(channelWorkers.channelType, settings.getBatchSize());
+      } catch (Exception e) {
+        channelWorkers.idle.release();
+        log.error("Failed to claim {} notifications", channelWorkers.channelType, e);
+        return;
+      }
+
+      if (batch.isEmpty()) {
+        channelWorkers.idle.release();
+        return;
+      }
+
+      try {
+        channelWorkers.executor.execute(() -> {
+          try {
+            deliver(channelWorkers, batch);
+          } finally {
+            channelWorkers.idle.release();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        channelWorkers.idle.release();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Refreshes the queue depth gauges of all channels.
+   */
+  @Scheduled(fixedDelayString = "${notification.dispatch.depth-refresh-interval-ms:15000}")
+  public void refreshQueueDepth() {
+    Map<NotificationChannelType, Long> depth = outbox.countByChannel();
+    workers.forEach((channelType, channelWorkers) ->
+        channelWorkers.queueDepth.set(depth.getOrDefault(channelType, 0L)));
+  }
+
+  /**
+   * Stops the worker pools, letting in-flight batches finish.
+   */
+  @PreDestroy
+  public void shutdown() {
+    workers.values().forEach(channelWorkers -> channelWorkers.executor.shutdown());
+  }
+
+  private void deliver(ChannelWorkers channelWorkers, List<NotificationOutboxMessage> batch) {
+    Map<Long, String> errors = channelWorkers.batchTimer.record(() -> send(channelWorkers, batch));
+
+    ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+    List<NotificationOutboxMessage> delivered = batch.stream()
+        .filter(message -> !errors.containsKey(message.getId()))
+        .toList();
+    List<NotificationOutboxMessage> failed = batch.stream()
+        .filter(message -> errors.containsKey(message.getId()))
+        .toList();
+
+    try {
+      outbox.complete(delivered.stream().map(NotificationOutboxMessage::getId).toList());
+      delivered.forEach(message -> channelWorkers.latencyTimer.record(
+          Duration.between(message.getCreatedAt(), now)));
+      channelWorkers.sent.increment(delivered.size());
+
+      int dead = outbox.fail(failed, errors);
+      channelWorkers.retried.increment(failed.size() - dead);
+      channelWorkers.deadLettered.increment(dead);
+    } catch (Exception e) {
+      log.error("Failed to record the outcome of {} notification batch",
+          channelWorkers.channelType, e);
+    }
+  }
+
+  private Map<Long, String> send(ChannelWorkers channelWorkers,
+      List<NotificationOutboxMessage> batch) {
+    Optional<NotificationChannel> channel = channelFactory.getChannel(channelWorkers.channelType);
+    if (channel.isEmpty()) {
+      return failAll(batch, channelWorkers.channelType + " channel is not available");
+    }
+
+    try {
+      return channel.get().deliver(batch);
+    } catch (Exception e) {
+      log.error("Failed to deliver {} notification batch", channelWorkers.channelType, e);
+      return failAll(batch, e.getMessage());
+    }
+  }
+
+  private Map<Long, String> failAll(List<NotificationOutboxMessage> batch, String error) {
+    Map<Long, String> errors = new HashMap<>();
+    batch.forEach(message -> errors.put(message.getId(), String.valueOf(error)));
+    return errors;
+  }
+
+  /**
+   * Worker pool and metrics of a single notification channel.
+   */
+  private static class ChannelWorkers {
+
+    private final NotificationChannelType channelType;
+    private final ExecutorService executor;
+    private final Semaphore idle;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Timer batchTimer;
+    private final Timer latencyTimer;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter deadLettered;
+
+    ChannelWorkers(NotificationChannelType channelType, int poolSize,
+        MeterRegistry meterRegistry) {
+      String channel = channelType.name().toLowerCase();
+      this.channelType = channelType;
+      this.executor = Executors.newFixedThreadPool(poolSize,
+          new CustomizableThreadFactory("notification-" + channel + "-"));
+      this.idle = new Semaphore(poolSize);
+      this.batchTimer = meterRegistry.timer(METRIC_PREFIX + ".batch", CHANNEL_TAG, channel);
+      this.latencyTimer = meterRegistry.timer(METRIC_PREFIX + ".latency", CHANNEL_TAG, channel);
+      this.sent = meterRegistry.counter(METRIC_PREFIX + ".sent", CHANNEL_TAG, channel);
+      this.retried = meterRegistry.counter(METRIC_PREFIX + ".retried", CHANNEL_TAG, channel);
+      this.deadLettered = meterRegistry.counter(METRIC_PREFIX + ".dead", CHANNEL_TAG, channel);
+      Gauge.builder(METRIC_PREFIX + ".queue.depth", queueDepth, AtomicLong::get)
+          .tag(CHANNEL_TAG, channel)
+          .register(meterRegistry);
+    }
+  }
+}
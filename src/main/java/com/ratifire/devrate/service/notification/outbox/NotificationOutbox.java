@@ -0,0 +1,168 @@
+package com.ratifire.devrate.service.notification.outbox;
+
+import com.ratifire.devrate.configuration.NotificationDispatchProperties;
+import com.ratifire.devrate.configuration.NotificationDispatchProperties.ChannelProperties;
+import com.ratifire.devrate.dto.projection.NotificationChannelCountProjection;
+import com.ratifire.devrate.entity.notification.outbox.NotificationDeadLetter;
+import com.ratifire.devrate.entity.notification.outbox.NotificationOutboxMessage;
+import com.ratifire.devrate.enums.NotificationOutboxStatus;
+import com.ratifire.devrate.repository.NotificationDeadLetterRepository;
+import com.ratifire.devrate.repository.NotificationOutboxRepository;
+import com.ratifire.devrate.service.notification.NotificationChannelType;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Durable queue of notifications waiting for delivery. Messages are written in the caller's
+ * transaction, so a notification is only delivered when the business change that produced it was
+ * committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final NotificationOutboxRepository outboxRepository;
+  private final NotificationDeadLetterRepository deadLetterRepository;
+  private final NotificationDispatchProperties properties;
+
+  /**
+   * Queues a prepared notification for delivery through the channel.
+   *
+   * @param channel          the channel to deliver the notification through
+   * @param recipientId      the ID of the recipient user, if known
+   * @param recipientAddress the channel specific address of the recipient, e.g. email address
+   * @param subject          the subject of the notification, if the channel uses one
+   * @param body             the prepared content of the notification
+   */
+  @Transactional
+  public void enqueue(NotificationChannelType channel, Long recipientId, String recipientAddress,
+      String subject, String body) {
+    ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+    outboxRepository.save(NotificationOutboxMessage.builder()
+        .channel(channel)
+        .status(NotificationOutboxStatus.PENDING)
+        .recipientId(recipientId)
+        .recipientAddress(recipientAddress)
+        .subject(subject)
+        .body(body)
+        .nextAttemptAt(now)
+        .createdAt(now)
+        .build());
+  }
+
+  /**
+   * Claims the next batch of messages of the channel that are due for delivery. Claimed messages
+   * are leased to the caller and become available again if they are not completed or failed
+   * before the lease expires.
+   *
+   * @param channel the channel to claim messages for
+   * @param limit   the maximum number of messages to claim
+   * @return the claimed messages
+   */
+  @Transactional
+  public List<NotificationOutboxMessage> claim(NotificationChannelType channel, int limit) {
+    ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+    List<NotificationOutboxMessage> messages =
+        outboxRepository.findDueForUpdate(channel.name(), now, limit);
+    ZonedDateTime lockedUntil = now.plus(properties.getLeaseTimeout());
+    messages.forEach(message -> {
+      message.setStatus(NotificationOutboxStatus.PROCESSING);
+      message.setLockedUntil(lockedUntil);
+    });
+    return outboxRepository.saveAll(messages);
+  }
+
+  /**
+   * Removes delivered messages from the outbox.
+   *
+   * @param messageIds the IDs of the delivered messages
+   */
+  @Transactional
+  public void complete(Collection<Long> messageIds) {
+    if (!messageIds.isEmpty()) {
+      outboxRepository.deleteAllByIdInBatch(messageIds);
+    }
+  }
+
+  /**
+   * Records failed delivery attempts. Messages that still have attempts left are rescheduled with
+   * the channel's backoff, the others are moved to the dead-letter table.
+   *
+   * @param messages the messages whose delivery failed
+   * @param errors   the delivery errors keyed by message ID
+   * @return the number of messages moved to the dead-letter table
+   */
+  @Transactional
+  public int fail(List<NotificationOutboxMessage> messages, Map<Long, String> errors) {
+    if (messages.isEmpty()) {
+      return 0;
+    }
+
+    ChannelProperties settings = properties.getChannel(messages.getFirst().getChannel());
+    ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+    List<NotificationOutboxMessage> retryMessages = new ArrayList<>();
+    List<NotificationOutboxMessage> deadMessages = new ArrayList<>();
+
+    for (NotificationOutboxMessage message : messages) {
+      message.setAttempts(message.getAttempts() + 1);
+      message.setLastError(StringUtils.abbreviate(errors.get(message.getId()), MAX_ERROR_LENGTH));
+      if (message.getAttempts() < settings.getMaxAttempts()) {
+        message.setStatus(NotificationOutboxStatus.PENDING);
+        message.setLockedUntil(null);
+        message.setNextAttemptAt(now.plus(settings.getBackoff(message.getAttempts())));
+        retryMessages.add(message);
+      } else {
+        log.error("Giving up on {} notification {} after {} attempts: {}", message.getChannel(),
+            message.getId(), message.getAttempts(), message.getLastError());
+        deadMessages.add(message);
+      }
+    }
+
+    outboxRepository.saveAll(retryMessages);
+    deadLetterRepository.saveAll(deadMessages.stream()
+        .map(message -> toDeadLetter(message, now))
+        .toList());
+    outboxRepository.deleteAllInBatch(deadMessages);
+    return deadMessages.size();
+  }
+
+  /**
+   * Counts the queued messages of every channel.
+   *
+   * @return the number of queued messages keyed by channel
+   */
+  public Map<NotificationChannelType, Long> countByChannel() {
+    return outboxRepository.countByChannel().stream()
+        .collect(Collectors.toMap(
+            count -> NotificationChannelType.valueOf(count.getChannel()),
+            NotificationChannelCountProjection::getTotal));
+  }
+
+  private NotificationDeadLetter toDeadLetter(NotificationOutboxMessage message,
+      ZonedDateTime failedAt) {
+    return NotificationDeadLetter.builder()
+        .channel(message.getChannel())
+        .recipientId(message.getRecipientId())
+        .recipientAddress(message.getRecipientAddress())
+        .subject(message.getSubject())
+        .body(message.getBody())
+        .attempts(message.getAttempts())
+        .lastError(message.getLastError())
+        .createdAt(message.getCreatedAt())
+        .failedAt(failedAt)
+        .build();
+  }
+}
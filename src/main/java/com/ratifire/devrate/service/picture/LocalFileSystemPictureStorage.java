@@ -0,0 +1,84 @@
+package com.ratifire.devrate.service.picture;
+
+import com.ratifire.devrate.exception.PictureStorageException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link PictureStorage} implementation that keeps pictures as plain files under a root
+ * directory. Files are written to a temporary sibling first and moved into place, so readers
+ * never observe partially written content.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "picture.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalFileSystemPictureStorage implements PictureStorage {
+
+  private final Path rootPath;
+
+  public LocalFileSystemPictureStorage(
+      @Value("${picture.storage.local.root-path:./data/pictures}") String rootPath) {
+    this.rootPath = Path.of(rootPath).toAbsolutePath().normalize();
+  }
+
+  @Override
+  public void store(String key, byte[] content) {
+    Path target = resolve(key);
+    try {
+      Files.createDirectories(target.getParent());
+      Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+      Files.write(temp, content);
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new PictureStorageException("Failed to store picture with key " + key, e);
+    }
+  }
+
+  @Override
+  public Optional<Resource> load(String key) {
+    Path path = resolve(key);
+    return Files.isRegularFile(path) ? Optional.of(new FileSystemResource(path)) : Optional.empty();
+  }
+
+  @Override
+  public void deleteByPrefix(String prefix) {
+    Path path = resolve(prefix);
+    if (!Files.exists(path)) {
+      return;
+    }
+
+    try (Stream<Path> paths = Files.walk(path)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(this::deleteQuietly);
+    } catch (IOException e) {
+      throw new PictureStorageException("Failed to delete pictures with prefix " + prefix, e);
+    }
+  }
+
+  private void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Failed to delete picture file {}: {}", path, e.getMessage());
+    }
+  }
+
+  private Path resolve(String key) {
+    Path path = rootPath.resolve(key).normalize();
+    if (!path.startsWith(rootPath) || path.equals(rootPath)) {
+      throw new IllegalArgumentException("Invalid picture key: " + key);
+    }
+    return path;
+  }
+}
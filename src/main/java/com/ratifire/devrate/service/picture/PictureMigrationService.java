@@ -0,0 +1,88 @@
+package com.ratifire.devrate.service.picture;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Service for migrating pictures kept inline in the legacy {@code users.picture} column into the
+ * {@link PictureStorage}. Rows are processed in id order in small batches, each migrated row gets
+ * a picture key and its inline content is cleared. The migration is disabled by default and is
+ * meant to be enabled on a single instance for one run.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "picture.migration.enabled", havingValue = "true")
+public class PictureMigrationService {
+
+  private static final String SELECT_LEGACY_PICTURES = "SELECT id, picture FROM users "
+      + "WHERE picture IS NOT NULL AND picture_key IS NULL AND id > ? ORDER BY id LIMIT ?";
+  private static final String UPDATE_PICTURE_KEY = "UPDATE users SET picture_key = ?, "
+      + "picture_updated_at = ?, picture = NULL WHERE id = ? AND picture_key IS NULL";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PictureService pictureService;
+  private final int batchSize;
+
+  /**
+   * Constructs a PictureMigrationService with the configured batch size.
+   */
+  public PictureMigrationService(JdbcTemplate jdbcTemplate, PictureService pictureService,
+      @Value("${picture.migration.batch-size:50}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.pictureService = pictureService;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Migrates all legacy inline pictures once the application has started.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrateAllPictures() {
+    long lastId = 0;
+    int migrated = 0;
+    List<LegacyPicture> batch;
+
+    do {
+      batch = jdbcTemplate.query(SELECT_LEGACY_PICTURES,
+          (rs, rowNum) -> new LegacyPicture(rs.getLong("id"), rs.getString("picture")),
+          lastId, batchSize);
+      for (LegacyPicture picture : batch) {
+        lastId = picture.userId();
+        try {
+          if (migratePicture(picture)) {
+            migrated++;
+          }
+        } catch (Exception e) {
+          log.error("Failed to migrate picture of user with id={}: {}", picture.userId(),
+              e.getMessage());
+        }
+      }
+    } while (batch.size() == batchSize);
+
+    if (migrated > 0) {
+      log.info("Migrated {} user pictures to the picture storage", migrated);
+    }
+  }
+
+  private boolean migratePicture(LegacyPicture picture) {
+    String key = pictureService.store(picture.userId(), pictureService.decode(picture.content()));
+    int updated = jdbcTemplate.update(UPDATE_PICTURE_KEY, key, Timestamp.from(Instant.now()),
+        picture.userId());
+    if (updated == 0) {
+      pictureService.delete(key);
+      return false;
+    }
+    return true;
+  }
+
+  private record LegacyPicture(long userId, String content) {
+  }
+}
@@ -0,0 +1,257 @@
+package com.ratifire.devrate.service.picture;
+
+import com.ratifire.devrate.enums.PictureSize;
+import com.ratifire.devrate.exception.InvalidPictureException;
+import com.ratifire.devrate.exception.PictureStorageException;
+import com.ratifire.devrate.service.picture.model.StoredPicture;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service responsible for storing user pictures and serving them in the requested size. Every
+ * upload gets its own version directory, so the stored content under a key never changes and
+ * resized variants can be generated once on first request and reused afterward.
+ */
+@Slf4j
+@Service
+public class PictureService {
+
+  private static final String USER_PICTURE_URL = "/users/%d/pictures";
+  private static final String ORIGINAL_NAME = "original";
+  private static final String DATA_URL_PREFIX = "data:";
+  private static final String DEFAULT_VARIANT_FORMAT = "png";
+  private static final Map<String, MediaType> MEDIA_TYPES = Map.of(
+      "png", MediaType.IMAGE_PNG,
+      "jpg", MediaType.IMAGE_JPEG,
+      "gif", MediaType.IMAGE_GIF,
+      "bmp", MediaType.parseMediaType("image/bmp"),
+      "webp", MediaType.parseMediaType("image/webp"));
+
+  private final PictureStorage pictureStorage;
+  private final int maxSizeBytes;
+
+  /**
+   * Constructs a PictureService on top of the configured storage backend.
+   */
+  public PictureService(PictureStorage pictureStorage,
+      @Value("${picture.max-size-bytes:5242880}") int maxSizeBytes) {
+    this.pictureStorage = pictureStorage;
+    this.maxSizeBytes = maxSizeBytes;
+  }
+
+  /**
+   * Decodes a picture sent as a base64 string or as a base64 data URL.
+   *
+   * @param encodedPicture the encoded picture
+   * @return the binary picture content
+   * @throws InvalidPictureException if the value is not valid base64
+   */
+  public byte[] decode(String encodedPicture) {
+    if (encodedPicture == null || encodedPicture.isBlank()) {
+      throw new InvalidPictureException("Picture content is empty");
+    }
+
+    String value = encodedPicture.strip();
+    if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+      value = value.substring(1, value.length() - 1);
+    }
+    if (value.startsWith(DATA_URL_PREFIX)) {
+      value = value.substring(value.indexOf(',') + 1);
+    }
+
+    try {
+      return Base64.getMimeDecoder().decode(value);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidPictureException("Picture content is not a valid base64 string");
+    }
+  }
+
+  /**
+   * Stores a new picture of the user under a fresh version key.
+   *
+   * @param userId  the ID of the user owning the picture
+   * @param content the binary picture content
+   * @return the key of the stored picture
+   * @throws InvalidPictureException if the content is too large or not a supported image format
+   */
+  public String store(long userId, byte[] content) {
+    if (content.length == 0 || content.length > maxSizeBytes) {
+      throw new InvalidPictureException("Picture size must be between 1 and " + maxSizeBytes
+          + " bytes");
+    }
+
+    String format = detectFormat(content)
+        .orElseThrow(() -> new InvalidPictureException("Unsupported picture format"));
+    String key = "users/" + userId + "/" + UUID.randomUUID() + "/" + ORIGINAL_NAME + "."
+        + format;
+    pictureStorage.store(key, content);
+    return key;
+  }
+
+  /**
+   * Loads the picture stored under the key in the requested size. Missing size variants are
+   * generated from the original and stored next to it.
+   *
+   * @param key  the key of the original picture
+   * @param size the requested size variant
+   * @return the picture content with its caching metadata, or empty if the picture is missing
+   */
+  public Optional<StoredPicture> load(String key, PictureSize size) {
+    Optional<Resource> original = pictureStorage.load(key);
+    if (original.isEmpty()) {
+      log.warn("Picture with key {} is referenced but missing in the storage", key);
+      return Optional.empty();
+    }
+
+    String variantKey = size == PictureSize.ORIGINAL ? key : buildVariantKey(key, size);
+    Resource resource = pictureStorage.load(variantKey)
+        .or(() -> createVariant(original.get(), variantKey, size))
+        .orElse(original.get());
+
+    return Optional.of(StoredPicture.builder()
+        .resource(resource)
+        .mediaType(resolveMediaType(resource.getFilename()))
+        .etag(extractVersion(key) + "-" + size.name().toLowerCase())
+        .lastModified(lastModified(resource))
+        .build());
+  }
+
+  /**
+   * Removes the picture stored under the key together with all its size variants.
+   *
+   * @param key the key of the original picture
+   */
+  public void delete(String key) {
+    pictureStorage.deleteByPrefix(key.substring(0, key.lastIndexOf('/')));
+  }
+
+  /**
+   * Builds the URL the picture of the user can be downloaded from.
+   *
+   * @param userId     the ID of the user
+   * @param pictureKey the key of the user's picture
+   * @return the picture URL, or null if the user has no picture
+   */
+  public String buildPictureUrl(long userId, String pictureKey) {
+    return pictureKey != null ? USER_PICTURE_URL.formatted(userId) : null;
+  }
+
+  private Optional<Resource> createVariant(Resource original, String variantKey,
+      PictureSize size) {
+    try (InputStream inputStream = original.getInputStream()) {
+      BufferedImage source = ImageIO.read(inputStream);
+      if (source == null) {
+        return Optional.empty();
+      }
+
+      String format = extractFormat(variantKey);
+      BufferedImage scaled = scale(source, size.getWidth(), "jpg".equals(format));
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      if (!ImageIO.write(scaled, format, outputStream)) {
+        return Optional.empty();
+      }
+
+      pictureStorage.store(variantKey, outputStream.toByteArray());
+      return pictureStorage.load(variantKey);
+    } catch (IOException | PictureStorageException e) {
+      log.error("Failed to create picture variant {}: {}", variantKey, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private BufferedImage scale(BufferedImage source, int maxDimension, boolean opaque) {
+    double ratio = Math.min(1.0, (double) maxDimension
+        / Math.max(source.getWidth(), source.getHeight()));
+    int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+    int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+    BufferedImage target = new BufferedImage(width, height,
+        opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+    Graphics2D graphics = target.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+          RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return target;
+  }
+
+  private String buildVariantKey(String key, PictureSize size) {
+    String format = extractFormat(key);
+    String variantFormat = "jpg".equals(format) ? format : DEFAULT_VARIANT_FORMAT;
+    return key.substring(0, key.lastIndexOf('/') + 1) + size.name().toLowerCase() + "."
+        + variantFormat;
+  }
+
+  private String extractVersion(String key) {
+    String directory = key.substring(0, key.lastIndexOf('/'));
+    return directory.substring(directory.lastIndexOf('/') + 1);
+  }
+
+  private String extractFormat(String key) {
+    return key.substring(key.lastIndexOf('.') + 1);
+  }
+
+  private MediaType resolveMediaType(String filename) {
+    return filename == null
+        ? MediaType.APPLICATION_OCTET_STREAM
+        : MEDIA_TYPES.getOrDefault(extractFormat(filename), MediaType.APPLICATION_OCTET_STREAM);
+  }
+
+  private Instant lastModified(Resource resource) {
+    try {
+      return Instant.ofEpochMilli(resource.lastModified());
+    } catch (IOException e) {
+      return Instant.now();
+    }
+  }
+
+  private Optional<String> detectFormat(byte[] content) {
+    if (startsWith(content, 0, 0x89, 'P', 'N', 'G')) {
+      return Optional.of("png");
+    }
+    if (startsWith(content, 0, 0xFF, 0xD8, 0xFF)) {
+      return Optional.of("jpg");
+    }
+    if (startsWith(content, 0, 'G', 'I', 'F', '8')) {
+      return Optional.of("gif");
+    }
+    if (startsWith(content, 0, 'B', 'M')) {
+      return Optional.of("bmp");
+    }
+    if (startsWith(content, 0, 'R', 'I', 'F', 'F') && startsWith(content, 8, 'W', 'E', 'B', 'P')) {
+      return Optional.of("webp");
+    }
+    return Optional.empty();
+  }
+
+  private boolean startsWith(byte[] content, int offset, int... signature) {
+    if (content.length < offset + signature.length) {
+      return false;
+    }
+    for (int i = 0; i < signature.length; i++) {
+      if ((content[offset + i] & 0xFF) != signature[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
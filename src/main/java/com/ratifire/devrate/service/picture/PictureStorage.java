@@ -0,0 +1,34 @@
+package com.ratifire.devrate.service.picture;
+
+import java.util.Optional;
+import org.springframework.core.io.Resource;
+
+/**
+ * Storage backend for binary picture content. Pictures are addressed by slash separated keys,
+ * where every key prefix behaves like a directory.
+ */
+public interface PictureStorage {
+
+  /**
+   * Writes the content under the given key, replacing any existing content.
+   *
+   * @param key     the key of the picture
+   * @param content the binary content of the picture
+   */
+  void store(String key, byte[] content);
+
+  /**
+   * Looks up the content stored under the given key.
+   *
+   * @param key the key of the picture
+   * @return the readable resource, or empty if nothing is stored under the key
+   */
+  Optional<Resource> load(String key);
+
+  /**
+   * Removes every picture whose key starts with the given prefix.
+   *
+   * @param prefix the key prefix to remove
+   */
+  void deleteByPrefix(String prefix);
+}
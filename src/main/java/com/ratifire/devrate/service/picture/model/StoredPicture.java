@@ -0,0 +1,20 @@
+package com.ratifire.devrate.service.picture.model;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+
+/**
+ * Picture content ready to be streamed to a client together with its caching metadata.
+ */
+@Getter
+@Builder
+public class StoredPicture {
+
+  private final Resource resource;
+  private final MediaType mediaType;
+  private final String etag;
+  private final Instant lastModified;
+}
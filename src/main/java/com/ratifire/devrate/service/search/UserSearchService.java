@@ -0,0 +1,168 @@
+package com.ratifire.devrate.service.search;
+
+import com.ratifire.devrate.dto.UserNameSearchDto;
+import com.ratifire.devrate.dto.UserSearchPageDto;
+import com.ratifire.devrate.dto.projection.UserSearchProjection;
+import com.ratifire.devrate.exception.UserSearchInvalidInputException;
+import com.ratifire.devrate.repository.UserSearchDocumentRepository;
+import com.ratifire.devrate.service.picture.PictureService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for searching users by name, main specialization and country. Matching and ranking are
+ * done by the database on the denormalized user search documents. First pages of short queries,
+ * which are typed by many users while they start searching, are kept in a small in-process cache
+ * for a short time.
+ */
+@Service
+public class UserSearchService {
+
+  private static final String METRIC_PREFIX = "user.search.cache";
+  private static final BigDecimal FIRST_PAGE_RANK = BigDecimal.valueOf(Integer.MAX_VALUE);
+  private static final String CURSOR_SEPARATOR = "_";
+
+  private final UserSearchDocumentRepository repository;
+  private final PictureService pictureService;
+  private final int maxCachedQueryLength;
+  private final int cacheSize;
+  private final Duration cacheTtl;
+  private final Map<String, CachedPage> cache;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+
+  /**
+   * Constructs a UserSearchService with the configured cache bounds and registers its metrics.
+   */
+  public UserSearchService(UserSearchDocumentRepository repository, PictureService pictureService,
+      MeterRegistry meterRegistry,
+      @Value("${user-search.cache.max-query-length:4}") int maxCachedQueryLength,
+      @Value("${user-search.cache.max-size:500}") int cacheSize,
+      @Value("${user-search.cache.ttl:PT30S}") Duration cacheTtl) {
+    this.repository = repository;
+    this.pictureService = pictureService;
+    this.maxCachedQueryLength = maxCachedQueryLength;
+    this.cacheSize = cacheSize;
+    this.cacheTtl = cacheTtl;
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedPage> eldest) {
+        return size() > UserSearchService.this.cacheSize;
+      }
+    };
+    this.cacheHits = meterRegistry.counter(METRIC_PREFIX + ".hits");
+    this.cacheMisses = meterRegistry.counter(METRIC_PREFIX + ".misses");
+  }
+
+  /**
+   * Searches users matching the query.
+   *
+   * @param query  the search query
+   * @param cursor the cursor returned with the previous page, or null for the first page
+   * @param size   the maximum number of results
+   * @return the page of search results
+   * @throws UserSearchInvalidInputException if the cursor is malformed
+   */
+  public UserSearchPageDto search(String query, String cursor, int size) {
+    String normalizedQuery = normalize(query);
+    String prefixQuery = toPrefixQuery(normalizedQuery);
+    if (prefixQuery.isEmpty()) {
+      return new UserSearchPageDto(List.of(), null);
+    }
+
+    boolean cacheable = cursor == null && normalizedQuery.length() <= maxCachedQueryLength;
+    String cacheKey = normalizedQuery + "|" + size;
+    if (cacheable) {
+      UserSearchPageDto cached = getCached(cacheKey);
+      if (cached != null) {
+        cacheHits.increment();
+        return cached;
+      }
+      cacheMisses.increment();
+    }
+
+    UserSearchPageDto page = load(normalizedQuery, prefixQuery, cursor, size);
+    if (cacheable) {
+      synchronized (cache) {
+        cache.put(cacheKey, new CachedPage(page, Instant.now().plus(cacheTtl)));
+      }
+    }
+    return page;
+  }
+
+  private UserSearchPageDto load(String query, String prefixQuery, String cursor, int size) {
+    BigDecimal afterRank = FIRST_PAGE_RANK;
+    long afterId = 0;
+    if (cursor != null) {
+      String[] parts = cursor.split(CURSOR_SEPARATOR, 2);
+      try {
+        afterRank = new BigDecimal(parts[0]);
+        afterId = Long.parseLong(parts[1]);
+      } catch (RuntimeException e) {
+        throw new UserSearchInvalidInputException("Invalid search cursor: " + cursor);
+      }
+    }
+
+    List<UserSearchProjection> rows = repository.search(query, prefixQuery, afterRank, afterId,
+        size + 1);
+    boolean hasNext = rows.size() > size;
+    List<UserSearchProjection> content = hasNext ? rows.subList(0, size) : rows;
+
+    String nextCursor = null;
+    if (hasNext) {
+      UserSearchProjection last = content.getLast();
+      nextCursor = last.getRank().toPlainString() + CURSOR_SEPARATOR + last.getId();
+    }
+
+    return new UserSearchPageDto(content.stream().map(this::toDto).toList(), nextCursor);
+  }
+
+  private UserNameSearchDto toDto(UserSearchProjection row) {
+    return new UserNameSearchDto(row.getId(), row.getFirstName(), row.getLastName(),
+        row.getMainSpecializationName(),
+        pictureService.buildPictureUrl(row.getId(), row.getPictureKey()));
+  }
+
+  private UserSearchPageDto getCached(String key) {
+    synchronized (cache) {
+      CachedPage cached = cache.get(key);
+      if (cached == null) {
+        return null;
+      }
+      if (Instant.now().isAfter(cached.expiresAt())) {
+        cache.remove(key);
+        return null;
+      }
+      return cached.page();
+    }
+  }
+
+  static String normalize(String query) {
+    return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Converts the query into a {@code tsquery} that requires every word of the query to be a
+   * prefix of a word of the search document.
+   */
+  static String toPrefixQuery(String normalizedQuery) {
+    return Arrays.stream(normalizedQuery.split("[^\\p{L}\\p{N}]+"))
+        .filter(word -> !word.isEmpty())
+        .map(word -> word + ":*")
+        .collect(Collectors.joining(" & "));
+  }
+
+  private record CachedPage(UserSearchPageDto page, Instant expiresAt) {
+  }
+}
@@ -0,0 +1,149 @@
+package com.ratifire.devrate.service.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records STOMP throughput and subscriber counts per destination. Destinations are reduced to
+ * their group by dropping numeric path segments (for example "/topic/messages/15" becomes
+ * "/topic/messages") to keep the number of metric tags bounded.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompMetrics {
+
+  private static final String METRIC_PREFIX = "websocket.stomp";
+  private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+  private static final String UNKNOWN_DESTINATION = "unknown";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+  private final Map<String, AtomicInteger> subscribersByGroup = new ConcurrentHashMap<>();
+  private final Map<String, String> groupBySubscription = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an interceptor for the channel carrying frames received from clients. It counts
+   * SEND frames and keeps track of subscriptions.
+   *
+   * @return the client inbound channel interceptor
+   */
+  public ChannelInterceptor clientInboundInterceptor() {
+    return new MetricsInterceptor("inbound", true);
+  }
+
+  /**
+   * Creates an interceptor for the channel carrying messages published by the application.
+   *
+   * @return the broker channel interceptor
+   */
+  public ChannelInterceptor brokerInterceptor() {
+    return new MetricsInterceptor("published", false);
+  }
+
+  /**
+   * Creates an interceptor for the channel carrying messages delivered to subscribers.
+   *
+   * @return the client outbound channel interceptor
+   */
+  public ChannelInterceptor clientOutboundInterceptor() {
+    return new MetricsInterceptor("delivered", false);
+  }
+
+  /**
+   * Reduces a destination to its group by removing numeric path segments.
+   *
+   * @param destination the STOMP destination
+   * @return the destination group
+   */
+  public static String toGroup(String destination) {
+    return Optional.ofNullable(destination)
+        .map(value -> NUMERIC_SEGMENT.matcher(value).replaceAll(""))
+        .filter(value -> !value.isEmpty())
+        .orElse(UNKNOWN_DESTINATION);
+  }
+
+  private void countMessage(String destination, String direction) {
+    String group = toGroup(destination);
+    counters.computeIfAbsent(group + ":" + direction, key -> Counter
+            .builder(METRIC_PREFIX + ".messages")
+            .tag("destination", group)
+            .tag("direction", direction)
+            .register(meterRegistry))
+        .increment();
+  }
+
+  private void subscribe(SimpMessageHeaderAccessor accessor) {
+    String group = toGroup(accessor.getDestination());
+    if (groupBySubscription.putIfAbsent(subscriptionKey(accessor), group) == null) {
+      subscribers(group).incrementAndGet();
+    }
+  }
+
+  private void unsubscribe(String subscriptionKey) {
+    String group = groupBySubscription.remove(subscriptionKey);
+    if (group != null) {
+      subscribers(group).decrementAndGet();
+    }
+  }
+
+  private void disconnect(String sessionId) {
+    if (sessionId == null) {
+      return;
+    }
+    String prefix = sessionId + ":";
+    groupBySubscription.keySet().stream()
+        .filter(key -> key.startsWith(prefix))
+        .toList()
+        .forEach(this::unsubscribe);
+  }
+
+  private AtomicInteger subscribers(String group) {
+    return subscribersByGroup.computeIfAbsent(group, key -> {
+      AtomicInteger count = new AtomicInteger();
+      Gauge.builder(METRIC_PREFIX + ".subscribers", count, AtomicInteger::get)
+          .tag("destination", key)
+          .register(meterRegistry);
+      return count;
+    });
+  }
+
+  private String subscriptionKey(SimpMessageHeaderAccessor accessor) {
+    return accessor.getSessionId() + ":" + accessor.getSubscriptionId();
+  }
+
+  @RequiredArgsConstructor
+  private class MetricsInterceptor implements ChannelInterceptor {
+
+    private final String direction;
+    private final boolean trackSubscriptions;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+      SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+      SimpMessageType type = accessor.getMessageType();
+      if (type == SimpMessageType.MESSAGE) {
+        countMessage(accessor.getDestination(), direction);
+      } else if (trackSubscriptions && type == SimpMessageType.SUBSCRIBE) {
+        subscribe(accessor);
+      } else if (trackSubscriptions && type == SimpMessageType.UNSUBSCRIBE) {
+        unsubscribe(subscriptionKey(accessor));
+      } else if (trackSubscriptions && type == SimpMessageType.DISCONNECT) {
+        disconnect(accessor.getSessionId());
+      }
+      return message;
+    }
+  }
+}
@@ -1,22 +1,42 @@
 package com.ratifire.devrate.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 
 /**
  * Utility class for converting instances to JSON strings.
+ *
+ * <p>The underlying {@link ObjectMapper} is configured once and never mutated afterwards. All
+ * conversions go through immutable {@link ObjectWriter} and {@link ObjectReader} instances, which
+ * are thread-safe; readers are cached per target type.
  */
 @Slf4j
 public class JsonConverter {
 
-  private static final ObjectMapper objectMapper = new ObjectMapper();
+  private static final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+      .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+      .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+  private static final ObjectWriter writer = objectMapper.writer();
+  private static final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+  private static final TypeReference<List<String>> STRING_LIST_TYPE = new TypeReference<>() {};
 
   /**
    * Serializes an object to a JSON string.
@@ -25,10 +45,36 @@ public class JsonConverter {
    * @return the serialized JSON string
    */
   public static <T> String serialize(T object) {
-    objectMapper.registerModule(new JavaTimeModule());
-    objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
     try {
-      return objectMapper.writeValueAsString(object);
+      return writer.writeValueAsString(object);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to serialize object to JSON", e);
+    }
+  }
+
+  /**
+   * Serializes an object as JSON directly into the given stream. The stream is not closed.
+   *
+   * @param object       the object to serialize
+   * @param outputStream the stream to write to
+   */
+  public static <T> void serialize(T object, OutputStream outputStream) {
+    try {
+      writer.writeValue(outputStream, object);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to serialize object to JSON", e);
+    }
+  }
+
+  /**
+   * Serializes an object to UTF-8 encoded JSON bytes.
+   *
+   * @param object the object to serialize
+   * @return the serialized JSON bytes
+   */
+  public static <T> byte[] serializeToBytes(T object) {
+    try {
+      return writer.writeValueAsBytes(object);
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to serialize object to JSON", e);
     }
@@ -43,12 +89,58 @@ public class JsonConverter {
    */
   public static <T> T deserialize(String json, TypeReference<T> typeReference) {
     try {
-      return objectMapper.readValue(json, typeReference);
+      return readerFor(objectMapper.constructType(typeReference)).readValue(json);
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize JSON to object", e);
     }
   }
 
+  /**
+   * Deserializes a JSON string into an object of the specified class.
+   *
+   * @param json the JSON string to deserialize
+   * @param type the target class
+   * @return the deserialized object
+   */
+  public static <T> T deserialize(String json, Class<T> type) {
+    try {
+      return readerFor(objectMapper.constructType(type)).readValue(json);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to deserialize JSON to object", e);
+    }
+  }
+
+  /**
+   * Deserializes UTF-8 encoded JSON bytes into an object of the specified class.
+   *
+   * @param json the JSON bytes to deserialize
+   * @param type the target class
+   * @return the deserialized object
+   */
+  public static <T> T deserialize(byte[] json, Class<T> type) {
+    try {
+      return readerFor(objectMapper.constructType(type)).readValue(json);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to deserialize JSON to object", e);
+    }
+  }
+
+  /**
+   * Deserializes JSON read from the given stream into an object of the specified type. The
+   * stream is not closed.
+   *
+   * @param inputStream   the stream to read from
+   * @param typeReference the type reference defining the target object type
+   * @return the deserialized object
+   */
+  public static <T> T deserialize(InputStream inputStream, TypeReference<T> typeReference) {
+    try {
+      return readerFor(objectMapper.constructType(typeReference)).readValue(inputStream);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to deserialize JSON to object", e);
+    }
+  }
+
   /**
    * Loads a list of strings from a JSON file located at the specified path.
    *
@@ -58,9 +150,28 @@ public class JsonConverter {
    */
   public static List<String> loadStringFromJson(String path) {
     try (InputStream inputStream = JsonConverter.class.getResourceAsStream(path)) {
-      return objectMapper.readValue(inputStream, new TypeReference<>() {});
+      return readerFor(objectMapper.constructType(STRING_LIST_TYPE)).readValue(inputStream);
     } catch (IOException e) {
       throw new RuntimeException("Failed to load data from: " + path);
     }
   }
+
+  /**
+   * Loads a list of strings from a JSON resource.
+   *
+   * @param resource the JSON resource
+   * @return a {@link List} of strings deserialized from the resource
+   * @throws RuntimeException if the resource is not found or cannot be deserialized
+   */
+  public static List<String> loadStringFromJson(Resource resource) {
+    try (InputStream inputStream = resource.getInputStream()) {
+      return readerFor(objectMapper.constructType(STRING_LIST_TYPE)).readValue(inputStream);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to load data from: " + resource.getDescription());
+    }
+  }
+
+  private static ObjectReader readerFor(JavaType type) {
+    return readers.computeIfAbsent(type, objectMapper::readerFor);
+  }
 }
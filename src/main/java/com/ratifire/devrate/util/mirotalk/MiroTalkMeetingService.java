@@ -1,6 +1,8 @@
 package com.ratifire.devrate.util.mirotalk;
 
 import com.ratifire.devrate.service.MeetingService;
+import java.util.List;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 
 /**
  * Service for interacting with the MiroTalk API to create meetings.
@@ -39,16 +42,14 @@ public class MiroTalkMeetingService implements MeetingService {
    */
   @Override
   public String createMeeting() {
-    String url = miroTalkApiUrl + "/api/v1/meeting";
-
-    HttpHeaders headers = new HttpHeaders();
-    headers.set(AUTHORIZATION_HEADER, miroTalkApiKey);
-    headers.setContentType(MediaType.APPLICATION_JSON);
+    return createMeeting(restTemplate.build(), buildRequest());
+  }
 
-    HttpEntity<String> entity = new HttpEntity<>(headers);
+  private String createMeeting(RestTemplate client, HttpEntity<String> entity) {
+    String url = miroTalkApiUrl + "/api/v1/meeting";
 
     try {
-      ResponseEntity<MiroTalkMeetingResponse> response = restTemplate.build()
+      ResponseEntity<MiroTalkMeetingResponse> response = client
           .exchange(url, HttpMethod.POST, entity, MiroTalkMeetingResponse.class);
 
       log.info("MiroTalk meeting creation response: {}", response.getBody());
@@ -63,4 +64,25 @@ public class MiroTalkMeetingService implements MeetingService {
       throw new MeetingServiceException("Error creating meeting with MiroTalk API", e);
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Creates several meetings in MiroTalk. The API creates one meeting per request, so the
+   * requests are sent one after another over the same client.
+   *
+   * @param count the number of meetings to create
+   * @return the URLs of the created meetings
+   */
+  @Override
+  public List<String> createMeetings(int count) {
+    RestTemplate client = restTemplate.build();
+    HttpEntity<String> entity = buildRequest();
+    return IntStream.range(0, count).mapToObj(i -> createMeeting(client, entity)).toList();
+  }
+
+  private HttpEntity<String> buildRequest() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(AUTHORIZATION_HEADER, miroTalkApiKey);
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    return new HttpEntity<>(headers);
+  }
+}
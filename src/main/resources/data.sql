@@ -1005,9 +1005,10 @@ WHERE NOT EXISTS (SELECT 1
                   FROM events
                   WHERE id = new_events.id);
 
--- Create user-event relation records
-INSERT INTO user_event (user_id, event_id)
-SELECT * FROM (
+-- Create event participant records
+INSERT INTO event_participants (event_id, user_id, start_time)
+SELECT new_event_participants.event_id, new_event_participants.user_id, events.start_time
+FROM (
 VALUES
     (8881, 10001), (8882, 10001),
     (8881, 10002), (8882, 10002),
@@ -1033,11 +1034,12 @@ VALUES
     (8881, 10022), (8882, 10022),
     (8881, 10023), (8882, 10023),
     (8881, 10024), (8882, 10024)
-) AS new_user_event (user_id, event_id)
+) AS new_event_participants (user_id, event_id)
+JOIN events ON events.id = new_event_participants.event_id
 WHERE NOT EXISTS (SELECT 1
-                  FROM user_event
-                  WHERE user_id = new_user_event.user_id
-                  AND event_id = new_user_event.event_id);
+                  FROM event_participants
+                  WHERE user_id = new_event_participants.user_id
+                  AND event_id = new_event_participants.event_id);
 
 -- Create 50 test user records with names in Ukrainian, English, and Ukrainian transliteration
 INSERT INTO users (id, first_name, last_name, country, city, is_subscribed, picture, completed_interviews, conducted_interviews, email, password, created_at, account_language, registration_source)
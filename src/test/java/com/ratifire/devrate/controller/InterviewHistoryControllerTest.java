@@ -0,0 +1,71 @@
+package com.ratifire.devrate.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ratifire.devrate.dto.InterviewHistoryKeysetPageDto;
+import com.ratifire.devrate.service.interview.InterviewHistoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Unit tests for the {@link InterviewHistoryController} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewHistoryControllerTest {
+
+  @Mock
+  private InterviewHistoryService interviewHistoryService;
+
+  @InjectMocks
+  private InterviewHistoryController interviewHistoryController;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.standaloneSetup(interviewHistoryController)
+        .setControllerAdvice(new HandlerException())
+        .build();
+  }
+
+  @Test
+  void getAllBefore_ShouldReturnPage_WhenSizeIsValid() throws Exception {
+    // Given
+    when(interviewHistoryService.getAllByUserIdBefore(null, null, 20))
+        .thenReturn(InterviewHistoryKeysetPageDto.builder().build());
+
+    // When & Then
+    mockMvc.perform(get("/interview-histories/keyset").param("size", "20"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void getAllBefore_ShouldReturnBadRequest_WhenSizeIsNotPositive() throws Exception {
+    // When & Then
+    mockMvc.perform(get("/interview-histories/keyset").param("size", "0"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/interview-histories/keyset").param("size", "-1"))
+        .andExpect(status().isBadRequest());
+    verify(interviewHistoryService, never()).getAllByUserIdBefore(any(), any(), anyInt());
+  }
+
+  @Test
+  void getAllBefore_ShouldReturnBadRequest_WhenSizeExceedsMaximum() throws Exception {
+    // When & Then
+    mockMvc.perform(get("/interview-histories/keyset").param("size", "101"))
+        .andExpect(status().isBadRequest());
+    verify(interviewHistoryService, never()).getAllByUserIdBefore(any(), any(), anyInt());
+  }
+}
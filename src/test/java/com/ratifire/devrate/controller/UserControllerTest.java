@@ -0,0 +1,69 @@
+package com.ratifire.devrate.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ratifire.devrate.dto.UserSearchPageDto;
+import com.ratifire.devrate.service.SpecializationService;
+import com.ratifire.devrate.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Unit tests for the {@link UserController} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserControllerTest {
+
+  @Mock
+  private UserService userService;
+
+  @Mock
+  private SpecializationService specializationService;
+
+  @InjectMocks
+  private UserController userController;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.standaloneSetup(userController)
+        .setControllerAdvice(new HandlerException())
+        .build();
+  }
+
+  @Test
+  void searchUsersPage_ShouldReturnPage_WhenSizeIsValid() throws Exception {
+    // Given
+    when(userService.searchUsers("john", null, 1))
+        .thenReturn(UserSearchPageDto.builder().build());
+
+    // When & Then
+    mockMvc.perform(get("/users/search/page").param("query", "john").param("size", "1"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void searchUsersPage_ShouldReturnBadRequest_WhenSizeIsOutOfRange() throws Exception {
+    // When & Then
+    mockMvc.perform(get("/users/search/page").param("query", "john").param("size", "0"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/users/search/page").param("query", "john").param("size", "-5"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/users/search/page").param("query", "john").param("size", "101"))
+        .andExpect(status().isBadRequest());
+    verify(userService, never()).searchUsers(any(), any(), anyInt());
+  }
+}
@@ -0,0 +1,135 @@
+package com.ratifire.devrate.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Integration tests for the {@link SkillRepository} and the mark aggregate triggers on the skills
+ * table, run against PostgreSQL with the Liquibase changelog applied.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class SkillRepositoryTest {
+
+  @Container
+  @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired
+  private SkillRepository skillRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private long masteryId;
+
+  @BeforeEach
+  void setUp() {
+    Long userId = jdbcTemplate.queryForObject("""
+        INSERT INTO users (first_name, last_name, country, is_subscribed, email, password,
+          created_at, account_language, registration_source)
+        VALUES ('John', 'Doe', 'Ukraine', false, 'john@example.com', 'secret', now(), 'en',
+          'EMAIL')
+        RETURNING id""", Long.class);
+    Long specializationId = jdbcTemplate.queryForObject("""
+        INSERT INTO specializations (name, is_main, user_id) VALUES ('Backend', true, ?)
+        RETURNING id""", Long.class, userId);
+    masteryId = jdbcTemplate.queryForObject("""
+        INSERT INTO masteries (specialization_id, level) VALUES (?, 1) RETURNING id""",
+        Long.class, specializationId);
+
+    insertSkill("Java", "HARD_SKILL", "8.00", 1);
+    insertSkill("Spring", "HARD_SKILL", "6.00", 2);
+    insertSkill("Communication", "SOFT_SKILL", "7.00", 1);
+  }
+
+  @Test
+  void testInsert_TriggersComputeMasteryMarks() {
+    // When
+    Map<String, Object> mastery = findMastery();
+
+    // Then
+    assertMark("7.00", mastery.get("hard_skill_mark"));
+    assertMark("14.00", mastery.get("hard_skill_mark_sum"));
+    assertEquals(2, mastery.get("hard_skill_count"));
+    assertMark("7.00", mastery.get("soft_skill_mark"));
+    assertEquals(1, mastery.get("soft_skill_count"));
+  }
+
+  @Test
+  void testApplyMarks_UpdatesSkillsAndMasteryMarks() {
+    // Given
+    String marks = """
+        [{"masteryId": %d, "name": "Java", "mark": 4},
+         {"masteryId": %d, "name": "Spring", "mark": 9}]""".formatted(masteryId, masteryId);
+
+    // When
+    int updated = skillRepository.applyMarks(marks);
+
+    // Then
+    assertEquals(2, updated);
+    Map<String, Object> java = findSkill("Java");
+    assertMark("12.00", java.get("mark_sum"));
+    assertEquals(2L, java.get("counter"));
+    assertMark("6.00", java.get("average_mark"));
+    assertFalse((Boolean) java.get("is_grows"));
+    Map<String, Object> spring = findSkill("Spring");
+    assertMark("21.00", spring.get("mark_sum"));
+    assertEquals(3L, spring.get("counter"));
+    assertMark("7.00", spring.get("average_mark"));
+    assertTrue((Boolean) spring.get("is_grows"));
+    Map<String, Object> mastery = findMastery();
+    assertMark("6.50", mastery.get("hard_skill_mark"));
+    assertMark("13.00", mastery.get("hard_skill_mark_sum"));
+    assertMark("7.00", mastery.get("soft_skill_mark"));
+  }
+
+  @Test
+  void testDelete_TriggersRecomputeMasteryMarks() {
+    // When
+    jdbcTemplate.update("DELETE FROM skills WHERE mastery_id = ? AND name = 'Java'", masteryId);
+
+    // Then
+    Map<String, Object> mastery = findMastery();
+    assertMark("6.00", mastery.get("hard_skill_mark"));
+    assertEquals(1, mastery.get("hard_skill_count"));
+  }
+
+  private void insertSkill(String name, String type, String averageMark, long counter) {
+    BigDecimal mark = new BigDecimal(averageMark);
+    jdbcTemplate.update("""
+        INSERT INTO skills (name, average_mark, mark_sum, counter, is_hidden, type, is_grows,
+          mastery_id)
+        VALUES (?, ?, ?, ?, false, ?, false, ?)""",
+        name, mark, mark.multiply(BigDecimal.valueOf(counter)), counter, type, masteryId);
+  }
+
+  private Map<String, Object> findSkill(String name) {
+    return jdbcTemplate.queryForMap("SELECT * FROM skills WHERE mastery_id = ? AND name = ?",
+        masteryId, name);
+  }
+
+  private Map<String, Object> findMastery() {
+    return jdbcTemplate.queryForMap("SELECT * FROM masteries WHERE id = ?", masteryId);
+  }
+
+  private static void assertMark(String expected, Object actual) {
+    assertEquals(0, new BigDecimal(expected).compareTo((BigDecimal) actual),
+        () -> "expected " + expected + " but was " + actual);
+  }
+}
@@ -0,0 +1,93 @@
+package com.ratifire.devrate.security.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ratifire.devrate.security.configuration.properties.WhitelistPathProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Unit tests for the {@link WhitelistPathMatcher} class.
+ */
+class WhitelistPathMatcherTest {
+
+  private static final List<String> PATTERNS = List.of("/auth/**", "/chat/**",
+      "/swagger-config.yaml", "/data/user/countries.json", "/v3/api-docs/**", "/files/*.png");
+
+  private WhitelistPathProperties whitelistPathProperties;
+  private SimpleMeterRegistry meterRegistry;
+  private WhitelistPathMatcher matcher;
+
+  @BeforeEach
+  void setUp() {
+    whitelistPathProperties = mock(WhitelistPathProperties.class);
+    when(whitelistPathProperties.getWhitelistedPaths()).thenReturn(PATTERNS);
+    meterRegistry = new SimpleMeterRegistry();
+    matcher = new WhitelistPathMatcher(whitelistPathProperties, meterRegistry, 16);
+  }
+
+  @Test
+  void testMatches_SameDecisionsAsAntPathMatcher() {
+    AntPathMatcher antPathMatcher = new AntPathMatcher();
+    List<String> paths = List.of("/auth", "/auth/", "/auth/signin", "/chat/123/xhr_streaming",
+        "/chatting", "/swagger-config.yaml", "/swagger-config.yml", "/data/user/countries.json",
+        "/v3/api-docs", "/files/logo.png", "/files/nested/logo.png", "/users/1", "/");
+
+    for (String path : paths) {
+      boolean expected = PATTERNS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+      assertEquals(expected, matcher.matches(path), path);
+    }
+  }
+
+  @Test
+  void testMatches_CachesDecisions() {
+    // When
+    assertTrue(matcher.matches("/chat/info"));
+    assertTrue(matcher.matches("/chat/info"));
+    assertFalse(matcher.matches(""));
+
+    // Then
+    assertEquals(1, meterRegistry.counter("security.whitelist.cache.hits").count());
+    assertEquals(1, meterRegistry.counter("security.whitelist.cache.misses").count());
+  }
+
+  @Test
+  void testMatches_EvictsLeastRecentlyUsedDecision() {
+    // Given
+    for (int i = 0; i < 16; i++) {
+      matcher.matches("/users/" + i);
+    }
+    matcher.matches("/users/0");
+
+    // When
+    matcher.matches("/users/16");
+    matcher.matches("/users/0");
+    matcher.matches("/users/1");
+
+    // Then
+    assertEquals(2, meterRegistry.counter("security.whitelist.cache.hits").count());
+    assertEquals(18, meterRegistry.counter("security.whitelist.cache.misses").count());
+  }
+
+  @Test
+  void testReloadIfModified_RecompilesWhitelist() {
+    // Given
+    when(whitelistPathProperties.reloadIfModified()).thenReturn(true);
+    when(whitelistPathProperties.getWhitelistedPaths()).thenReturn(List.of("/users/**"));
+    assertFalse(matcher.matches("/users/1"));
+
+    // When
+    matcher.reloadIfModified();
+
+    // Then
+    assertTrue(matcher.matches("/users/1"));
+    assertFalse(matcher.matches("/chat/info"));
+  }
+}
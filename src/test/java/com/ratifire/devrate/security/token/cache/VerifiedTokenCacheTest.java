@@ -0,0 +1,80 @@
+package com.ratifire.devrate.security.token.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ratifire.devrate.security.model.enums.CognitoTypeToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link VerifiedTokenCache} class.
+ */
+class VerifiedTokenCacheTest {
+
+  private static final String TOKEN = "header.payload.signature";
+
+  private SimpleMeterRegistry meterRegistry;
+  private VerifiedTokenCache cache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cache = new VerifiedTokenCache(true, 2, meterRegistry);
+  }
+
+  @Test
+  void testIsVerified_AfterPut() {
+    // Given
+    cache.put(TOKEN, CognitoTypeToken.ACCESS_TOKEN, inFuture());
+
+    // When & Then
+    assertTrue(cache.isVerified(TOKEN, CognitoTypeToken.ACCESS_TOKEN));
+    assertFalse(cache.isVerified(TOKEN, CognitoTypeToken.ID_TOKEN));
+    assertEquals(1, meterRegistry.counter("security.token.cache.hits").count());
+    assertEquals(1, meterRegistry.counter("security.token.cache.misses").count());
+  }
+
+  @Test
+  void testPut_ExpiredTokenIsNotCached() {
+    // When
+    cache.put(TOKEN, CognitoTypeToken.ACCESS_TOKEN, Date.from(Instant.now().minusSeconds(1)));
+
+    // Then
+    assertFalse(cache.isVerified(TOKEN, CognitoTypeToken.ACCESS_TOKEN));
+  }
+
+  @Test
+  void testPut_EvictsWhenFull() {
+    // Given
+    cache.put("first", CognitoTypeToken.ACCESS_TOKEN, Date.from(Instant.now().plusSeconds(60)));
+    cache.put("second", CognitoTypeToken.ACCESS_TOKEN, inFuture());
+
+    // When
+    cache.put("third", CognitoTypeToken.ACCESS_TOKEN, inFuture());
+
+    // Then
+    assertFalse(cache.isVerified("first", CognitoTypeToken.ACCESS_TOKEN));
+    assertTrue(cache.isVerified("second", CognitoTypeToken.ACCESS_TOKEN));
+    assertTrue(cache.isVerified("third", CognitoTypeToken.ACCESS_TOKEN));
+    assertEquals(1, meterRegistry.counter("security.token.cache.evictions").count());
+  }
+
+  @Test
+  void testIsVerified_Disabled() {
+    // Given
+    VerifiedTokenCache disabledCache = new VerifiedTokenCache(false, 2, meterRegistry);
+    disabledCache.put(TOKEN, CognitoTypeToken.ACCESS_TOKEN, inFuture());
+
+    // When & Then
+    assertFalse(disabledCache.isVerified(TOKEN, CognitoTypeToken.ACCESS_TOKEN));
+  }
+
+  private Date inFuture() {
+    return Date.from(Instant.now().plusSeconds(3600));
+  }
+}
@@ -0,0 +1,147 @@
+package com.ratifire.devrate.sender;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ratifire.devrate.dto.ParticipantRequestDto;
+import com.ratifire.devrate.enums.SqsMessageType;
+import io.awspring.cloud.sqs.operations.SendResult;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+
+/**
+ * Unit tests for the {@link InterviewRequestSqsSender} class.
+ */
+class InterviewRequestSqsSenderTest {
+
+  private static final String ENDPOINT = "participantQueue";
+
+  private SqsTemplate sqsTemplate;
+  private SimpleMeterRegistry meterRegistry;
+  private InterviewRequestSqsSender sender;
+  private List<List<Message<String>>> sentBatches;
+
+  @BeforeEach
+  void setUp() {
+    sqsTemplate = mock(SqsTemplate.class);
+    meterRegistry = new SimpleMeterRegistry();
+    sentBatches = new ArrayList<>();
+    ScheduledExecutorService flusher = mock(ScheduledExecutorService.class);
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(flusher).execute(any(Runnable.class));
+    sender = new InterviewRequestSqsSender(sqsTemplate, meterRegistry, ENDPOINT, 60_000, 3, 0,
+        flusher);
+  }
+
+  @AfterEach
+  void tearDown() {
+    sender.shutdown();
+  }
+
+  @Test
+  void testFlush_CollapsesDuplicateUpdates() {
+    // Given
+    acceptAll();
+    sender.send(SqsMessageType.UPDATE.name(), dto(1));
+    sender.send(SqsMessageType.UPDATE.name(), dto(2));
+    sender.send(SqsMessageType.UPDATE.name(), dto(1));
+
+    // When
+    sender.flush();
+
+    // Then
+    assertEquals(1, sentBatches.size());
+    assertEquals(2, sentBatches.getFirst().size());
+    assertEquals(1, meterRegistry.counter("matcher.sqs.collapsed").count());
+  }
+
+  @Test
+  void testFlush_DeleteDiscardsPendingUpdate() {
+    // Given
+    acceptAll();
+    sender.send(SqsMessageType.UPDATE.name(), dto(1));
+    sender.send(SqsMessageType.DELETE.name(), dto(1));
+
+    // When
+    sender.flush();
+
+    // Then
+    assertEquals(1, sentBatches.getFirst().size());
+    assertEquals(SqsMessageType.DELETE.name(),
+        sentBatches.getFirst().getFirst().getHeaders().get("messageType"));
+  }
+
+  @Test
+  void testFlush_SplitsIntoBatchesOfTen() {
+    // Given
+    acceptAll();
+    sender.sendAll(SqsMessageType.CREATE.name(),
+        List.of(dto(1), dto(2), dto(3), dto(4), dto(5), dto(6), dto(7), dto(8), dto(9), dto(10),
+            dto(11), dto(12)));
+
+    // When
+    sender.flush();
+
+    // Then
+    verify(sqsTemplate, times(2)).sendMany(eq(ENDPOINT), anyCollection());
+    assertEquals(12, meterRegistry.counter("matcher.sqs.sent").count());
+  }
+
+  @Test
+  void testFlush_RetriesFailedEntries() {
+    // Given
+    when(sqsTemplate.sendMany(eq(ENDPOINT), anyCollection()))
+        .thenAnswer(invocation -> failFirst(invocation.getArgument(1)))
+        .thenAnswer(invocation -> accept(invocation.getArgument(1)));
+    sender.send(SqsMessageType.CREATE.name(), dto(1));
+    sender.send(SqsMessageType.CREATE.name(), dto(2));
+
+    // When
+    sender.flush();
+
+    // Then
+    verify(sqsTemplate, times(2)).sendMany(eq(ENDPOINT), anyCollection());
+    assertEquals(1, sentBatches.getLast().size());
+    assertEquals(2, meterRegistry.counter("matcher.sqs.sent").count());
+    assertEquals(1, meterRegistry.counter("matcher.sqs.retried").count());
+  }
+
+  private void acceptAll() {
+    when(sqsTemplate.sendMany(eq(ENDPOINT), anyCollection()))
+        .thenAnswer(invocation -> accept(invocation.getArgument(1)));
+  }
+
+  private SendResult.Batch<String> accept(Collection<Message<String>> messages) {
+    sentBatches.add(List.copyOf(messages));
+    return new SendResult.Batch<>(List.of(), List.of());
+  }
+
+  private SendResult.Batch<String> failFirst(Collection<Message<String>> messages) {
+    sentBatches.add(List.copyOf(messages));
+    Message<String> rejected = messages.iterator().next();
+    return new SendResult.Batch<>(List.of(),
+        List.of(new SendResult.Failed<>("Throttled", ENDPOINT, rejected, Map.of())));
+  }
+
+  private ParticipantRequestDto dto(int id) {
+    return ParticipantRequestDto.builder().id(id).build();
+  }
+}
@@ -19,7 +19,6 @@ import com.ratifire.devrate.exception.ResourceAlreadyExistException;
 import com.ratifire.devrate.mapper.DataMapper;
 import com.ratifire.devrate.repository.MasteryHistoryRepository;
 import com.ratifire.devrate.repository.MasteryRepository;
-import com.ratifire.devrate.service.interview.InterviewMetricsService;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -48,9 +47,6 @@ class MasteryServiceTest {
   @Mock
   private MasteryHistoryRepository masteryHistoryRepository;
 
-  @Mock
-  private InterviewMetricsService interviewMetricsService;
-
   @Mock
   private DataMapper dataMapper;
 
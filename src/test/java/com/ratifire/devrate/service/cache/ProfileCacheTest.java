@@ -0,0 +1,101 @@
+package com.ratifire.devrate.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ratifire.devrate.enums.ProfileCacheSection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Unit tests for the {@link ProfileCache} class.
+ */
+class ProfileCacheTest {
+
+  private static final TypeReference<String> TYPE = new TypeReference<>() {
+  };
+
+  private SimpleMeterRegistry meterRegistry;
+  private ProfileCache profileCache;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    profileCache = new ProfileCache(new ObjectMapper(), mock(ObjectProvider.class), meterRegistry,
+        true, 2, Duration.ofMinutes(1), Duration.ofMinutes(10));
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  void testGet_LoadsOnceAndCountsHits() {
+    // When
+    profileCache.get(ProfileCacheSection.CONTACTS, 1L, TYPE, this::load);
+    String cached = profileCache.get(ProfileCacheSection.CONTACTS, 1L, TYPE, this::load);
+
+    // Then
+    assertEquals("value-1", cached);
+    assertEquals(1, loads.get());
+    assertEquals(1, meterRegistry.counter("profile.cache.hits", "tier", "l1").count());
+    assertEquals(1, meterRegistry.counter("profile.cache.misses", "tier", "l1").count());
+  }
+
+  @Test
+  void testEvict_ReloadsSection() {
+    // Given
+    profileCache.get(ProfileCacheSection.CONTACTS, 1L, TYPE, this::load);
+
+    // When
+    profileCache.evict(1L, ProfileCacheSection.CONTACTS);
+    String reloaded = profileCache.get(ProfileCacheSection.CONTACTS, 1L, TYPE, this::load);
+
+    // Then
+    assertEquals("value-2", reloaded);
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testGet_ReturnsCopiesOfCachedValues() {
+    // Given
+    TypeReference<List<String>> type = new TypeReference<>() {
+    };
+    List<String> first = profileCache.get(ProfileCacheSection.CONTACTS, 1L, type,
+        () -> new ArrayList<>(List.of("Java")));
+
+    // When
+    first.add("Kotlin");
+    List<String> second = profileCache.get(ProfileCacheSection.CONTACTS, 1L, type, List::of);
+
+    // Then
+    assertEquals(List.of("Java"), second);
+    assertNotSame(first, second);
+  }
+
+  @Test
+  void testGet_EvictsLeastRecentlyUsedEntries() {
+    // Given
+    profileCache.get(ProfileCacheSection.USER, 1L, TYPE, this::load);
+    profileCache.get(ProfileCacheSection.USER, 2L, TYPE, this::load);
+    profileCache.get(ProfileCacheSection.USER, 3L, TYPE, this::load);
+
+    // When
+    profileCache.get(ProfileCacheSection.USER, 1L, TYPE, this::load);
+
+    // Then
+    assertEquals(4, loads.get());
+  }
+
+  private String load() {
+    return "value-" + loads.incrementAndGet();
+  }
+}
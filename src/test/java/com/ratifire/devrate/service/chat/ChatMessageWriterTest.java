@@ -0,0 +1,72 @@
+package com.ratifire.devrate.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ratifire.devrate.dto.ChatMessageDto;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link ChatMessageWriter} class.
+ */
+class ChatMessageWriterTest {
+
+  private static final ZonedDateTime NOW = ZonedDateTime.of(2026, 10, 18, 12, 0, 0, 0,
+      ZoneOffset.UTC);
+
+  @Test
+  void testToConversationUpdates_MergesMessagesOfSameConversation() {
+    // Given
+    List<ChatMessageDto> batch = List.of(
+        message(1L, 2L, "first", NOW),
+        message(2L, 1L, "reply", NOW.plusSeconds(1)),
+        message(1L, 2L, "second", NOW.plusSeconds(2)),
+        message(1L, 3L, "other", NOW));
+
+    // When
+    List<Object[]> updates = ChatMessageWriter.toConversationUpdates(batch);
+
+    // Then
+    assertEquals(4, updates.size());
+    Timestamp last = Timestamp.from(NOW.plusSeconds(2).toInstant());
+    assertArrayEquals(new Object[]{1L, 2L, "second", 1L, last, 1}, updates.get(0));
+    assertArrayEquals(new Object[]{2L, 1L, "second", 1L, last, 2}, updates.get(1));
+    assertArrayEquals(new Object[]{1L, 3L, "other", 1L, Timestamp.from(NOW.toInstant()), 0},
+        updates.get(2));
+    assertArrayEquals(new Object[]{3L, 1L, "other", 1L, Timestamp.from(NOW.toInstant()), 1},
+        updates.get(3));
+  }
+
+  @Test
+  void testToConversationUpdates_KeepsLatestMessageWhenOutOfOrder() {
+    // Given
+    List<ChatMessageDto> batch = List.of(
+        message(1L, 2L, "late", NOW.plusSeconds(5)),
+        message(1L, 2L, "early", NOW));
+
+    // When
+    List<Object[]> updates = ChatMessageWriter.toConversationUpdates(batch);
+
+    // Then
+    assertEquals(2, updates.size());
+    assertEquals("late", updates.get(0)[2]);
+    assertEquals(0, updates.get(0)[5]);
+    assertEquals("late", updates.get(1)[2]);
+    assertEquals(2, updates.get(1)[5]);
+  }
+
+  private ChatMessageDto message(long senderId, long receiverId, String payload,
+      ZonedDateTime dateTime) {
+    return ChatMessageDto.builder()
+        .senderId(senderId)
+        .receiverId(receiverId)
+        .payload(payload)
+        .status("SENT")
+        .dateTime(dateTime)
+        .build();
+  }
+}
@@ -0,0 +1,105 @@
+package com.ratifire.devrate.service.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ratifire.devrate.dto.InterviewRequestDto;
+import com.ratifire.devrate.entity.Mastery;
+import com.ratifire.devrate.entity.Skill;
+import com.ratifire.devrate.entity.interview.InterviewRequest;
+import com.ratifire.devrate.enums.SkillType;
+import com.ratifire.devrate.mapper.impl.InterviewRequestMapper;
+import com.ratifire.devrate.repository.interview.InterviewRequestRepository;
+import com.ratifire.devrate.security.helper.UserContextProvider;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for the {@link InterviewRequestService} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewRequestServiceTest {
+
+  private static final long USER_ID = 1L;
+  private static final long REQUEST_ID = 10L;
+
+  @Mock
+  private InterviewRequestRepository repository;
+
+  @Mock
+  private InterviewRequestMapper mapper;
+
+  @Mock
+  private MatcherServiceQueueSender matcherServiceQueueSender;
+
+  @Mock
+  private UserContextProvider userContextProvider;
+
+  @InjectMocks
+  private InterviewRequestService interviewRequestService;
+
+  @Test
+  void update_ShouldResetExpiryProcessing_WhenExpiredAtMovesIntoFuture() {
+    // Given
+    ZonedDateTime processedAt = ZonedDateTime.now().minusDays(1);
+    InterviewRequest request = givenRequest(processedAt);
+    InterviewRequestDto dto = givenDto(ZonedDateTime.now().plusDays(7));
+
+    // When
+    interviewRequestService.update(REQUEST_ID, dto);
+
+    // Then
+    assertNull(request.getExpiryProcessedAt());
+    verify(repository).save(request);
+    verify(matcherServiceQueueSender).update(request);
+  }
+
+  @Test
+  void update_ShouldKeepExpiryProcessing_WhenExpiredAtStaysInPast() {
+    // Given
+    ZonedDateTime processedAt = ZonedDateTime.now().minusDays(1);
+    InterviewRequest request = givenRequest(processedAt);
+    InterviewRequestDto dto = givenDto(ZonedDateTime.now().minusHours(1));
+
+    // When
+    interviewRequestService.update(REQUEST_ID, dto);
+
+    // Then
+    assertEquals(processedAt, request.getExpiryProcessedAt());
+  }
+
+  private InterviewRequest givenRequest(ZonedDateTime expiryProcessedAt) {
+    List<Skill> skills = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      skills.add(Skill.builder().type(SkillType.HARD_SKILL).build());
+      skills.add(Skill.builder().type(SkillType.SOFT_SKILL).build());
+    }
+    InterviewRequest request = InterviewRequest.builder()
+        .id(REQUEST_ID)
+        .mastery(Mastery.builder().skills(skills).build())
+        .desiredInterview(1)
+        .expiredAt(ZonedDateTime.now().minusDays(2))
+        .expiryProcessedAt(expiryProcessedAt)
+        .timeSlots(List.of())
+        .build();
+    when(userContextProvider.getAuthenticatedUserId()).thenReturn(USER_ID);
+    when(repository.findByIdAndUser_Id(REQUEST_ID, USER_ID)).thenReturn(Optional.of(request));
+    return request;
+  }
+
+  private InterviewRequestDto givenDto(ZonedDateTime expiredAt) {
+    return InterviewRequestDto.builder()
+        .desiredInterview(1)
+        .expiredAt(expiredAt)
+        .build();
+  }
+}
@@ -0,0 +1,118 @@
+package com.ratifire.devrate.service.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ratifire.devrate.dto.InterviewStatsConductedPassedByDateDto;
+import com.ratifire.devrate.entity.interview.InterviewHistory;
+import com.ratifire.devrate.entity.interview.InterviewStatsHourly;
+import com.ratifire.devrate.enums.InterviewRequestRole;
+import com.ratifire.devrate.enums.InterviewStatsBucket;
+import com.ratifire.devrate.repository.interview.InterviewStatsHourlyRepository;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for the {@link InterviewStatsService} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewStatsServiceTest {
+
+  private static final long USER_ID = 1L;
+  private static final ZoneId KYIV = ZoneId.of("Europe/Kyiv");
+
+  @Mock
+  private InterviewStatsHourlyRepository repository;
+
+  @InjectMocks
+  private InterviewStatsService interviewStatsService;
+
+  @Test
+  void testRecord_IncrementsUtcHour() {
+    // Given
+    InterviewHistory history = InterviewHistory.builder()
+        .userId(USER_ID)
+        .role(InterviewRequestRole.CANDIDATE)
+        .dateTime(ZonedDateTime.of(2026, 10, 18, 12, 30, 0, 0, KYIV))
+        .build();
+
+    // When
+    interviewStatsService.record(List.of(history));
+
+    // Then
+    verify(repository).increment(USER_ID, "CANDIDATE",
+        ZonedDateTime.of(2026, 10, 18, 9, 0, 0, 0, ZoneOffset.UTC), 1);
+  }
+
+  @Test
+  void testRemove_SkipsHistoryWithoutRole() {
+    // When
+    interviewStatsService.remove(InterviewHistory.builder().userId(USER_ID).build());
+
+    // Then
+    verify(repository, never()).increment(anyLong(), anyString(), any(), eq(-1));
+  }
+
+  @Test
+  void testGetConductedPassed_GroupsByDayInZone() {
+    // Given
+    ZonedDateTime from = ZonedDateTime.of(2026, 10, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    ZonedDateTime to = ZonedDateTime.of(2026, 10, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+    when(repository.findByUserIdAndBucketStartBetween(USER_ID, from, to)).thenReturn(List.of(
+        row(InterviewRequestRole.INTERVIEWER, utc(2026, 10, 17, 22), 2),
+        row(InterviewRequestRole.CANDIDATE, utc(2026, 10, 18, 10), 1),
+        row(InterviewRequestRole.CANDIDATE, utc(2026, 10, 17, 20), 3)));
+
+    // When
+    List<InterviewStatsConductedPassedByDateDto> result = interviewStatsService
+        .getConductedPassed(USER_ID, from, to, InterviewStatsBucket.DAY, KYIV);
+
+    // Then
+    assertEquals(2, result.size());
+    assertEquals(ZonedDateTime.of(2026, 10, 17, 0, 0, 0, 0, KYIV), result.get(0).getDate());
+    assertEquals(0, result.get(0).getConducted());
+    assertEquals(3, result.get(0).getPassed());
+    assertEquals(ZonedDateTime.of(2026, 10, 18, 0, 0, 0, 0, KYIV), result.get(1).getDate());
+    assertEquals(2, result.get(1).getConducted());
+    assertEquals(1, result.get(1).getPassed());
+  }
+
+  @Test
+  void testBucketStart_WeekAndMonth() {
+    // Given
+    ZonedDateTime hour = utc(2026, 10, 15, 13);
+
+    // When & Then
+    assertEquals(ZonedDateTime.of(2026, 10, 12, 0, 0, 0, 0, KYIV),
+        InterviewStatsService.bucketStart(hour, InterviewStatsBucket.WEEK, KYIV));
+    assertEquals(ZonedDateTime.of(2026, 10, 1, 0, 0, 0, 0, KYIV),
+        InterviewStatsService.bucketStart(hour, InterviewStatsBucket.MONTH, KYIV));
+  }
+
+  private InterviewStatsHourly row(InterviewRequestRole role, ZonedDateTime bucketStart,
+      int interviews) {
+    return InterviewStatsHourly.builder()
+        .userId(USER_ID)
+        .role(role)
+        .bucketStart(bucketStart)
+        .interviews(interviews)
+        .build();
+  }
+
+  private ZonedDateTime utc(int year, int month, int day, int hour) {
+    return ZonedDateTime.of(year, month, day, hour, 0, 0, 0, ZoneOffset.UTC);
+  }
+}
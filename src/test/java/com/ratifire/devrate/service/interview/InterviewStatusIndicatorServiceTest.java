@@ -0,0 +1,79 @@
+package com.ratifire.devrate.service.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ratifire.devrate.enums.InterviewStatusIndicator;
+import com.ratifire.devrate.repository.interview.InterviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link InterviewStatusIndicatorService} class.
+ */
+class InterviewStatusIndicatorServiceTest {
+
+  private InterviewRepository repository;
+  private InterviewStatusIndicatorService statusIndicatorService;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(InterviewRepository.class);
+    statusIndicatorService = new InterviewStatusIndicatorService(repository,
+        new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+  }
+
+  @Test
+  void testGetStatus_InProgress() {
+    // Given
+    when(repository.existsByUserIdAndIsVisibleTrueAndStartTimeAfterAndStartTimeBefore(eq(1L),
+        any(ZonedDateTime.class), any(ZonedDateTime.class))).thenReturn(true);
+
+    // When
+    InterviewStatusIndicator status = statusIndicatorService.getStatus(1L).getStatus();
+
+    // Then
+    assertEquals(InterviewStatusIndicator.IN_PROGRESS, status);
+    verify(repository, never())
+        .existsByUserIdAndIsVisibleTrueAndStartTimeBefore(anyLong(), any(ZonedDateTime.class));
+  }
+
+  @Test
+  void testGetStatus_AwaitingFeedback() {
+    // Given
+    when(repository.existsByUserIdAndIsVisibleTrueAndStartTimeBefore(eq(1L),
+        any(ZonedDateTime.class))).thenReturn(true);
+
+    // When
+    InterviewStatusIndicator status = statusIndicatorService.getStatus(1L).getStatus();
+
+    // Then
+    assertEquals(InterviewStatusIndicator.AWAITING_FEEDBACK, status);
+  }
+
+  @Test
+  void testGetStatus_CachedUntilEvicted() {
+    // When
+    statusIndicatorService.getStatus(1L);
+    InterviewStatusIndicator cached = statusIndicatorService.getStatus(1L).getStatus();
+    statusIndicatorService.evict(List.of(1L));
+    statusIndicatorService.getStatus(1L);
+
+    // Then
+    assertNull(cached);
+    verify(repository, times(2))
+        .existsByUserIdAndIsVisibleTrueAndStartTimeBefore(anyLong(), any(ZonedDateTime.class));
+  }
+}
@@ -0,0 +1,50 @@
+package com.ratifire.devrate.service.interview;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link TimeSlotIntervalIndex} class.
+ */
+class TimeSlotIntervalIndexTest {
+
+  private static final ZonedDateTime TEN = ZonedDateTime.of(2026, 10, 20, 10, 0, 0, 0,
+      ZoneOffset.UTC);
+
+  @Test
+  void testOverlaps() {
+    // Given
+    TimeSlotIntervalIndex index = TimeSlotIntervalIndex.of(List.of(TEN));
+
+    // Then
+    assertTrue(index.overlaps(TEN));
+    assertTrue(index.overlaps(TEN.plusMinutes(30)));
+    assertTrue(index.overlaps(TEN.minusMinutes(30)));
+    assertTrue(index.overlaps(TEN.withZoneSameInstant(ZoneOffset.ofHours(3))));
+    assertFalse(index.overlaps(TEN.plusHours(1)));
+    assertFalse(index.overlaps(TEN.minusHours(1)));
+  }
+
+  @Test
+  void testAdd_RejectsOverlappingSlots() {
+    // Given
+    TimeSlotIntervalIndex index = new TimeSlotIntervalIndex();
+
+    // When
+    boolean first = index.add(TEN);
+    boolean adjacent = index.add(TEN.plusHours(1));
+
+    // Then
+    assertTrue(first);
+    assertTrue(adjacent);
+    assertFalse(index.add(TEN));
+    assertFalse(index.add(TEN.plusMinutes(15)));
+    assertTrue(index.overlaps(TEN.plusMinutes(90)));
+    assertFalse(index.overlaps(TEN.plusHours(2)));
+  }
+}
@@ -0,0 +1,143 @@
+package com.ratifire.devrate.service.interview.matching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ratifire.devrate.dto.PairedParticipantDto;
+import com.ratifire.devrate.dto.ParticipantRequestDto;
+import com.ratifire.devrate.enums.InterviewRequestRole;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link MatchingIndex} class.
+ */
+class MatchingIndexTest {
+
+  private static final ZonedDateTime MONDAY = ZonedDateTime.of(2026, 10, 19, 10, 0, 0, 0,
+      ZoneOffset.UTC);
+  private static final ZonedDateTime TUESDAY = MONDAY.plusDays(1);
+
+  private MatchingIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new MatchingIndex();
+  }
+
+  @Test
+  void testAdd_PairsWithClosestStrongerInterviewer() {
+    // Given
+    index.add(request(1, 10L, InterviewRequestRole.INTERVIEWER, 2, Set.of(), MONDAY));
+    index.add(request(2, 20L, InterviewRequestRole.INTERVIEWER, 5, Set.of(), MONDAY));
+    index.add(request(3, 30L, InterviewRequestRole.INTERVIEWER, 3, Set.of(), MONDAY));
+
+    // When
+    List<PairedParticipantDto> pairs = index.add(
+        request(4, 40L, InterviewRequestRole.CANDIDATE, 3, Set.of(), MONDAY));
+
+    // Then
+    assertEquals(1, pairs.size());
+    assertEquals(30L, pairs.getFirst().getInterviewerId());
+    assertEquals(3L, pairs.getFirst().getInterviewerParticipantId());
+    assertEquals(40L, pairs.getFirst().getCandidateId());
+    assertEquals(MONDAY, pairs.getFirst().getDate());
+    assertFalse(index.contains(3));
+    assertFalse(index.contains(4));
+    assertEquals(2, index.size());
+  }
+
+  @Test
+  void testAdd_SkipsBlacklistedParticipants() {
+    // Given
+    index.add(request(1, 10L, InterviewRequestRole.INTERVIEWER, 4, Set.of(20), MONDAY));
+
+    // When
+    List<PairedParticipantDto> pairs = index.add(
+        request(2, 20L, InterviewRequestRole.CANDIDATE, 3, Set.of(), MONDAY));
+
+    // Then
+    assertTrue(pairs.isEmpty());
+    assertEquals(2, index.size());
+  }
+
+  @Test
+  void testAdd_KeepsUnmatchedDates() {
+    // Given
+    index.add(request(1, 10L, InterviewRequestRole.INTERVIEWER, 4, Set.of(), MONDAY, TUESDAY));
+
+    // When
+    index.add(request(2, 20L, InterviewRequestRole.CANDIDATE, 3, Set.of(), MONDAY));
+    List<PairedParticipantDto> pairs = index.add(
+        request(3, 30L, InterviewRequestRole.CANDIDATE, 3, Set.of(), MONDAY, TUESDAY));
+
+    // Then
+    assertEquals(1, pairs.size());
+    assertEquals(TUESDAY, pairs.getFirst().getDate());
+    assertFalse(index.contains(1));
+    assertTrue(index.contains(3));
+  }
+
+  @Test
+  void testRemove() {
+    // Given
+    index.add(request(1, 10L, InterviewRequestRole.INTERVIEWER, 4, Set.of(), MONDAY));
+
+    // When
+    index.remove(1);
+    List<PairedParticipantDto> pairs = index.add(
+        request(2, 20L, InterviewRequestRole.CANDIDATE, 3, Set.of(), MONDAY));
+
+    // Then
+    assertTrue(pairs.isEmpty());
+    assertEquals(1, index.size());
+  }
+
+  @Test
+  void testRelease_FreesDateOfFailedPair() {
+    // Given
+    index.add(request(1, 10L, InterviewRequestRole.INTERVIEWER, 4, Set.of(), MONDAY));
+    index.add(request(2, 10L, InterviewRequestRole.INTERVIEWER, 4, Set.of(), MONDAY));
+    PairedParticipantDto failed = index.add(
+        request(3, 30L, InterviewRequestRole.CANDIDATE, 3, Set.of(), MONDAY)).getFirst();
+    assertTrue(index.add(
+        request(4, 40L, InterviewRequestRole.CANDIDATE, 3, Set.of(), MONDAY)).isEmpty());
+
+    // When
+    index.release(failed);
+    List<PairedParticipantDto> pairs = index.add(
+        request(4, 40L, InterviewRequestRole.CANDIDATE, 3, Set.of(), MONDAY));
+
+    // Then
+    assertEquals(1, pairs.size());
+    assertEquals(10L, pairs.getFirst().getInterviewerId());
+    assertEquals(40L, pairs.getFirst().getCandidateId());
+    assertEquals(0, index.size());
+  }
+
+  private ParticipantRequestDto request(int id, long participantId, InterviewRequestRole role,
+      int level, Set<Integer> blackList, ZonedDateTime... dates) {
+    return ParticipantRequestDto.builder()
+        .id(id)
+        .participantId(participantId)
+        .desiredInterview(dates.length)
+        .role(role)
+        .specialization("Java")
+        .masteryLevel(level)
+        .hardSkills(Set.of("Spring"))
+        .softSkills(Set.of())
+        .dates(Arrays.stream(dates)
+            .map(date -> Date.from(date.toInstant()))
+            .collect(Collectors.toSet()))
+        .blackList(blackList)
+        .build();
+  }
+}
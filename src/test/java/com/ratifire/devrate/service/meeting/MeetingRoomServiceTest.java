@@ -0,0 +1,118 @@
+package com.ratifire.devrate.service.meeting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ratifire.devrate.entity.Event;
+import com.ratifire.devrate.entity.MeetingRoom;
+import com.ratifire.devrate.repository.MeetingRoomRepository;
+import com.ratifire.devrate.repository.interview.InterviewRepository;
+import com.ratifire.devrate.service.MeetingService;
+import com.ratifire.devrate.service.snspublisher.SnsPublisherService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for the {@link MeetingRoomService} class.
+ */
+class MeetingRoomServiceTest {
+
+  private static final ZonedDateTime START_TIME = ZonedDateTime.of(2026, 10, 20, 10, 0, 0, 0,
+      ZoneOffset.UTC);
+
+  private MeetingService meetingService;
+  private MeetingRoomRepository meetingRoomRepository;
+  private InterviewRepository interviewRepository;
+  private SnsPublisherService snsPublisherService;
+  private MeetingRoomService meetingRoomService;
+
+  @BeforeEach
+  void setUp() {
+    meetingService = mock(MeetingService.class);
+    meetingRoomRepository = mock(MeetingRoomRepository.class);
+    interviewRepository = mock(InterviewRepository.class);
+    snsPublisherService = mock(SnsPublisherService.class);
+    TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    when(transactionTemplate.execute(any())).thenAnswer(
+        invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    meetingRoomService = new MeetingRoomService(meetingService, meetingRoomRepository,
+        interviewRepository, snsPublisherService, transactionTemplate, new SimpleMeterRegistry(),
+        "eu-north-1", "videos");
+  }
+
+  @Test
+  void testJoin_UsesProvisionedRoomAndStartsMeetingOnce() {
+    // Given
+    when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(room("room-1")));
+    when(meetingRoomRepository.markStarted(eq(1L), any(ZonedDateTime.class))).thenReturn(1, 0);
+
+    // When
+    String first = meetingRoomService.join(1L, START_TIME);
+    String second = meetingRoomService.join(1L, START_TIME);
+
+    // Then
+    assertEquals("room-1", first);
+    assertEquals("room-1", second);
+    verify(meetingService, never()).createMeeting();
+    verify(snsPublisherService, times(1)).publishMeetingStarting("room-1", "file.mp4");
+  }
+
+  @Test
+  void testJoin_KeepsRoomStoredByConcurrentJoin() {
+    // Given
+    when(meetingService.createMeeting()).thenReturn("room-2");
+    when(meetingRoomRepository.findById(1L))
+        .thenReturn(Optional.empty(), Optional.of(room("room-1")));
+    when(meetingRoomRepository.insertIfAbsent(eq(1L), eq("room-2"), anyString(),
+        any(ZonedDateTime.class))).thenReturn(0);
+
+    // When
+    String roomUrl = meetingRoomService.join(1L, START_TIME);
+
+    // Then
+    assertEquals("room-1", roomUrl);
+    verify(interviewRepository, never())
+        .updateInterviewsRoomUrlByEventId(anyLong(), anyString(), anyString());
+  }
+
+  @Test
+  void testProvision_CreatesRoomsInOneBatch() {
+    // Given
+    when(meetingService.createMeetings(1)).thenReturn(List.of("room-1"));
+    when(meetingRoomRepository.insertIfAbsent(eq(1L), eq("room-1"), anyString(),
+        any(ZonedDateTime.class))).thenReturn(1);
+    when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(room("room-1")));
+    Event event = Event.builder().id(1L).startTime(START_TIME).build();
+
+    // When
+    meetingRoomService.provision(List.of(event));
+
+    // Then
+    verify(interviewRepository).updateInterviewsRoomUrlByEventId(eq(1L), eq("room-1"),
+        anyString());
+    verify(snsPublisherService, never()).publishMeetingStarting(anyString(), anyString());
+  }
+
+  private MeetingRoom room(String roomUrl) {
+    return MeetingRoom.builder()
+        .eventId(1L)
+        .roomUrl(roomUrl)
+        .videoFileName("file.mp4")
+        .build();
+  }
+}
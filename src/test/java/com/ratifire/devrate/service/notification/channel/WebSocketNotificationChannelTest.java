@@ -0,0 +1,94 @@
+package com.ratifire.devrate.service.notification.channel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import com.ratifire.devrate.dto.NotificationDto;
+import com.ratifire.devrate.entity.notification.outbox.NotificationOutboxMessage;
+import com.ratifire.devrate.enums.NotificationType;
+import com.ratifire.devrate.util.JsonConverter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * Unit tests for the {@link WebSocketNotificationChannel} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class WebSocketNotificationChannelTest {
+
+  @Mock
+  private SimpMessagingTemplate simpMessagingTemplate;
+
+  @InjectMocks
+  private WebSocketNotificationChannel webSocketNotificationChannel;
+
+  @Captor
+  private ArgumentCaptor<NotificationDto> dtoCaptor;
+
+  @Test
+  void testDeliver_SendsQueuedNotificationToRecipientTopic() {
+    // Given
+    NotificationDto notification = NotificationDto.builder()
+        .id(5L)
+        .type(NotificationType.INTERVIEW_SCHEDULED)
+        .payload("{\"interviewId\":3}")
+        .createdAt(LocalDateTime.of(2026, 10, 18, 12, 0))
+        .build();
+
+    // When
+    Map<Long, String> errors = webSocketNotificationChannel.deliver(
+        List.of(createMessage(1L, 7L, JsonConverter.serialize(notification))));
+
+    // Then
+    assertTrue(errors.isEmpty());
+    verify(simpMessagingTemplate).convertAndSend(
+        eq("/topic/notifications/7"), dtoCaptor.capture());
+    NotificationDto sent = dtoCaptor.getValue();
+    assertEquals(5L, sent.getId());
+    assertEquals(NotificationType.INTERVIEW_SCHEDULED, sent.getType());
+    assertEquals("{\"interviewId\":3}", sent.getPayload());
+    assertEquals(notification.getCreatedAt(), sent.getCreatedAt());
+  }
+
+  @Test
+  void testDeliver_ReportsFailedMessagesOnly() {
+    // Given
+    String body = JsonConverter.serialize(NotificationDto.builder()
+        .type(NotificationType.GREETING)
+        .build());
+    doThrow(new MessageDeliveryException("Broker unavailable"))
+        .when(simpMessagingTemplate).convertAndSend(
+            eq("/topic/notifications/8"), any(Object.class));
+
+    // When
+    Map<Long, String> errors = webSocketNotificationChannel.deliver(
+        List.of(createMessage(1L, 7L, body), createMessage(2L, 8L, body)));
+
+    // Then
+    assertEquals(Map.of(2L, "Broker unavailable"), errors);
+    verify(simpMessagingTemplate).convertAndSend(
+        eq("/topic/notifications/7"), any(Object.class));
+  }
+
+  private NotificationOutboxMessage createMessage(long id, long recipientId, String body) {
+    return NotificationOutboxMessage.builder()
+        .id(id)
+        .recipientId(recipientId)
+        .body(body)
+        .build();
+  }
+}
@@ -0,0 +1,104 @@
+package com.ratifire.devrate.service.notification.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import com.ratifire.devrate.configuration.NotificationDispatchProperties;
+import com.ratifire.devrate.entity.notification.outbox.NotificationDeadLetter;
+import com.ratifire.devrate.entity.notification.outbox.NotificationOutboxMessage;
+import com.ratifire.devrate.enums.NotificationOutboxStatus;
+import com.ratifire.devrate.repository.NotificationDeadLetterRepository;
+import com.ratifire.devrate.repository.NotificationOutboxRepository;
+import com.ratifire.devrate.service.notification.NotificationChannelType;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for the {@link NotificationOutbox} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxTest {
+
+  @Mock
+  private NotificationOutboxRepository outboxRepository;
+
+  @Mock
+  private NotificationDeadLetterRepository deadLetterRepository;
+
+  @Captor
+  private ArgumentCaptor<List<NotificationOutboxMessage>> messagesCaptor;
+
+  @Captor
+  private ArgumentCaptor<List<NotificationDeadLetter>> deadLettersCaptor;
+
+  private NotificationOutbox notificationOutbox;
+
+  @BeforeEach
+  void setUp() {
+    NotificationDispatchProperties properties = new NotificationDispatchProperties();
+    properties.getChannel(NotificationChannelType.EMAIL).setMaxAttempts(3);
+    notificationOutbox = new NotificationOutbox(outboxRepository, deadLetterRepository,
+        properties);
+  }
+
+  @Test
+  void testFail_ReschedulesMessageWithAttemptsLeft() {
+    // Given
+    NotificationOutboxMessage message = createMessage(1L, 1);
+    ZonedDateTime before = ZonedDateTime.now(ZoneOffset.UTC);
+
+    // When
+    int dead = notificationOutbox.fail(List.of(message), Map.of(1L, "Connection refused"));
+
+    // Then
+    assertTrue(message.getNextAttemptAt().isAfter(before));
+    assertEquals(0, dead);
+    assertEquals(2, message.getAttempts());
+    assertEquals(NotificationOutboxStatus.PENDING, message.getStatus());
+    assertEquals("Connection refused", message.getLastError());
+    verify(outboxRepository).saveAll(messagesCaptor.capture());
+    assertEquals(List.of(message), messagesCaptor.getValue());
+  }
+
+  @Test
+  void testFail_MovesExhaustedMessageToDeadLetters() {
+    // Given
+    NotificationOutboxMessage message = createMessage(1L, 2);
+
+    // When
+    int dead = notificationOutbox.fail(List.of(message), Map.of(1L, "Mailbox unavailable"));
+
+    // Then
+    assertEquals(1, dead);
+    verify(deadLetterRepository).saveAll(deadLettersCaptor.capture());
+    NotificationDeadLetter deadLetter = deadLettersCaptor.getValue().getFirst();
+    assertEquals(3, deadLetter.getAttempts());
+    assertEquals("Mailbox unavailable", deadLetter.getLastError());
+    assertEquals("user@example.com", deadLetter.getRecipientAddress());
+    verify(outboxRepository).deleteAllInBatch(List.of(message));
+  }
+
+  private NotificationOutboxMessage createMessage(long id, int attempts) {
+    return NotificationOutboxMessage.builder()
+        .id(id)
+        .channel(NotificationChannelType.EMAIL)
+        .status(NotificationOutboxStatus.PROCESSING)
+        .recipientAddress("user@example.com")
+        .subject("Subject")
+        .body("<p>Body</p>")
+        .attempts(attempts)
+        .nextAttemptAt(ZonedDateTime.now(ZoneOffset.UTC))
+        .createdAt(ZonedDateTime.now(ZoneOffset.UTC))
+        .build();
+  }
+}
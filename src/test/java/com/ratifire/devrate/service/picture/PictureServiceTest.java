@@ -0,0 +1,100 @@
+package com.ratifire.devrate.service.picture;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ratifire.devrate.enums.PictureSize;
+import com.ratifire.devrate.exception.InvalidPictureException;
+import com.ratifire.devrate.service.picture.model.StoredPicture;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Base64;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+
+/**
+ * Unit tests for the {@link PictureService} class.
+ */
+class PictureServiceTest {
+
+  private static final long USER_ID = 1L;
+
+  @TempDir
+  Path storagePath;
+
+  private PictureService pictureService;
+
+  @BeforeEach
+  void setUp() {
+    pictureService = new PictureService(
+        new LocalFileSystemPictureStorage(storagePath.toString()), 1024 * 1024);
+  }
+
+  @Test
+  void testDecode_DataUrl() throws IOException {
+    // Given
+    byte[] content = createPng(10, 10);
+    String dataUrl = "data:image/png;base64," + Base64.getEncoder().encodeToString(content);
+
+    // When
+    byte[] decoded = pictureService.decode(dataUrl);
+
+    // Then
+    assertArrayEquals(content, decoded);
+  }
+
+  @Test
+  void testStore_UnsupportedFormat() {
+    // When & Then
+    assertThrows(InvalidPictureException.class,
+        () -> pictureService.store(USER_ID, "not an image".getBytes()));
+  }
+
+  @Test
+  void testLoad_ResizesVariant() throws IOException {
+    // Given
+    String key = pictureService.store(USER_ID, createPng(1024, 512));
+
+    // When
+    StoredPicture picture = pictureService.load(key, PictureSize.SMALL).orElseThrow();
+
+    // Then
+    assertEquals(MediaType.IMAGE_PNG, picture.getMediaType());
+    try (InputStream inputStream = picture.getResource().getInputStream()) {
+      BufferedImage image = ImageIO.read(inputStream);
+      assertEquals(PictureSize.SMALL.getWidth(), image.getWidth());
+      assertEquals(PictureSize.SMALL.getWidth() / 2, image.getHeight());
+    }
+    assertNotEquals(pictureService.load(key, PictureSize.ORIGINAL).orElseThrow().getEtag(),
+        picture.getEtag());
+  }
+
+  @Test
+  void testDelete_RemovesVariants() throws IOException {
+    // Given
+    String key = pictureService.store(USER_ID, createPng(300, 300));
+    pictureService.load(key, PictureSize.MEDIUM);
+
+    // When
+    pictureService.delete(key);
+
+    // Then
+    assertTrue(pictureService.load(key, PictureSize.ORIGINAL).isEmpty());
+  }
+
+  private byte[] createPng(int width, int height) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png",
+        outputStream);
+    return outputStream.toByteArray();
+  }
+}
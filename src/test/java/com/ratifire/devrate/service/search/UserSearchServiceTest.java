@@ -0,0 +1,100 @@
+package com.ratifire.devrate.service.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ratifire.devrate.dto.UserSearchPageDto;
+import com.ratifire.devrate.dto.projection.UserSearchProjection;
+import com.ratifire.devrate.exception.UserSearchInvalidInputException;
+import com.ratifire.devrate.repository.UserSearchDocumentRepository;
+import com.ratifire.devrate.service.picture.PictureService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link UserSearchService} class.
+ */
+class UserSearchServiceTest {
+
+  private UserSearchDocumentRepository repository;
+  private PictureService pictureService;
+  private UserSearchService userSearchService;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(UserSearchDocumentRepository.class);
+    pictureService = mock(PictureService.class);
+    userSearchService = new UserSearchService(repository, pictureService,
+        new SimpleMeterRegistry(), 4, 10, Duration.ofMinutes(1));
+  }
+
+  @Test
+  void testToPrefixQuery() {
+    assertEquals("ivan:* & o:* & neil:*",
+        UserSearchService.toPrefixQuery(UserSearchService.normalize("  Ivan   O'Neil ")));
+  }
+
+  @Test
+  void testSearch_ReturnsNextCursor() {
+    // Given
+    UserSearchProjection first = row(1L, "1.500000");
+    UserSearchProjection second = row(2L, "1.250000");
+    when(repository.search(eq("iv"), eq("iv:*"), any(BigDecimal.class), eq(0L), eq(2)))
+        .thenReturn(List.of(first, second));
+
+    // When
+    UserSearchPageDto page = userSearchService.search("Iv", null, 1);
+
+    // Then
+    assertEquals(1, page.getContent().size());
+    assertEquals(1L, page.getContent().getFirst().getId());
+    assertEquals("1.500000_1", page.getNextCursor());
+  }
+
+  @Test
+  void testSearch_CachesFirstPageOfShortQueries() {
+    // Given
+    when(repository.search(anyString(), anyString(), any(BigDecimal.class), anyLong(), anyInt()))
+        .thenReturn(List.of(row(1L, "1.000000")));
+
+    // When
+    UserSearchPageDto first = userSearchService.search("iva", null, 10);
+    UserSearchPageDto second = userSearchService.search("IVA ", null, 10);
+    userSearchService.search("ivanov", null, 10);
+    userSearchService.search("ivanov", null, 10);
+
+    // Then
+    assertSame(first, second);
+    assertNull(first.getNextCursor());
+    verify(repository, times(3))
+        .search(anyString(), anyString(), any(BigDecimal.class), anyLong(), anyInt());
+  }
+
+  @Test
+  void testSearch_MalformedCursor() {
+    assertThrows(UserSearchInvalidInputException.class,
+        () -> userSearchService.search("ivan", "broken", 10));
+  }
+
+  private UserSearchProjection row(long id, String rank) {
+    UserSearchProjection row = mock(UserSearchProjection.class);
+    when(row.getId()).thenReturn(id);
+    when(row.getRank()).thenReturn(new BigDecimal(rank));
+    return row;
+  }
+}
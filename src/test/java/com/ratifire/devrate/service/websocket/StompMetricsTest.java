@@ -0,0 +1,78 @@
+package com.ratifire.devrate.service.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * Unit tests for the {@link StompMetrics} class.
+ */
+class StompMetricsTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private StompMetrics stompMetrics;
+  private MessageChannel channel;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    stompMetrics = new StompMetrics(meterRegistry);
+    channel = mock(MessageChannel.class);
+  }
+
+  @Test
+  void testToGroup_RemovesNumericSegments() {
+    assertEquals("/topic/messages", StompMetrics.toGroup("/topic/messages/15"));
+    assertEquals("/user/queue/x", StompMetrics.toGroup("/user/42/queue/x"));
+    assertEquals("unknown", StompMetrics.toGroup(null));
+  }
+
+  @Test
+  void testClientOutboundInterceptor_CountsDeliveredMessages() {
+    // Given
+    ChannelInterceptor interceptor = stompMetrics.clientOutboundInterceptor();
+
+    // When
+    interceptor.preSend(frame(SimpMessageType.MESSAGE, "s1", "/topic/messages/1"), channel);
+    interceptor.preSend(frame(SimpMessageType.MESSAGE, "s1", "/topic/messages/2"), channel);
+
+    // Then
+    assertEquals(2, meterRegistry.get("websocket.stomp.messages")
+        .tag("destination", "/topic/messages")
+        .tag("direction", "delivered")
+        .counter().count());
+  }
+
+  @Test
+  void testClientInboundInterceptor_TracksSubscribers() {
+    // Given
+    ChannelInterceptor interceptor = stompMetrics.clientInboundInterceptor();
+    interceptor.preSend(frame(SimpMessageType.SUBSCRIBE, "s1", "/topic/messages/1"), channel);
+    interceptor.preSend(frame(SimpMessageType.SUBSCRIBE, "s2", "/topic/messages/2"), channel);
+
+    // When
+    interceptor.preSend(frame(SimpMessageType.DISCONNECT, "s1", null), channel);
+
+    // Then
+    assertEquals(1, meterRegistry.get("websocket.stomp.subscribers")
+        .tag("destination", "/topic/messages")
+        .gauge().value());
+  }
+
+  private Message<byte[]> frame(SimpMessageType type, String sessionId, String destination) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+    accessor.setSessionId(sessionId);
+    accessor.setSubscriptionId("sub-0");
+    accessor.setDestination(destination);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}
@@ -0,0 +1,75 @@
+package com.ratifire.devrate.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link JsonConverter} class.
+ */
+class JsonConverterTest {
+
+  @Test
+  void testSerialize_WritesDatesAsIsoStrings() {
+    // Given
+    ZonedDateTime date = ZonedDateTime.parse("2026-10-18T10:15:30Z");
+
+    // When
+    String json = JsonConverter.serialize(Map.of("date", date));
+
+    // Then
+    assertEquals("{\"date\":\"2026-10-18T10:15:30Z\"}", json);
+  }
+
+  @Test
+  void testSerializeToStream_RoundTripsDates() {
+    // Given
+    ZonedDateTime date = ZonedDateTime.parse("2026-10-18T10:15:30Z");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    JsonConverter.serialize(Map.of("date", date), outputStream);
+    Map<String, ZonedDateTime> result = JsonConverter.deserialize(
+        new ByteArrayInputStream(outputStream.toByteArray()), new TypeReference<>() {});
+
+    // Then
+    assertTrue(date.isEqual(result.get("date")));
+  }
+
+  @Test
+  void testSerializeToBytes_MatchesStringSerialization() {
+    // Given
+    List<String> value = List.of("a", "ü");
+
+    // When
+    byte[] bytes = JsonConverter.serializeToBytes(value);
+
+    // Then
+    assertArrayEquals(JsonConverter.serialize(value).getBytes(StandardCharsets.UTF_8), bytes);
+  }
+
+  @Test
+  void testStreams_RoundTripWithoutClosingStreams() {
+    // Given
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    JsonConverter.serialize(List.of("first", "second"), outputStream);
+    outputStream.write('\n');
+    List<String> result = JsonConverter.deserialize(
+        new ByteArrayInputStream(outputStream.toByteArray()), new TypeReference<>() {});
+
+    // Then
+    assertEquals(List.of("first", "second"), result);
+    assertTrue(outputStream.toString(StandardCharsets.UTF_8).endsWith("\n"));
+  }
+}